@@ -45,6 +45,8 @@ public class ClustersProperties {
 
   AdminClient adminClient = new AdminClient();
 
+  ScrapeProperties scrape = new ScrapeProperties();
+
   Csv csv = new Csv();
 
   Boolean messageRelativeTimestamp;
@@ -57,6 +59,15 @@ public class ClustersProperties {
     char fieldSeparator = ',';
   }
 
+  @Data
+  public static class ScrapeProperties {
+    // if disabled, full cluster state is scraped on every statistics update
+    boolean incremental = false;
+    Duration fullScrapeInterval = Duration.ofMinutes(10);
+    Duration logDirsRefreshInterval = Duration.ofMinutes(5);
+    Duration consumerGroupsRefreshInterval = Duration.ofMinutes(2);
+  }
+
   @Data
   public static class AdminClient {
     Integer timeout;
@@ -81,6 +92,8 @@ public class ClustersProperties {
     SchemaRegistryAuth schemaRegistryAuth;
     KeystoreConfig schemaRegistrySsl;
     String schemaRegistryTopicSubjectSuffix = "-value";
+    // registry's storage topic (usually "_schemas"), when set schemas catalogue is kept in sync by tailing it
+    String schemaRegistrySchemasTopic;
 
     String ksqldbServer;
     KsqldbServerAuth ksqldbServerAuth;
@@ -99,6 +112,7 @@ public class ClustersProperties {
     boolean readOnly = false;
 
     Long pollingThrottleRate;
+    Integer pollingParallelism;
 
     List<@Valid Masking> masking;
 
@@ -111,6 +125,17 @@ public class ClustersProperties {
     Integer maxPageSize;
     Integer defaultPageSize;
     Integer responseTimeoutMs;
+    Integer parallelism;
+    ConsumerPoolProperties consumerPool = new ConsumerPoolProperties();
+  }
+
+  @Data
+  public static class ConsumerPoolProperties {
+    boolean enabled = true;
+    int maxTotal = 16;
+    int maxIdlePerKey = 4;
+    Duration idleTimeout = Duration.ofMinutes(5);
+    Duration evictionInterval = Duration.ofMinutes(1);
   }
 
   @Data
@@ -126,6 +151,27 @@ public class ClustersProperties {
 
     Boolean prometheusExpose;
     MetricsStorage store;
+    JmxFilterConfig jmxFilter;
+    MetricsFilterConfig filter;
+  }
+
+  @Data
+  public static class MetricsFilterConfig {
+    // regex patterns, matched against scraped metric family names
+    List<String> includeFamilies;
+    List<String> excludeFamilies;
+    // broker's families that don't fit into the limit are dropped
+    Integer maxSeriesPerBroker;
+  }
+
+  @Data
+  public static class JmxFilterConfig {
+    // ObjectName patterns, "kafka.server*:*" is used if not set
+    List<String> includeObjectNames;
+    List<String> excludeObjectNames;
+    // all readable attributes are scraped if not set
+    List<String> includeAttributes;
+    List<String> excludeAttributes;
   }
 
   @Data
@@ -16,6 +16,7 @@ import io.kafbat.ui.model.ConsumerGroupOrderingDTO;
 import io.kafbat.ui.model.ConsumerGroupStateDTO;
 import io.kafbat.ui.model.ConsumerGroupsLagResponseDTO;
 import io.kafbat.ui.model.ConsumerGroupsPageResponseDTO;
+import io.kafbat.ui.model.InternalTopicConsumerGroup;
 import io.kafbat.ui.model.PartitionOffsetDTO;
 import io.kafbat.ui.model.SortOrderDTO;
 import io.kafbat.ui.model.rbac.AccessContext;
@@ -123,9 +124,7 @@ public class ConsumerGroupsController extends AbstractController implements Cons
                 TRUE.equals(includePartitions),
                 Optional.ofNullable(lastUpdate)
             ).flatMap(t ->
-                Flux.fromIterable(t.getT1().entrySet())
-                    .filterWhen(cg -> accessControlService.isConsumerGroupAccessible(cg.getKey(), clusterName))
-                    .collectList()
+                accessControlService.filterViewableConsumerGroups(t.getT1().entrySet(), Map.Entry::getKey, clusterName)
                     .map(l -> l.stream().collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)))
                     .map(l -> Tuples.of(t.getT2(), l))
             )
@@ -154,11 +153,9 @@ public class ConsumerGroupsController extends AbstractController implements Cons
 
     Mono<ResponseEntity<Flux<ConsumerGroupDTO>>> job =
         consumerGroupService.getConsumerGroupsForTopic(getCluster(clusterName), topicName)
-            .flatMapMany(Flux::fromIterable)
-            .filterWhen(cg -> accessControlService.isConsumerGroupAccessible(cg.getGroupId(), clusterName))
-            .map(ConsumerGroupMapper::toDto)
-            .collectList()
-            .map(Flux::fromIterable)
+            .flatMap(groups -> accessControlService.filterViewableConsumerGroups(
+                groups, InternalTopicConsumerGroup::getGroupId, clusterName))
+            .map(groups -> Flux.fromIterable(groups).map(ConsumerGroupMapper::toDto))
             .map(ResponseEntity::ok)
             .switchIfEmpty(Mono.just(ResponseEntity.notFound().build()));
 
@@ -140,6 +140,7 @@ public class KafkaConnectController extends AbstractController implements KafkaC
       ConnectorColumnsToSortDTO orderBy,
       SortOrderDTO sortOrder,
       Boolean fts,
+      Boolean fresh,
       ServerWebExchange exchange
   ) {
     var context = AccessContext.builder()
@@ -153,8 +154,12 @@ public class KafkaConnectController extends AbstractController implements KafkaC
         ? maybeComparator
         : maybeComparator.map(Comparator::reversed);
 
-    Flux<FullConnectorInfoDTO> connectors = kafkaConnectService.getAllConnectors(getCluster(clusterName), search, fts)
-        .filterWhen(dto -> accessControlService.isConnectorAccessible(dto.getConnect(), dto.getName(), clusterName));
+    Flux<FullConnectorInfoDTO> connectors = kafkaConnectService
+        .getAllConnectors(getCluster(clusterName), search, fts, Boolean.TRUE.equals(fresh))
+        .collectList()
+        .flatMap(list -> accessControlService.filterViewableConnectors(
+            list, FullConnectorInfoDTO::getConnect, FullConnectorInfoDTO::getName, clusterName))
+        .flatMapIterable(list -> list);
 
     Flux<FullConnectorInfoDTO> sorted = comparator.map(connectors::sort).orElse(connectors);
 
@@ -166,8 +171,9 @@ public class KafkaConnectController extends AbstractController implements KafkaC
   public Mono<ResponseEntity<String>> getAllConnectorsCsv(String clusterName, String search,
                                                           ConnectorColumnsToSortDTO orderBy,
                                                           SortOrderDTO sortOrder, Boolean fts,
+                                                          Boolean fresh,
                                                           ServerWebExchange exchange) {
-    return getAllConnectors(clusterName, search, orderBy, sortOrder, fts, exchange)
+    return getAllConnectors(clusterName, search, orderBy, sortOrder, fts, fresh, exchange)
         .flatMap(this::responseToCsv);
   }
 
@@ -18,6 +18,7 @@ import io.kafbat.ui.model.SeekTypeDTO;
 import io.kafbat.ui.model.SerdeUsageDTO;
 import io.kafbat.ui.model.SmartFilterTestExecutionDTO;
 import io.kafbat.ui.model.SmartFilterTestExecutionResultDTO;
+import io.kafbat.ui.model.TopicMessageDTO;
 import io.kafbat.ui.model.TopicMessageEventDTO;
 import io.kafbat.ui.model.TopicSerdeSuggestionDTO;
 import io.kafbat.ui.model.rbac.AccessContext;
@@ -29,9 +30,12 @@ import io.kafbat.ui.service.MessagesService;
 import io.kafbat.ui.service.mcp.McpTool;
 import java.util.List;
 import java.util.Optional;
+import javax.annotation.Nullable;
 import javax.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
@@ -138,6 +142,92 @@ public class MessagesController extends AbstractController implements MessagesAp
         .doOnEach(sig -> auditService.audit(accessContext, sig));
   }
 
+  @Override
+  public Mono<ResponseEntity<Flux<TopicMessageDTO>>> exportTopicMessages(String clusterName,
+                                                                        String topicName,
+                                                                        PollingModeDTO mode,
+                                                                        List<Integer> partitions,
+                                                                        Integer limit,
+                                                                        String stringFilter,
+                                                                        String smartFilterId,
+                                                                        Long offset,
+                                                                        Long timestamp,
+                                                                        String keySerde,
+                                                                        String valueSerde,
+                                                                        ServerWebExchange exchange) {
+    var accessContext = exportAccessContext(clusterName, topicName, "exportTopicMessages");
+    var messages = messagesService.exportMessages(
+        getCluster(clusterName),
+        topicName,
+        ConsumerPosition.create(exportPollingMode(mode), checkNotNull(topicName), partitions, timestamp, offset),
+        stringFilter,
+        smartFilterId,
+        limit,
+        keySerde,
+        valueSerde
+    );
+    return accessControlService.validateAccess(accessContext)
+        .then(Mono.just(exportResponse(topicName, "ndjson", messages)))
+        .doOnEach(sig -> auditService.audit(accessContext, sig));
+  }
+
+  @Override
+  public Mono<ResponseEntity<Flux<String>>> exportTopicMessagesCsv(String clusterName,
+                                                                  String topicName,
+                                                                  PollingModeDTO mode,
+                                                                  List<Integer> partitions,
+                                                                  Integer limit,
+                                                                  String stringFilter,
+                                                                  String smartFilterId,
+                                                                  Long offset,
+                                                                  Long timestamp,
+                                                                  String keySerde,
+                                                                  String valueSerde,
+                                                                  ServerWebExchange exchange) {
+    var accessContext = exportAccessContext(clusterName, topicName, "exportTopicMessagesCsv");
+    var messages = messagesService.exportMessages(
+        getCluster(clusterName),
+        topicName,
+        ConsumerPosition.create(exportPollingMode(mode), checkNotNull(topicName), partitions, timestamp, offset),
+        stringFilter,
+        smartFilterId,
+        limit,
+        keySerde,
+        valueSerde
+    );
+    var lines = csvWriterService.writeLines(messages, TopicMessageDTO.class);
+    return accessControlService.validateAccess(accessContext)
+        .then(Mono.just(exportResponse(topicName, "csv", lines)))
+        .doOnEach(sig -> auditService.audit(accessContext, sig));
+  }
+
+  private AccessContext exportAccessContext(String clusterName, String topicName, String operationName) {
+    var contextBuilder = AccessContext.builder()
+        .cluster(clusterName)
+        .operationName(operationName);
+
+    if (auditService.isAuditTopic(getCluster(clusterName), topicName)) {
+      contextBuilder.auditActions(AuditAction.VIEW);
+    } else {
+      contextBuilder.topicActions(topicName, MESSAGES_READ);
+    }
+    return contextBuilder.build();
+  }
+
+  private static PollingModeDTO exportPollingMode(@Nullable PollingModeDTO mode) {
+    return mode == null ? PollingModeDTO.EARLIEST : mode;
+  }
+
+  private static <T> ResponseEntity<Flux<T>> exportResponse(String topicName, String fileExtension, Flux<T> body) {
+    return ResponseEntity.ok()
+        .header(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment()
+                .filename(topicName + "." + fileExtension)
+                .build()
+                .toString())
+        .body(body);
+  }
+
   @Override
   public Mono<ResponseEntity<Void>> sendTopicMessages(
       String clusterName, String topicName, @Valid Mono<CreateTopicMessageDTO> createTopicMessage,
@@ -2,12 +2,12 @@ package io.kafbat.ui.controller;
 
 import io.kafbat.ui.api.PrometheusExposeApi;
 import io.kafbat.ui.model.KafkaCluster;
-import io.kafbat.ui.service.StatisticsCache;
+import io.kafbat.ui.service.metrics.prometheus.PrometheusExpositionCache;
 import io.kafbat.ui.service.metrics.prometheus.PrometheusMetricsExposer;
-import java.util.Map;
+import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ServerWebExchange;
@@ -17,28 +17,33 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class PrometheusExposeController extends AbstractController implements PrometheusExposeApi {
 
-  private final StatisticsCache statisticsCache;
+  private final PrometheusExpositionCache expositionCache;
 
   @Override
-  public Mono<ResponseEntity<String>> exposeAllMetrics(ServerWebExchange exchange) {
-    return Mono.just(
-        PrometheusMetricsExposer.exposeAllMetrics(
-            clustersStorage.getKafkaClusters()
-                .stream()
-                .filter(KafkaCluster::isExposeMetricsViaPrometheusEndpoint)
-                .collect(Collectors.toMap(KafkaCluster::getName, c -> statisticsCache.get(c).getMetrics()))
+  public Mono<ResponseEntity<Resource>> exposeAllMetrics(ServerWebExchange exchange) {
+    List<KafkaCluster> clusters = clustersStorage.getKafkaClusters()
+        .stream()
+        .filter(KafkaCluster::isExposeMetricsViaPrometheusEndpoint)
+        .toList();
+    return Mono.fromSupplier(() ->
+        PrometheusMetricsExposer.constructHttpResponse(
+            expositionCache.getCombinedExposition(clusters),
+            exchange.getRequest().getHeaders()
         )
     );
   }
 
   @Override
-  public Mono<ResponseEntity<String>> exposeClusterMetrics(String clusterName,
-                                                           ServerWebExchange exchange) {
+  public Mono<ResponseEntity<Resource>> exposeClusterMetrics(String clusterName,
+                                                             ServerWebExchange exchange) {
     Optional<KafkaCluster> cluster = clustersStorage.getClusterByName(clusterName);
     if (cluster.isPresent() && cluster.get().isExposeMetricsViaPrometheusEndpoint()) {
-      return Mono.just(PrometheusMetricsExposer.exposeAllMetrics(
-          Map.of(clusterName, statisticsCache.get(cluster.get()).getMetrics())
-      ));
+      return Mono.fromSupplier(() ->
+          PrometheusMetricsExposer.constructHttpResponse(
+              expositionCache.getClusterExposition(cluster.get()),
+              exchange.getRequest().getHeaders()
+          )
+      );
     } else {
       return Mono.just(ResponseEntity.notFound().build());
     }
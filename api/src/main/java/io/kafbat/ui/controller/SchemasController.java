@@ -228,9 +228,7 @@ public class SchemasController extends AbstractController implements SchemasApi,
 
     return schemaRegistryService
         .getAllSubjectNames(getCluster(clusterName))
-        .flatMapIterable(l -> l)
-        .filterWhen(schema -> accessControlService.isSchemaAccessible(schema, clusterName))
-        .collectList()
+        .flatMap(subjects -> accessControlService.filterViewableSchemas(subjects, clusterName))
         .flatMap(subjects -> {
           int pageSize = perPage != null && perPage > 0 ? perPage : DEFAULT_PAGE_SIZE;
           int subjectToSkip = ((pageNum != null && pageNum > 0 ? pageNum : 1) - 1) * pageSize;
@@ -17,11 +17,20 @@ abstract class AbstractEmitter implements java.util.function.Consumer<FluxSink<T
   }
 
   protected PolledRecords poll(FluxSink<TopicMessageEventDTO> sink, EnhancedConsumer consumer) {
-    var records = consumer.pollEnhanced(pollingSettings.getPollTimeout());
+    var records = poll(consumer);
     sendConsuming(sink, records);
     return records;
   }
 
+  // polls without sending consuming stats, can be called from any thread
+  protected PolledRecords poll(EnhancedConsumer consumer) {
+    return consumer.pollEnhanced(pollingSettings.getPollTimeout());
+  }
+
+  protected int pollingParallelism() {
+    return pollingSettings.getParallelism();
+  }
+
   protected boolean isSendLimitReached() {
     return messagesProcessing.limitReached();
   }
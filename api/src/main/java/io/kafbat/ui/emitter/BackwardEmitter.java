@@ -4,11 +4,13 @@ import io.kafbat.ui.model.ConsumerPosition;
 import io.kafbat.ui.model.TopicMessageDTO;
 import io.kafbat.ui.serdes.ConsumerRecordDeserializer;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import org.apache.kafka.common.TopicPartition;
 
 public class BackwardEmitter extends RangePollingEmitter {
@@ -26,7 +28,32 @@ public class BackwardEmitter extends RangePollingEmitter {
         messagesPerPage,
         new MessagesProcessing(deserializer, filter, false, messagesPerPage),
         pollingSettings,
-        cursor
+        cursor,
+        false
+    );
+  }
+
+  /**
+   * Creates unpaged emitter that sends up to {@code limit} messages (all messages in range if limit is null),
+   * polling them by pages of {@code messagesPerPage} size. Next page is polled only when downstream
+   * requested more messages, so emitter doesn't run ahead of a slow subscriber.
+   */
+  public BackwardEmitter(Supplier<EnhancedConsumer> consumerSupplier,
+                         ConsumerPosition consumerPosition,
+                         int messagesPerPage,
+                         @Nullable Integer limit,
+                         ConsumerRecordDeserializer deserializer,
+                         Predicate<TopicMessageDTO> filter,
+                         PollingSettings pollingSettings,
+                         Cursor.Tracking cursor) {
+    super(
+        consumerSupplier,
+        consumerPosition,
+        messagesPerPage,
+        new MessagesProcessing(deserializer, filter, false, limit),
+        pollingSettings,
+        cursor,
+        true
     );
   }
 
@@ -44,14 +71,19 @@ public class BackwardEmitter extends RangePollingEmitter {
       );
     }
 
-    int msgsToPollPerPartition = Math.max(1, (int) Math.ceil((double) messagesPerPage / readToOffsets.size()));
-    TreeMap<TopicPartition, FromToOffset> result = new TreeMap<>(Comparator.comparingInt(TopicPartition::partition));
+    Map<TopicPartition, Long> availableOffsets = new HashMap<>();
     readToOffsets.forEach((tp, toOffset) -> {
       long tpStartOffset = seekOperations.getBeginOffsets().get(tp);
       if (toOffset > tpStartOffset) {
-        result.put(tp, new FromToOffset(Math.max(tpStartOffset, toOffset - msgsToPollPerPartition), toOffset));
+        availableOffsets.put(tp, toOffset - tpStartOffset);
       }
     });
+
+    TreeMap<TopicPartition, FromToOffset> result = new TreeMap<>(Comparator.comparingInt(TopicPartition::partition));
+    rangePlanner.offsetsToPoll(availableOffsets).forEach((tp, offsetsToPoll) -> {
+      long toOffset = readToOffsets.get(tp);
+      result.put(tp, new FromToOffset(toOffset - offsetsToPoll, toOffset));
+    });
     return result;
   }
 }
@@ -0,0 +1,49 @@
+package io.kafbat.ui.emitter;
+
+import java.time.Duration;
+import org.apache.kafka.common.errors.InterruptException;
+import reactor.core.publisher.FluxSink;
+
+/**
+ * Blocks emitter's thread until downstream requests more events. Used by unpaged emitters (messages export):
+ * sink buffers all events that were not requested yet, so without waiting for demand the whole range
+ * would be polled into memory when client reads slower than Kafka is polled.
+ * Waiting thread is woken up by sink's request and cancel signals.
+ */
+class DemandGate {
+
+  // client that stopped reading should not hold consumer and polling thread forever
+  private static final Duration MAX_WAIT = Duration.ofMinutes(5);
+
+  private final FluxSink<?> sink;
+  private final Object monitor = new Object();
+
+  DemandGate(FluxSink<?> sink) {
+    this.sink = sink;
+    sink.onRequest(n -> signal());
+    sink.onCancel(this::signal);
+  }
+
+  void await() {
+    long deadline = System.nanoTime() + MAX_WAIT.toNanos();
+    synchronized (monitor) {
+      while (!sink.isCancelled() && sink.requestedFromDownstream() <= 0) {
+        long waitNanos = deadline - System.nanoTime();
+        if (waitNanos <= 0) {
+          throw new IllegalStateException("No demand from downstream for " + MAX_WAIT + ", stopping polling");
+        }
+        try {
+          monitor.wait(Math.max(1, waitNanos / 1_000_000));
+        } catch (InterruptedException e) {
+          throw new InterruptException(e);
+        }
+      }
+    }
+  }
+
+  private void signal() {
+    synchronized (monitor) {
+      monitor.notifyAll();
+    }
+  }
+}
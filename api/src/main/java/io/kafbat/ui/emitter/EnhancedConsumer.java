@@ -7,8 +7,10 @@ import java.time.Duration;
 import java.util.Collection;
 import java.util.Properties;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
@@ -19,10 +21,17 @@ import org.apache.kafka.common.utils.Bytes;
 
 public class EnhancedConsumer extends KafkaConsumer<Bytes, Bytes> {
 
+  // same as KafkaConsumer's default close timeout
+  private static final Duration DEFAULT_CLOSE_TIMEOUT = Duration.ofSeconds(30);
+
   private final PollingThrottler throttler;
   private final ApplicationMetrics metrics;
   private String pollingTopic;
 
+  // set while consumer is borrowed from EnhancedConsumerPool, close() returns consumer to the pool
+  @Nullable
+  private Consumer<EnhancedConsumer> releaseHook;
+
   public EnhancedConsumer(Properties properties,
                           PollingThrottler throttler,
                           ApplicationMetrics metrics) {
@@ -69,6 +78,28 @@ public class EnhancedConsumer extends KafkaConsumer<Bytes, Bytes> {
     throw new UnsupportedOperationException();
   }
 
+  // resets borrower's state before consumer is returned to the pool
+  void resetState() {
+    unsubscribe();
+    throttler.reset();
+    pollingTopic = null;
+  }
+
+  void setReleaseHook(@Nullable Consumer<EnhancedConsumer> releaseHook) {
+    this.releaseHook = releaseHook;
+  }
+
+  @Override
+  public void close() {
+    var hook = releaseHook;
+    if (hook != null) {
+      releaseHook = null;
+      hook.accept(this);
+      return;
+    }
+    close(DEFAULT_CLOSE_TIMEOUT);
+  }
+
   @Override
   public void close(Duration timeout) {
     metrics.activeConsumers().decrementAndGet();
@@ -0,0 +1,106 @@
+package io.kafbat.ui.emitter;
+
+import io.kafbat.ui.config.ClustersProperties;
+import io.kafbat.ui.util.ApplicationMetrics;
+import java.io.Closeable;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.pool2.BaseKeyedPooledObjectFactory;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.impl.DefaultPooledObject;
+import org.apache.commons.pool2.impl.GenericKeyedObjectPool;
+import org.apache.commons.pool2.impl.GenericKeyedObjectPoolConfig;
+
+/**
+ * Keeps warm (bootstrapped, with fetched metadata and open connections) consumers for a single cluster.
+ * Consumers are keyed by consumer properties overrides. Borrowed consumer is returned back to the pool
+ * on {@link EnhancedConsumer#close()}, so emitters can use it in try-with-resources as a regular consumer.
+ */
+@Slf4j
+public class EnhancedConsumerPool implements Closeable {
+
+  private final String clusterName;
+  private final Function<Map<String, Object>, EnhancedConsumer> consumerFactory;
+  private final GenericKeyedObjectPool<Map<String, Object>, EnhancedConsumer> pool;
+  private final ApplicationMetrics metrics;
+
+  public EnhancedConsumerPool(String clusterName,
+                              Function<Map<String, Object>, EnhancedConsumer> consumerFactory,
+                              ClustersProperties.ConsumerPoolProperties properties,
+                              ApplicationMetrics metrics) {
+    this.clusterName = clusterName;
+    this.consumerFactory = consumerFactory;
+    this.metrics = metrics;
+    this.pool = new GenericKeyedObjectPool<>(new PooledConsumerFactory(), poolConfig(properties));
+    metrics.registerConsumerPool(pool);
+  }
+
+  private static GenericKeyedObjectPoolConfig<EnhancedConsumer> poolConfig(
+      ClustersProperties.ConsumerPoolProperties properties) {
+    var config = new GenericKeyedObjectPoolConfig<EnhancedConsumer>();
+    config.setMaxTotal(properties.getMaxTotal());
+    config.setMaxTotalPerKey(properties.getMaxTotal());
+    config.setMaxIdlePerKey(properties.getMaxIdlePerKey());
+    config.setMinEvictableIdleDuration(properties.getIdleTimeout());
+    config.setTimeBetweenEvictionRuns(properties.getEvictionInterval());
+    // when pool is exhausted we create non-pooled consumer instead of waiting
+    config.setBlockWhenExhausted(false);
+    config.setJmxEnabled(false);
+    return config;
+  }
+
+  public EnhancedConsumer borrow(Map<String, Object> propertiesOverrides) {
+    EnhancedConsumer consumer;
+    try {
+      consumer = pool.borrowObject(propertiesOverrides);
+    } catch (NoSuchElementException exhausted) {
+      log.debug("Consumers pool for cluster {} is exhausted, creating non-pooled consumer", clusterName);
+      metrics.consumerPoolMisses().increment();
+      return consumerFactory.apply(propertiesOverrides);
+    } catch (Exception e) {
+      throw new IllegalStateException("Error borrowing consumer for cluster " + clusterName, e);
+    }
+    consumer.setReleaseHook(c -> release(propertiesOverrides, c));
+    return consumer;
+  }
+
+  private void release(Map<String, Object> propertiesOverrides, EnhancedConsumer consumer) {
+    try {
+      pool.returnObject(propertiesOverrides, consumer);
+    } catch (Exception e) {
+      log.warn("Error returning consumer to the pool for cluster {}", clusterName, e);
+    }
+  }
+
+  @Override
+  public void close() {
+    pool.close();
+  }
+
+  private class PooledConsumerFactory extends BaseKeyedPooledObjectFactory<Map<String, Object>, EnhancedConsumer> {
+
+    @Override
+    public EnhancedConsumer create(Map<String, Object> propertiesOverrides) {
+      return consumerFactory.apply(propertiesOverrides);
+    }
+
+    @Override
+    public PooledObject<EnhancedConsumer> wrap(EnhancedConsumer consumer) {
+      return new DefaultPooledObject<>(consumer);
+    }
+
+    @Override
+    public void passivateObject(Map<String, Object> key, PooledObject<EnhancedConsumer> pooled) {
+      // resetting assignment, paused partitions and throttling state, consumer will be destroyed if this fails
+      pooled.getObject().resetState();
+    }
+
+    @Override
+    public void destroyObject(Map<String, Object> key, PooledObject<EnhancedConsumer> pooled) {
+      pooled.getObject().close();
+    }
+  }
+
+}
@@ -4,11 +4,13 @@ import io.kafbat.ui.model.ConsumerPosition;
 import io.kafbat.ui.model.TopicMessageDTO;
 import io.kafbat.ui.serdes.ConsumerRecordDeserializer;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import org.apache.kafka.common.TopicPartition;
 
 public class ForwardEmitter extends RangePollingEmitter {
@@ -26,7 +28,32 @@ public class ForwardEmitter extends RangePollingEmitter {
         messagesPerPage,
         new MessagesProcessing(deserializer, filter, true, messagesPerPage),
         pollingSettings,
-        cursor
+        cursor,
+        false
+    );
+  }
+
+  /**
+   * Creates unpaged emitter that sends up to {@code limit} messages (all messages in range if limit is null),
+   * polling them by pages of {@code messagesPerPage} size. Next page is polled only when downstream
+   * requested more messages, so emitter doesn't run ahead of a slow subscriber.
+   */
+  public ForwardEmitter(Supplier<EnhancedConsumer> consumerSupplier,
+                        ConsumerPosition consumerPosition,
+                        int messagesPerPage,
+                        @Nullable Integer limit,
+                        ConsumerRecordDeserializer deserializer,
+                        Predicate<TopicMessageDTO> filter,
+                        PollingSettings pollingSettings,
+                        Cursor.Tracking cursor) {
+    super(
+        consumerSupplier,
+        consumerPosition,
+        messagesPerPage,
+        new MessagesProcessing(deserializer, filter, true, limit),
+        pollingSettings,
+        cursor,
+        true
     );
   }
 
@@ -44,14 +71,19 @@ public class ForwardEmitter extends RangePollingEmitter {
       );
     }
 
-    int msgsToPollPerPartition = Math.max(1, (int) Math.ceil((double) messagesPerPage / readFromOffsets.size()));
-    TreeMap<TopicPartition, FromToOffset> result = new TreeMap<>(Comparator.comparingInt(TopicPartition::partition));
+    Map<TopicPartition, Long> availableOffsets = new HashMap<>();
     readFromOffsets.forEach((tp, fromOffset) -> {
       long tpEndOffset = seekOperations.getEndOffsets().get(tp);
       if (fromOffset < tpEndOffset) {
-        result.put(tp, new FromToOffset(fromOffset, Math.min(tpEndOffset, fromOffset + msgsToPollPerPartition)));
+        availableOffsets.put(tp, tpEndOffset - fromOffset);
       }
     });
+
+    TreeMap<TopicPartition, FromToOffset> result = new TreeMap<>(Comparator.comparingInt(TopicPartition::partition));
+    rangePlanner.offsetsToPoll(availableOffsets).forEach((tp, offsetsToPoll) -> {
+      long fromOffset = readFromOffsets.get(tp);
+      result.put(tp, new FromToOffset(fromOffset, fromOffset + offsetsToPoll));
+    });
     return result;
   }
 
@@ -1,12 +1,14 @@
 package io.kafbat.ui.emitter;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.emptyMap;
 import static org.apache.commons.lang3.Strings.CS;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableSet;
 import com.google.protobuf.NullValue;
@@ -28,17 +30,29 @@ import dev.cel.runtime.CelRuntime;
 import dev.cel.runtime.CelRuntimeFactory;
 import io.kafbat.ui.exception.CelException;
 import io.kafbat.ui.model.TopicMessageDTO;
+import io.kafbat.ui.serdes.ConsumerRecordDeserializer;
+import io.kafbat.ui.util.ContentUtils;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Predicate;
+import java.util.Set;
+import java.util.regex.MatchResult;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.annotation.Nullable;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.text.StringEscapeUtils;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.utils.Bytes;
 
 @Slf4j
 @UtilityClass
@@ -47,26 +61,67 @@ public class MessageFilters {
   private static final String CEL_RECORD_VAR_NAME = "record";
   private static final String CEL_RECORD_TYPE_NAME = TopicMessageDTO.class.getSimpleName();
 
+  private static final Map<String, CelType> CEL_RECORD_FIELDS = Map.of(
+      "partition", SimpleType.INT,
+      "offset", SimpleType.INT,
+      "timestampMs", SimpleType.INT,
+      "keyAsText", SimpleType.STRING,
+      "valueAsText", SimpleType.STRING,
+      "headers", MapType.create(SimpleType.STRING, SimpleType.STRING),
+      "key", SimpleType.DYN,
+      "value", SimpleType.DYN
+  );
+  // fields that are only available after deserialization
+  private static final Set<String> CEL_CONTENT_FIELDS = Set.of("key", "value", "keyAsText", "valueAsText");
+  private static final Pattern CEL_IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
   private static final CelCompiler CEL_COMPILER = createCompiler();
   private static final CelRuntime CEL_RUNTIME = createRuntime();
   private static final Object CELL_NULL_VALUE = NullValue.NULL_VALUE;
 
-  private static final ObjectMapper OBJECT_MAPPER =
-      new ObjectMapper().configure(DeserializationFeature.USE_LONG_FOR_INTS, true);
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
   private static final Pattern HEX_IN_UNICODE_ESCAPE = Pattern.compile("(?<=\\\\u)[0-9A-F]{4}");
 
-  public static Predicate<TopicMessageDTO> noop() {
-    return e -> true;
+  public static StagedMessageFilter noop() {
+    return new StagedMessageFilter() {
+      @Override
+      public boolean mayMatch(ConsumerRecord<Bytes, Bytes> rec, ConsumerRecordDeserializer deserializer) {
+        return true;
+      }
+
+      @Override
+      public boolean test(TopicMessageDTO msg) {
+        return true;
+      }
+    };
   }
 
-  public static Predicate<TopicMessageDTO> containsStringFilter(String string) {
+  public static StagedMessageFilter containsStringFilter(String string) {
     @Nullable String escapedUpper = escapeNonAscii(string);
     @Nullable String escapedLower = escapedUpper != null
         ? HEX_IN_UNICODE_ESCAPE.matcher(escapedUpper).replaceAll(m -> m.group().toLowerCase())
         : null;
-    return msg -> msgContains(msg, string)
-        || (escapedUpper != null && msgContains(msg, escapedUpper))
-        || (escapedLower != null && msgContains(msg, escapedLower));
+    List<String> searches = Stream.of(string, escapedUpper, escapedLower).filter(Objects::nonNull).toList();
+    // null if raw bytes can't be used for search (replacement char can be produced by decoding of invalid bytes)
+    @Nullable List<byte[]> searchesBytes = string.indexOf('\uFFFD') < 0 && UTF_8.newEncoder().canEncode(string)
+        ? searches.stream().map(s -> s.getBytes(UTF_8)).toList()
+        : null;
+    return new StagedMessageFilter() {
+      @Override
+      public boolean mayMatch(ConsumerRecord<Bytes, Bytes> rec, ConsumerRecordDeserializer deserializer) {
+        if (searchesBytes == null) {
+          return true;
+        }
+        return rawMayContain(rec.key(), deserializer.isKeyRawUtf8Text(), searchesBytes)
+            || rawMayContain(rec.value(), deserializer.isValueRawUtf8Text(), searchesBytes)
+            || searches.stream().anyMatch(s -> rawHeadersContains(rec.headers(), s));
+      }
+
+      @Override
+      public boolean test(TopicMessageDTO msg) {
+        return searches.stream().anyMatch(s -> msgContains(msg, s));
+      }
+    };
   }
 
   @Nullable
@@ -81,6 +136,46 @@ public class MessageFilters {
         || headersContains(msg, search);
   }
 
+  private static boolean rawMayContain(@Nullable Bytes raw, boolean rawIsText, List<byte[]> searchesBytes) {
+    if (raw == null) {
+      return false;
+    }
+    if (!rawIsText) {
+      // deserialized content can't be predicted from raw bytes
+      return true;
+    }
+    byte[] data = raw.get();
+    for (byte[] search : searchesBytes) {
+      if (containsBytes(data, search)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // headers are converted to strings the same way as ConsumerRecordDeserializer does
+  private static boolean rawHeadersContains(Headers headers, String search) {
+    for (Header header : headers) {
+      if (CS.contains(header.key(), search) || CS.contains(ContentUtils.convertToString(header.value()), search)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean containsBytes(byte[] data, byte[] search) {
+    for (int i = 0; i <= data.length - search.length; i++) {
+      int j = 0;
+      while (j < search.length && data[i + j] == search[j]) {
+        j++;
+      }
+      if (j == search.length) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   private static boolean headersContains(TopicMessageDTO msg, String searchString) {
     final var headers = msg.getHeaders();
 
@@ -97,7 +192,7 @@ public class MessageFilters {
     return false;
   }
 
-  public static Predicate<TopicMessageDTO> celScriptFilter(String script) {
+  public static StagedMessageFilter celScriptFilter(String script) {
     CelValidationResult celValidationResult = CEL_COMPILER.compile(script);
     if (celValidationResult.hasError()) {
       throw new CelException(script, celValidationResult.getErrorString());
@@ -107,33 +202,74 @@ public class MessageFilters {
       CelAbstractSyntaxTree ast = celValidationResult.getAst();
       CelRuntime.Program program = CEL_RUNTIME.createProgram(ast);
 
-      return createPredicate(script, program);
+      return createPredicate(script, program, referencedRecordFields(script));
     } catch (CelValidationException | CelEvaluationException e) {
       throw new CelException(script, e);
     }
   }
 
-  private static Predicate<TopicMessageDTO> createPredicate(String originalScript, CelRuntime.Program program) {
-    return topicMessage -> {
-      Object programResult;
-      try {
-        programResult = program.eval(recordToArgs(topicMessage));
-      } catch (CelEvaluationException e) {
-        throw new CelException(originalScript, e);
-      }
+  /**
+   * Returns record fields that script can access. Field is considered used if its name appears in the script
+   * as a separate identifier, so result can contain unused fields (e.g. if name is used in string literal),
+   * but never misses used ones.
+   */
+  @VisibleForTesting
+  static Set<String> referencedRecordFields(String script) {
+    Set<String> identifiers = CEL_IDENTIFIER.matcher(script).results()
+        .map(MatchResult::group)
+        .collect(Collectors.toSet());
+    return CEL_RECORD_FIELDS.keySet().stream()
+        .filter(identifiers::contains)
+        .collect(Collectors.toUnmodifiableSet());
+  }
 
-      if (programResult instanceof Boolean isMessageMatched) {
-        return isMessageMatched;
+  private static StagedMessageFilter createPredicate(String originalScript,
+                                                     CelRuntime.Program program,
+                                                     Set<String> usedFields) {
+    // if script doesn't use key and value, it can be fully evaluated before deserialization
+    boolean evaluableOnRawRecord = usedFields.stream().noneMatch(CEL_CONTENT_FIELDS::contains);
+    return new StagedMessageFilter() {
+      @Override
+      public boolean mayMatch(ConsumerRecord<Bytes, Bytes> rec, ConsumerRecordDeserializer deserializer) {
+        if (!evaluableOnRawRecord) {
+          return true;
+        }
+        try {
+          return evaluate(originalScript, program, rawRecordToArgs(rec, usedFields));
+        } catch (CelException e) {
+          // error will be reported when filter is applied to deserialized message
+          return true;
+        }
       }
 
-      throw new CelException(
-          originalScript,
-          "Unexpected script result, boolean should be returned instead. Script output: %s".formatted(programResult)
-      );
+      @Override
+      public boolean test(TopicMessageDTO msg) {
+        return evaluate(originalScript, program, recordToArgs(msg, usedFields));
+      }
     };
   }
 
-  private static Map<String, Map<String, Object>> recordToArgs(TopicMessageDTO topicMessage) {
+  private static boolean evaluate(String originalScript,
+                                  CelRuntime.Program program,
+                                  Map<String, Map<String, Object>> args) {
+    Object programResult;
+    try {
+      programResult = program.eval(args);
+    } catch (CelEvaluationException e) {
+      throw new CelException(originalScript, e);
+    }
+
+    if (programResult instanceof Boolean isMessageMatched) {
+      return isMessageMatched;
+    }
+
+    throw new CelException(
+        originalScript,
+        "Unexpected script result, boolean should be returned instead. Script output: %s".formatted(programResult)
+    );
+  }
+
+  private static Map<String, Map<String, Object>> recordToArgs(TopicMessageDTO topicMessage, Set<String> usedFields) {
     Map<String, Object> args = new HashMap<>();
 
     args.put("partition", topicMessage.getPartition());
@@ -143,42 +279,52 @@ public class MessageFilters {
       args.put("timestampMs", topicMessage.getTimestamp().toInstant().toEpochMilli());
     }
 
+    // json parsing is the most expensive part of evaluation, so it is only done when key/value is used by script
     if (topicMessage.getKey() != null) {
-      args.put("key", parseToJsonOrReturnAsIs(topicMessage.getKey()));
+      if (usedFields.contains("key")) {
+        args.put("key", parseToJsonOrReturnAsIs(topicMessage.getKey()));
+      }
       args.put("keyAsText", topicMessage.getKey());
     }
 
     if (topicMessage.getValue() != null) {
-      args.put("value", parseToJsonOrReturnAsIs(topicMessage.getValue()));
+      if (usedFields.contains("value")) {
+        args.put("value", parseToJsonOrReturnAsIs(topicMessage.getValue()));
+      }
       args.put("valueAsText", topicMessage.getValue());
     }
 
-    args.put("headers", Objects.requireNonNullElse(topicMessage.getHeaders(), emptyMap()));
+    if (usedFields.contains("headers")) {
+      args.put("headers", Objects.requireNonNullElse(topicMessage.getHeaders(), emptyMap()));
+    }
 
-    return Map.of("record", args);
+    return Map.of(CEL_RECORD_VAR_NAME, args);
   }
 
-  private static CelCompiler createCompiler() {
-    Map<String, CelType> fields = Map.of(
-        "partition", SimpleType.INT,
-        "offset", SimpleType.INT,
-        "timestampMs", SimpleType.INT,
-        "keyAsText", SimpleType.STRING,
-        "valueAsText", SimpleType.STRING,
-        "headers", MapType.create(SimpleType.STRING, SimpleType.STRING),
-        "key", SimpleType.DYN,
-        "value", SimpleType.DYN
-    );
+  private static Map<String, Map<String, Object>> rawRecordToArgs(ConsumerRecord<Bytes, Bytes> rec,
+                                                                  Set<String> usedFields) {
+    Map<String, Object> args = new HashMap<>();
+    args.put("partition", rec.partition());
+    args.put("offset", rec.offset());
+    args.put("timestampMs", rec.timestamp());
+    if (usedFields.contains("headers")) {
+      Map<String, String> headers = new HashMap<>();
+      rec.headers().forEach(h -> headers.put(h.key(), ContentUtils.convertToString(h.value())));
+      args.put("headers", headers);
+    }
+    return Map.of(CEL_RECORD_VAR_NAME, args);
+  }
 
+  private static CelCompiler createCompiler() {
     ImmutableSet<String> names = ImmutableSet
         .<String>builder()
-        .addAll(fields.keySet())
+        .addAll(CEL_RECORD_FIELDS.keySet())
         .build();
 
     StructType recordType = StructType.create(
         CEL_RECORD_TYPE_NAME,
         names,
-        fieldName -> Optional.ofNullable(fields.get(fieldName))
+        fieldName -> Optional.ofNullable(CEL_RECORD_FIELDS.get(fieldName))
     );
 
     return CelCompilerFactory.standardCelCompilerBuilder()
@@ -207,41 +353,64 @@ public class MessageFilters {
         .build();
   }
 
+  /**
+   * Parses json object into map with CEL-compatible values (nulls are replaced with {@link NullValue}).
+   * Conversion is done in a single pass over parser tokens, without building intermediate untyped map.
+   * If string is not a json object it is returned as is.
+   */
   @Nullable
-  private static Object parseToJsonOrReturnAsIs(@Nullable String str) {
+  @VisibleForTesting
+  static Object parseToJsonOrReturnAsIs(@Nullable String str) {
     if (str == null) {
       return null;
     }
 
-    try {
-      //@formatter:off
-      var map = OBJECT_MAPPER.readValue(str, new TypeReference<Map<String, Object>>() {});
-      //@formatter:on
-      return replaceCelNulls(map);
-    } catch (JsonProcessingException e) {
+    try (JsonParser parser = JSON_FACTORY.createParser(str)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return str;
+      }
+      return readCelObject(parser);
+    } catch (IOException e) {
       return str;
     }
   }
 
-  @SuppressWarnings("unchecked")
-  private static Map<String, Object> replaceCelNulls(Map<String, Object> map) {
+  private static Map<String, Object> readCelObject(JsonParser parser) throws IOException {
     var result = new LinkedHashMap<String, Object>();
-
-    for (var entry : map.entrySet()) {
-      String key = entry.getKey();
-      Object value = entry.getValue();
-
-      if (value == null) {
-        result.put(key, CELL_NULL_VALUE);
-      } else if (value instanceof Map<?, ?>) {
-        var inner = (Map<String, Object>) value;
-        result.put(key, replaceCelNulls(inner));
-      } else {
-        result.put(key, value);
-      }
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String key = parser.currentName();
+      parser.nextToken();
+      result.put(key, readCelValue(parser));
     }
+    return result;
+  }
 
+  private static List<Object> readCelArray(JsonParser parser) throws IOException {
+    var result = new ArrayList<>();
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      result.add(readCelValue(parser));
+    }
     return result;
   }
 
+  private static Object readCelValue(JsonParser parser) throws IOException {
+    JsonToken token = parser.currentToken();
+    if (token == null) {
+      throw new JsonParseException(parser, "Unexpected end of input");
+    }
+    return switch (token) {
+      case START_OBJECT -> readCelObject(parser);
+      case START_ARRAY -> readCelArray(parser);
+      case VALUE_STRING -> parser.getText();
+      case VALUE_NUMBER_INT -> parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER
+          ? parser.getBigIntegerValue()
+          : (Object) parser.getLongValue();
+      case VALUE_NUMBER_FLOAT -> parser.getDoubleValue();
+      case VALUE_TRUE -> Boolean.TRUE;
+      case VALUE_FALSE -> Boolean.FALSE;
+      case VALUE_NULL -> CELL_NULL_VALUE;
+      default -> throw new JsonParseException(parser, "Unexpected token " + token);
+    };
+  }
+
 }
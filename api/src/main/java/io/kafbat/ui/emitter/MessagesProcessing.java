@@ -45,6 +45,13 @@ class MessagesProcessing {
     sortForSending(polled, ascendingSortBeforeSend)
         .forEach(rec -> {
           if (!limitReached() && !sink.isCancelled()) {
+            // cheap check on raw record, allows to skip deserialization of records that can't match filter
+            if (!StagedMessageFilter.mayMatch(filter, rec, deserializer)) {
+              if (cursor != null) {
+                cursor.trackOffset(rec.topic(), rec.partition(), rec.offset());
+              }
+              return;
+            }
             TopicMessageDTO topicMessage = deserializer.deserialize(rec);
             try {
               if (filter.test(topicMessage)) {
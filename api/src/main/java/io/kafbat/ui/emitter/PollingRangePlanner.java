@@ -0,0 +1,131 @@
+package io.kafbat.ui.emitter;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.utils.Bytes;
+
+/**
+ * Decides how many offsets should be polled from each partition to fill a page of messages.
+ * Instead of giving every partition an equal share, page size is distributed proportionally to partitions
+ * records rate (records per ms of timestamps span), since page is merged by timestamp and fast partitions
+ * contribute more records to the same time window. Share is capped by the number of records partition can still
+ * provide, the rest is given to other partitions. Records density (records per offset, can be less than 1 for
+ * compacted or transactional topics) and rate are learned from previously polled ranges.
+ */
+class PollingRangePlanner {
+
+  private static final double MIN_DENSITY = 0.01;
+  private static final double MIN_WEIGHT = 1e-9;
+
+  private final int messagesPerPage;
+  private final Map<TopicPartition, Double> density = new HashMap<>();
+  private final Map<TopicPartition, Double> rate = new HashMap<>();
+
+  PollingRangePlanner(int messagesPerPage) {
+    this.messagesPerPage = messagesPerPage;
+  }
+
+  /**
+   * Returns number of offsets to poll for each partition (always > 0).
+   *
+   * @param availableOffsets number of offsets that can be polled for partition (only non-empty partitions)
+   */
+  Map<TopicPartition, Long> offsetsToPoll(Map<TopicPartition, Long> availableOffsets) {
+    Map<TopicPartition, Long> availableRecords = new HashMap<>();
+    availableOffsets.forEach((tp, offsets) ->
+        availableRecords.put(tp, Math.max(1, (long) Math.ceil(offsets * densityOf(tp)))));
+
+    Map<TopicPartition, Long> result = new HashMap<>();
+    distribute(availableRecords, weights(availableOffsets.keySet()), messagesPerPage).forEach((tp, records) -> {
+      long offsets = (long) Math.ceil(records / densityOf(tp));
+      result.put(tp, Math.max(1, Math.min(availableOffsets.get(tp), offsets)));
+    });
+    return result;
+  }
+
+  void recordPolled(Map<TopicPartition, RangePollingEmitter.FromToOffset> range,
+                    List<ConsumerRecord<Bytes, Bytes>> polled) {
+    Map<TopicPartition, Integer> counts = new HashMap<>();
+    Map<TopicPartition, long[]> timestampsSpan = new HashMap<>();
+    for (ConsumerRecord<Bytes, Bytes> rec : polled) {
+      var tp = new TopicPartition(rec.topic(), rec.partition());
+      counts.merge(tp, 1, Integer::sum);
+      if (rec.timestamp() >= 0) {
+        long[] span = timestampsSpan.computeIfAbsent(tp, t -> new long[] {Long.MAX_VALUE, Long.MIN_VALUE, 0});
+        span[0] = Math.min(span[0], rec.timestamp());
+        span[1] = Math.max(span[1], rec.timestamp());
+        span[2]++;
+      }
+    }
+    range.forEach((tp, fromTo) -> {
+      long offsets = fromTo.to() - fromTo.from();
+      if (offsets > 0) {
+        double observed = (double) counts.getOrDefault(tp, 0) / offsets;
+        density.put(tp, Math.max(MIN_DENSITY, Math.min(1.0, observed)));
+      }
+    });
+    timestampsSpan.forEach((tp, span) -> {
+      // rate can't be estimated from a single record
+      if (span[2] > 1) {
+        rate.put(tp, span[2] / (double) Math.max(1, span[1] - span[0]));
+      }
+    });
+  }
+
+  // partitions without learned rate get average rate of other partitions
+  private Map<TopicPartition, Double> weights(Collection<TopicPartition> partitions) {
+    double defaultRate = partitions.stream()
+        .filter(rate::containsKey)
+        .mapToDouble(rate::get)
+        .average()
+        .orElse(1.0);
+    Map<TopicPartition, Double> weights = new HashMap<>();
+    partitions.forEach(tp -> weights.put(tp, Math.max(MIN_WEIGHT, rate.getOrDefault(tp, defaultRate))));
+    return weights;
+  }
+
+  private double densityOf(TopicPartition tp) {
+    return density.getOrDefault(tp, 1.0);
+  }
+
+  @VisibleForTesting
+  static Map<TopicPartition, Long> distribute(Map<TopicPartition, Long> available, int total) {
+    Map<TopicPartition, Double> equalWeights = new HashMap<>();
+    available.keySet().forEach(tp -> equalWeights.put(tp, 1.0));
+    return distribute(available, equalWeights, total);
+  }
+
+  /**
+   * Distributes total across partitions proportionally to their weights, so that partitions which can't
+   * provide their share give the rest to other partitions. Every partition gets at least 1.
+   */
+  @VisibleForTesting
+  static Map<TopicPartition, Long> distribute(Map<TopicPartition, Long> available,
+                                              Map<TopicPartition, Double> weights,
+                                              int total) {
+    // partitions that are most likely to be saturated go first, so their unused share is given to others
+    var sorted = available.entrySet().stream()
+        .sorted(Comparator.<Map.Entry<TopicPartition, Long>>comparingDouble(e -> e.getValue() / weights.get(e.getKey()))
+            .thenComparing(Map.Entry.comparingByKey(Comparator.comparing(TopicPartition::partition))))
+        .toList();
+    Map<TopicPartition, Long> result = new HashMap<>();
+    long remaining = total;
+    double weightLeft = sorted.stream().mapToDouble(e -> weights.get(e.getKey())).sum();
+    for (var entry : sorted) {
+      double weight = weights.get(entry.getKey());
+      // epsilon compensates floating point error of weightLeft
+      long share = (long) Math.ceil(Math.max(remaining, 0) * weight / weightLeft - 1e-9);
+      long granted = Math.max(1, Math.min(entry.getValue(), share));
+      result.put(entry.getKey(), granted);
+      remaining -= granted;
+      weightLeft -= weight;
+    }
+    return result;
+  }
+}
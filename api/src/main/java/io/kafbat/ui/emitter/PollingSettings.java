@@ -8,8 +8,10 @@ import java.util.function.Supplier;
 public class PollingSettings {
 
   private static final Duration DEFAULT_POLL_TIMEOUT = Duration.ofMillis(1_000);
+  private static final int DEFAULT_PARALLELISM = 1;
 
   private final Duration pollTimeout;
+  private final int parallelism;
   private final Supplier<PollingThrottler> throttlerSupplier;
 
   public static PollingSettings create(ClustersProperties.Cluster cluster,
@@ -21,8 +23,15 @@ public class PollingSettings {
         ? Duration.ofMillis(pollingProps.getPollTimeoutMs())
         : DEFAULT_POLL_TIMEOUT;
 
+    // cluster-level setting has priority over global one
+    var parallelism = Optional.ofNullable(cluster.getPollingParallelism())
+        .or(() -> Optional.ofNullable(pollingProps.getParallelism()))
+        .filter(p -> p > 0)
+        .orElse(DEFAULT_PARALLELISM);
+
     return new PollingSettings(
         pollTimeout,
+        parallelism,
         PollingThrottler.throttlerSupplier(cluster)
     );
   }
@@ -30,13 +39,20 @@ public class PollingSettings {
   public static PollingSettings createDefault() {
     return new PollingSettings(
         DEFAULT_POLL_TIMEOUT,
+        DEFAULT_PARALLELISM,
         PollingThrottler::noop
     );
   }
 
+  public PollingSettings withParallelism(int parallelism) {
+    return new PollingSettings(pollTimeout, parallelism, throttlerSupplier);
+  }
+
   private PollingSettings(Duration pollTimeout,
+                          int parallelism,
                           Supplier<PollingThrottler> throttlerSupplier) {
     this.pollTimeout = pollTimeout;
+    this.parallelism = parallelism;
     this.throttlerSupplier = throttlerSupplier;
   }
 
@@ -44,6 +60,11 @@ public class PollingSettings {
     return pollTimeout;
   }
 
+  // number of consumers used to poll partitions range in parallel, 1 means sequential polling
+  public int getParallelism() {
+    return parallelism;
+  }
+
   public PollingThrottler getPollingThrottler() {
     return throttlerSupplier.get();
   }
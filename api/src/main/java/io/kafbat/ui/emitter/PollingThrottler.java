@@ -33,6 +33,11 @@ public class PollingThrottler {
     return new PollingThrottler("noop", RateLimiter.create(Long.MAX_VALUE));
   }
 
+  // called when consumer is returned to the pool, so throttling is reported again for the next borrower
+  void reset() {
+    throttled = false;
+  }
+
   //returns true if polling was throttled
   public boolean throttleAfterPoll(int polledBytes) {
     if (polledBytes > 0) {
@@ -7,38 +7,62 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.errors.InterruptException;
 import org.apache.kafka.common.utils.Bytes;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 @Slf4j
 abstract class RangePollingEmitter extends AbstractEmitter {
 
+  // shared across all emitters, bounds the total number of threads used for parallel range polling
+  private static final Scheduler PARALLEL_POLLING_SCHEDULER = Schedulers.newBoundedElastic(
+      Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE,
+      Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE,
+      "kui-parallel-polling",
+      60,
+      true
+  );
+
   private final Supplier<EnhancedConsumer> consumerSupplier;
   private final Cursor.Tracking cursor;
   protected final ConsumerPosition consumerPosition;
   protected final int messagesPerPage;
+  protected final PollingRangePlanner rangePlanner;
+  // unpaged emitters poll next range only when downstream requested more messages
+  private final boolean waitForDemand;
 
   protected RangePollingEmitter(Supplier<EnhancedConsumer> consumerSupplier,
                                 ConsumerPosition consumerPosition,
                                 int messagesPerPage,
                                 MessagesProcessing messagesProcessing,
                                 PollingSettings pollingSettings,
-                                Cursor.Tracking cursor) {
+                                Cursor.Tracking cursor,
+                                boolean waitForDemand) {
     super(messagesProcessing, pollingSettings);
+    this.waitForDemand = waitForDemand;
     this.consumerPosition = consumerPosition;
     this.messagesPerPage = messagesPerPage;
     this.consumerSupplier = consumerSupplier;
     this.cursor = cursor;
+    this.rangePlanner = new PollingRangePlanner(messagesPerPage);
   }
 
   protected record FromToOffset(/*inclusive*/ long from, /*exclusive*/ long to) {
   }
 
+  private record RangePollResult(List<ConsumerRecord<Bytes, Bytes>> records, List<PolledRecords> polls) {
+  }
+
   //should return empty map if polling should be stopped
   protected abstract TreeMap<TopicPartition, FromToOffset> nextPollingRange(
       TreeMap<TopicPartition, FromToOffset> prevRange, //empty on start
@@ -48,8 +72,12 @@ abstract class RangePollingEmitter extends AbstractEmitter {
   @Override
   public void accept(FluxSink<TopicMessageEventDTO> sink) {
     log.debug("Starting polling for {}", consumerPosition);
+    // additional consumers used for parallel polling, main consumer is always used as a first worker
+    List<EnhancedConsumer> workers = new ArrayList<>();
+    DemandGate demandGate = waitForDemand ? new DemandGate(sink) : null;
     try (EnhancedConsumer consumer = consumerSupplier.get()) {
       sendPhase(sink, "Consumer created");
+      workers.add(consumer);
       var seekOperations = SeekOperations.create(consumer, consumerPosition);
       cursor.initOffsets(seekOperations.getOffsetsForSeek());
 
@@ -57,7 +85,14 @@ abstract class RangePollingEmitter extends AbstractEmitter {
       log.debug("Starting from offsets {}", pollRange);
 
       while (!sink.isCancelled() && !pollRange.isEmpty() && !isSendLimitReached()) {
-        var polled = poll(consumer, sink, pollRange);
+        if (demandGate != null) {
+          demandGate.await();
+          if (sink.isCancelled()) {
+            break;
+          }
+        }
+        var polled = poll(workers, sink, pollRange);
+        rangePlanner.recordPolled(pollRange, polled);
         send(sink, polled, cursor);
         pollRange = nextPollingRange(pollRange, seekOperations);
       }
@@ -72,23 +107,73 @@ abstract class RangePollingEmitter extends AbstractEmitter {
     } catch (Exception e) {
       log.error("Error occurred while consuming records", e);
       sink.error(e);
+    } finally {
+      workers.stream().skip(1).forEach(this::closeWorker);
     }
   }
 
-  private List<ConsumerRecord<Bytes, Bytes>> poll(EnhancedConsumer consumer,
+  private List<ConsumerRecord<Bytes, Bytes>> poll(List<EnhancedConsumer> workers,
                                                   FluxSink<TopicMessageEventDTO> sink,
                                                   TreeMap<TopicPartition, FromToOffset> range) {
     log.trace("Polling range {}", range);
     sendPhase(sink,
         "Polling partitions: %s".formatted(range.keySet().stream().map(TopicPartition::partition).sorted().toList()));
 
+    int parallelism = Math.min(pollingParallelism(), range.size());
+    if (parallelism <= 1) {
+      return pollRange(workers.getFirst(), range, sink::isCancelled, p -> sendConsuming(sink, p));
+    }
+
+    while (workers.size() < parallelism) {
+      workers.add(consumerSupplier.get());
+    }
+    List<TreeMap<TopicPartition, FromToOffset>> chunks = splitRange(range, parallelism);
+    List<RangePollResult> results = Flux.range(0, parallelism)
+        .flatMapSequential(i ->
+            Mono.fromCallable(() -> {
+              List<PolledRecords> polls = new ArrayList<>();
+              var records = pollRange(workers.get(i), chunks.get(i), sink::isCancelled, polls::add);
+              return new RangePollResult(records, polls);
+            }).subscribeOn(PARALLEL_POLLING_SCHEDULER))
+        .collectList()
+        .block();
+
+    // records from all workers will be merge-sorted by MessagesProcessing before sending
+    List<ConsumerRecord<Bytes, Bytes>> merged = new ArrayList<>();
+    for (RangePollResult result : results) {
+      result.polls().forEach(p -> sendConsuming(sink, p));
+      merged.addAll(result.records());
+    }
+    return merged;
+  }
+
+  // distributing partitions across chunks in round-robin manner
+  private static List<TreeMap<TopicPartition, FromToOffset>> splitRange(TreeMap<TopicPartition, FromToOffset> range,
+                                                                       int chunksCount) {
+    List<TreeMap<TopicPartition, FromToOffset>> chunks = new ArrayList<>(chunksCount);
+    for (int i = 0; i < chunksCount; i++) {
+      chunks.add(new TreeMap<>(range.comparator()));
+    }
+    int idx = 0;
+    for (var entry : range.entrySet()) {
+      chunks.get(idx++ % chunksCount).put(entry.getKey(), entry.getValue());
+    }
+    return chunks;
+  }
+
+  // NOTE: can be called from worker threads, so it should not send anything to the sink directly
+  private List<ConsumerRecord<Bytes, Bytes>> pollRange(EnhancedConsumer consumer,
+                                                       TreeMap<TopicPartition, FromToOffset> range,
+                                                       BooleanSupplier cancelled,
+                                                       Consumer<PolledRecords> pollListener) {
     consumer.assign(range.keySet());
     range.forEach((tp, fromTo) -> consumer.seek(tp, fromTo.from));
 
     List<ConsumerRecord<Bytes, Bytes>> result = new ArrayList<>();
     Set<TopicPartition> paused = new HashSet<>();
-    while (!sink.isCancelled() && paused.size() < range.size()) {
-      var polledRecords = poll(sink, consumer);
+    while (!cancelled.getAsBoolean() && paused.size() < range.size()) {
+      var polledRecords = poll(consumer);
+      pollListener.accept(polledRecords);
       range.forEach((tp, fromTo) -> {
         polledRecords.records(tp).stream()
             .filter(r -> r.offset() < fromTo.to)
@@ -104,4 +189,12 @@ abstract class RangePollingEmitter extends AbstractEmitter {
     consumer.resume(paused);
     return result;
   }
+
+  private void closeWorker(EnhancedConsumer worker) {
+    try {
+      worker.close();
+    } catch (Exception e) {
+      log.warn("Error closing polling worker consumer", e);
+    }
+  }
 }
@@ -0,0 +1,42 @@
+package io.kafbat.ui.emitter;
+
+import io.kafbat.ui.model.TopicMessageDTO;
+import io.kafbat.ui.serdes.ConsumerRecordDeserializer;
+import java.util.function.Predicate;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.utils.Bytes;
+
+/**
+ * Message filter that can be (partially) checked against raw record before deserialization.
+ * Allows to skip deserialization and masking of records that can't match the filter.
+ */
+public interface StagedMessageFilter extends Predicate<TopicMessageDTO> {
+
+  /**
+   * Cheap check against raw (not deserialized) record. Should return false only if record can't match the filter,
+   * otherwise record will be deserialized and checked with {@link #test(Object)}.
+   */
+  boolean mayMatch(ConsumerRecord<Bytes, Bytes> rec, ConsumerRecordDeserializer deserializer);
+
+  static boolean mayMatch(Predicate<? super TopicMessageDTO> filter,
+                          ConsumerRecord<Bytes, Bytes> rec,
+                          ConsumerRecordDeserializer deserializer) {
+    return !(filter instanceof StagedMessageFilter staged) || staged.mayMatch(rec, deserializer);
+  }
+
+  @Override
+  default StagedMessageFilter and(Predicate<? super TopicMessageDTO> other) {
+    StagedMessageFilter self = this;
+    return new StagedMessageFilter() {
+      @Override
+      public boolean mayMatch(ConsumerRecord<Bytes, Bytes> rec, ConsumerRecordDeserializer deserializer) {
+        return self.mayMatch(rec, deserializer) && StagedMessageFilter.mayMatch(other, rec, deserializer);
+      }
+
+      @Override
+      public boolean test(TopicMessageDTO msg) {
+        return self.test(msg) && other.test(msg);
+      }
+    };
+  }
+}
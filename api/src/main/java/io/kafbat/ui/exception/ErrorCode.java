@@ -28,6 +28,7 @@ public enum ErrorCode {
   CEL_ERROR(4020, HttpStatus.BAD_REQUEST),
   CONNECTOR_OFFSETS_RESET_ERROR(4021, HttpStatus.BAD_REQUEST),
   OAUTH_TOKEN_FETCH_ERROR(5002, HttpStatus.INTERNAL_SERVER_ERROR),
+  SERVICE_UNAVAILABLE(5003, HttpStatus.SERVICE_UNAVAILABLE),
   ;
 
   static {
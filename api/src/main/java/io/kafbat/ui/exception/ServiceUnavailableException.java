@@ -0,0 +1,13 @@
+package io.kafbat.ui.exception;
+
+public class ServiceUnavailableException extends CustomBaseException {
+
+  public ServiceUnavailableException(String message) {
+    super(message);
+  }
+
+  @Override
+  public ErrorCode getErrorCode() {
+    return ErrorCode.SERVICE_UNAVAILABLE;
+  }
+}
@@ -226,11 +226,29 @@ public interface KafkaConnectMapper {
   }
 
   default KafkaConnectState.ConnectorState toScrapeState(InternalConnectorInfo connector) {
+    FullConnectorInfoDTO info = fullConnectorInfo(connector);
     return new KafkaConnectState.ConnectorState(
-        connector.getConnector().getName(),
-        connector.getConnector().getType(),
-        connector.getConnector().getStatus(),
-        connector.getTopics()
+        info.getName(),
+        info.getType(),
+        info.getStatus(),
+        info.getTopics(),
+        info.getConnectorClass(),
+        info.getTasksCount(),
+        info.getFailedTasksCount(),
+        connector.getConsumer()
     );
   }
+
+  default FullConnectorInfoDTO fullConnectorInfo(String connect, KafkaConnectState.ConnectorState connector) {
+    return new FullConnectorInfoDTO()
+        .connect(connect)
+        .name(connector.name())
+        .connectorClass(connector.connectorClass())
+        .type(connector.connectorType())
+        .topics(connector.topics())
+        .status(connector.status())
+        .tasksCount(connector.tasksCount())
+        .consumer(connector.consumer())
+        .failedTasksCount(connector.failedTasksCount());
+  }
 }
@@ -27,6 +27,9 @@ public class MetricsScrapeProperties {
   @Nullable
   TruststoreConfig truststoreConfig;
 
+  @Nullable
+  ClustersProperties.JmxFilterConfig jmxFilter;
+
   public static MetricsScrapeProperties create(ClustersProperties.Cluster cluster) {
     var metrics = Objects.requireNonNull(cluster.getMetrics());
     return MetricsScrapeProperties.builder()
@@ -40,6 +43,7 @@ public class MetricsScrapeProperties {
                 ? new KeystoreConfig(metrics.getKeystoreLocation(), metrics.getKeystorePassword())
                 : null
         )
+        .jmxFilter(metrics.getJmxFilter())
         .build();
   }
 
@@ -2,7 +2,10 @@ package io.kafbat.ui.serdes;
 
 import io.kafbat.ui.serde.api.Serde;
 import io.kafbat.ui.serdes.builtin.StringSerde;
+import io.kafbat.ui.serdes.builtin.sr.SchemaRegistrySerde;
+import io.kafbat.ui.service.schemas.SchemaCatalogue;
 import java.io.Closeable;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -76,6 +79,18 @@ public class ClusterSerdes implements Closeable {
         .orElse(serdes.get(StringSerde.NAME));
   }
 
+  /**
+   * Attaches schemas catalogue to SchemaRegistry serdes that are configured with given registry.
+   */
+  public void useSchemaCatalogue(List<String> registryUrls, SchemaCatalogue catalogue) {
+    serdes.values().stream()
+        .map(instance -> instance.serde)
+        .filter(SchemaRegistrySerde.class::isInstance)
+        .map(SchemaRegistrySerde.class::cast)
+        .filter(serde -> serde.usesRegistry(registryUrls))
+        .forEach(serde -> serde.useSchemaCatalogue(catalogue));
+  }
+
   @Override
   public void close() {
     serdes.values().forEach(SerdeInstance::close);
@@ -11,7 +11,6 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.UnaryOperator;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.common.header.Header;
@@ -20,7 +19,6 @@ import org.apache.kafka.common.record.TimestampType;
 import org.apache.kafka.common.utils.Bytes;
 
 @Slf4j
-@RequiredArgsConstructor
 public class ConsumerRecordDeserializer {
 
   private static final ZoneId UTC_ZONE_ID = ZoneId.of("UTC");
@@ -37,6 +35,53 @@ public class ConsumerRecordDeserializer {
 
   private final UnaryOperator<TopicMessageDTO> masker;
 
+  // true if deserialized (and masked) key/value is always equal to raw bytes decoded as UTF-8 string,
+  // so text filters can be checked against raw bytes before deserialization
+  private final boolean keyIsRawUtf8Text;
+  private final boolean valueIsRawUtf8Text;
+
+  public ConsumerRecordDeserializer(String keySerdeName,
+                                    Serde.Deserializer keyDeserializer,
+                                    String valueSerdeName,
+                                    Serde.Deserializer valueDeserializer,
+                                    String fallbackSerdeName,
+                                    Serde.Deserializer fallbackKeyDeserializer,
+                                    Serde.Deserializer fallbackValueDeserializer,
+                                    UnaryOperator<TopicMessageDTO> masker) {
+    this(keySerdeName, keyDeserializer, valueSerdeName, valueDeserializer,
+        fallbackSerdeName, fallbackKeyDeserializer, fallbackValueDeserializer, masker, false, false);
+  }
+
+  public ConsumerRecordDeserializer(String keySerdeName,
+                                    Serde.Deserializer keyDeserializer,
+                                    String valueSerdeName,
+                                    Serde.Deserializer valueDeserializer,
+                                    String fallbackSerdeName,
+                                    Serde.Deserializer fallbackKeyDeserializer,
+                                    Serde.Deserializer fallbackValueDeserializer,
+                                    UnaryOperator<TopicMessageDTO> masker,
+                                    boolean keyIsRawUtf8Text,
+                                    boolean valueIsRawUtf8Text) {
+    this.keySerdeName = keySerdeName;
+    this.keyDeserializer = keyDeserializer;
+    this.valueSerdeName = valueSerdeName;
+    this.valueDeserializer = valueDeserializer;
+    this.fallbackSerdeName = fallbackSerdeName;
+    this.fallbackKeyDeserializer = fallbackKeyDeserializer;
+    this.fallbackValueDeserializer = fallbackValueDeserializer;
+    this.masker = masker;
+    this.keyIsRawUtf8Text = keyIsRawUtf8Text;
+    this.valueIsRawUtf8Text = valueIsRawUtf8Text;
+  }
+
+  public boolean isKeyRawUtf8Text() {
+    return keyIsRawUtf8Text;
+  }
+
+  public boolean isValueRawUtf8Text() {
+    return valueIsRawUtf8Text;
+  }
+
   public TopicMessageDTO deserialize(ConsumerRecord<Bytes, Bytes> rec) {
     var message = new TopicMessageDTO();
     fillKey(message, rec);
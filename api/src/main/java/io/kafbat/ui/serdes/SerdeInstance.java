@@ -3,7 +3,9 @@ package io.kafbat.ui.serdes;
 import io.kafbat.ui.serde.api.SchemaDescription;
 import io.kafbat.ui.serde.api.Serde;
 import io.kafbat.ui.serde.api.SerdeParameter;
+import io.kafbat.ui.serdes.builtin.StringSerde;
 import java.io.Closeable;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -129,6 +131,12 @@ public class SerdeInstance implements Closeable {
     };
   }
 
+  // true if deserialized result is always the same as raw bytes decoded as UTF-8 string
+  public boolean deserializesToRawUtf8Text() {
+    return serde instanceof StringSerde stringSerde
+        && StandardCharsets.UTF_8.equals(stringSerde.getEncoding());
+  }
+
   public Serde.Deserializer deserializer(String topic, Serde.Target type) {
     return wrapWithClassloader(() -> {
       var deserializer = serde.deserializer(topic, type);
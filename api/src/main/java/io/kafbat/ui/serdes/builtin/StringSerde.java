@@ -21,6 +21,10 @@ public class StringSerde implements BuiltInSerde {
         .ifPresent(e -> StringSerde.this.encoding = e);
   }
 
+  public Charset getEncoding() {
+    return encoding;
+  }
+
   @Override
   public boolean canDeserialize(String topic, Target type) {
     return true;
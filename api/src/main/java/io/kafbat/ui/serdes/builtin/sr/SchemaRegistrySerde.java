@@ -18,6 +18,7 @@ import io.confluent.kafka.schemaregistry.client.CachedSchemaRegistryClient;
 import io.confluent.kafka.schemaregistry.client.SchemaMetadata;
 import io.confluent.kafka.schemaregistry.client.SchemaRegistryClient;
 import io.confluent.kafka.schemaregistry.client.SchemaRegistryClientConfig;
+import io.confluent.kafka.schemaregistry.client.rest.entities.SchemaReference;
 import io.confluent.kafka.schemaregistry.client.rest.entities.SubjectVersion;
 import io.confluent.kafka.schemaregistry.client.rest.exceptions.RestClientException;
 import io.confluent.kafka.schemaregistry.json.JsonSchema;
@@ -32,6 +33,7 @@ import io.kafbat.ui.serde.api.PropertyResolver;
 import io.kafbat.ui.serde.api.SchemaDescription;
 import io.kafbat.ui.serde.api.SerdeParameter;
 import io.kafbat.ui.serdes.BuiltInSerde;
+import io.kafbat.ui.service.schemas.SchemaCatalogue;
 import io.kafbat.ui.service.ssl.SkipSecurityProvider;
 import io.kafbat.ui.util.jsonschema.AvroJsonSchemaConverter;
 import io.kafbat.ui.util.jsonschema.ProtobufSchemaConverter;
@@ -72,6 +74,9 @@ public class SchemaRegistrySerde implements BuiltInSerde {
   private Cache<Integer, List<String>> idToSubjectsCache;
   private Cache<String, Collection<String>> allSubjectsCache;
 
+  @Nullable
+  private volatile SchemaCatalogue schemaCatalogue;
+
   @Override
   public boolean canBeAutoConfigured(PropertyResolver kafkaClusterProperties,
                                      PropertyResolver globalProperties) {
@@ -196,6 +201,22 @@ public class SchemaRegistrySerde implements BuiltInSerde {
         .build();
   }
 
+  /**
+   * Makes serde resolve subjects and their latest versions from the schemas topic catalogue instead of
+   * querying registry. Registry is still used until catalogue is loaded.
+   */
+  public void useSchemaCatalogue(SchemaCatalogue catalogue) {
+    this.schemaCatalogue = catalogue;
+  }
+
+  public boolean usesRegistry(List<String> urls) {
+    return schemaRegistryUrls.equals(urls);
+  }
+
+  private Optional<SchemaCatalogue> loadedCatalogue() {
+    return Optional.ofNullable(schemaCatalogue).filter(SchemaCatalogue::isReady);
+  }
+
   private static SchemaRegistryClient createSchemaRegistryClient(List<String> urls,
                                                                  @Nullable String username,
                                                                  @Nullable String password,
@@ -303,6 +324,18 @@ public class SchemaRegistrySerde implements BuiltInSerde {
   }
 
   private Optional<SchemaMetadata> getSchemaBySubject(String subject) {
+    var catalogue = loadedCatalogue();
+    if (catalogue.isPresent()) {
+      return catalogue.get().latestVersion(subject)
+          .map(v -> new SchemaMetadata(
+              v.id(),
+              v.version(),
+              v.schemaType(),
+              v.references().stream()
+                  .map(r -> new SchemaReference(r.name(), r.subject(), r.version()))
+                  .toList(),
+              v.schema()));
+    }
     return wrapWith404Handler(() -> schemaRegistryClient.getLatestSchemaMetadata(subject));
   }
 
@@ -325,13 +358,16 @@ public class SchemaRegistrySerde implements BuiltInSerde {
 
   @SneakyThrows
   List<String> getSchemaSubjects(String topic, Target type) {
-    var allSubjects = allSubjectsCache.get("all", k -> {
-      try {
-        return schemaRegistryClient.getAllSubjects();
-      } catch (Exception e) {
-        throw new RuntimeException("Error fetching all subjects from Schema Registry", e);
-      }
-    });
+    var catalogue = loadedCatalogue();
+    Collection<String> allSubjects = catalogue.isPresent()
+        ? catalogue.get().subjects()
+        : allSubjectsCache.get("all", k -> {
+          try {
+            return schemaRegistryClient.getAllSubjects();
+          } catch (Exception e) {
+            throw new RuntimeException("Error fetching all subjects from Schema Registry", e);
+          }
+        });
     if (allSubjects == null || allSubjects.isEmpty()) {
       return List.of();
     }
@@ -446,6 +482,10 @@ public class SchemaRegistrySerde implements BuiltInSerde {
   }
 
   private List<String> getSubjectsById(int schemaId) {
+    var catalogue = loadedCatalogue();
+    if (catalogue.isPresent()) {
+      return catalogue.get().subjectsById(schemaId);
+    }
     return idToSubjectsCache.get(schemaId, (id) -> {
       try {
         return schemaRegistryClient.getAllVersionsById(id).stream()
@@ -3,6 +3,7 @@ package io.kafbat.ui.service;
 import com.google.common.collect.ImmutableMap;
 import io.kafbat.ui.config.ClustersProperties;
 import io.kafbat.ui.model.KafkaCluster;
+import jakarta.annotation.PreDestroy;
 import java.util.Collection;
 import java.util.Optional;
 import org.springframework.stereotype.Component;
@@ -18,6 +19,12 @@ public class ClustersStorage {
     this.kafkaClusters = builder.build();
   }
 
+  // clusters are re-created with new context on config reload, so their metrics sinks should be released
+  @PreDestroy
+  public void close() {
+    kafkaClusters.values().forEach(c -> c.getMetricsScrapping().close());
+  }
+
   public Collection<KafkaCluster> getKafkaClusters() {
     return kafkaClusters.values();
   }
@@ -1,7 +1,7 @@
 package io.kafbat.ui.service;
 
-import static io.kafbat.ui.util.ConsumerGroupUtil.calculateLag;
-
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.collect.Streams;
 import com.google.common.collect.Table;
 import io.kafbat.ui.config.ClustersProperties;
@@ -17,10 +17,14 @@ import io.kafbat.ui.model.ServerStatusDTO;
 import io.kafbat.ui.model.SortOrderDTO;
 import io.kafbat.ui.model.Statistics;
 import io.kafbat.ui.service.index.ConsumerGroupFilter;
+import io.kafbat.ui.service.metrics.scrape.ConsumerGroupsLagIndex;
+import io.kafbat.ui.service.metrics.scrape.ConsumerGroupsLagIndex.GroupLag;
+import io.kafbat.ui.service.metrics.scrape.OffsetsByPartition;
 import io.kafbat.ui.service.metrics.scrape.ScrapedClusterState;
 import io.kafbat.ui.service.rbac.AccessControlService;
 import io.kafbat.ui.util.ApplicationMetrics;
 import io.kafbat.ui.util.KafkaClientSslPropertiesUtil;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -57,6 +61,11 @@ public class ConsumerGroupService {
   private final ClustersProperties clustersProperties;
   private final StatisticsCache statisticsCache;
 
+  private final Cache<GroupLagKey, ConsumerGroupLagDTO> groupLagsCache = Caffeine.newBuilder()
+      .maximumSize(10_000)
+      .expireAfterWrite(Duration.ofMinutes(5))
+      .build();
+
   private Mono<List<InternalConsumerGroup>> getConsumerGroups(
       ReactiveAdminClient ac,
       List<ConsumerGroupDescription> descriptions) {
@@ -135,9 +144,8 @@ public class ConsumerGroupService {
         ac.listConsumerGroups()
             .map(listing -> filterGroups(listing, search, fts))
             .map(listing -> filterByState(listing, states))
-            .flatMapIterable(lst -> lst)
-            .filterWhen(cg -> accessControlService.isConsumerGroupAccessible(cg.groupId(), cluster.getName()))
-            .collectList()
+            .flatMap(listing -> accessControlService.filterViewableConsumerGroups(
+                listing, ConsumerGroupListing::groupId, cluster.getName()))
             .flatMap(allGroups ->
                 loadSortedDescriptions(cluster, ac, allGroups, pageNum, perPage, orderBy, sortOrderDto)
                     .flatMap(descriptions -> getConsumerGroups(cluster, ac, descriptions)
@@ -277,31 +285,25 @@ public class ConsumerGroupService {
       KafkaCluster cluster, Collection<String> groupNames, boolean includePartitions, Optional<Long> lastUpdate) {
     Statistics statistics = statisticsCache.get(cluster);
 
-    Map<TopicPartition, Long> endOffsets = statistics.getClusterState().getTopicStates().entrySet().stream()
-        .flatMap(e -> e.getValue().endOffsets().entrySet().stream().map(p ->
-            Map.entry(new TopicPartition(e.getKey(), p.getKey()), p.getValue()))
-        ).collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-
     if (statistics.getStatus().equals(ServerStatusDTO.ONLINE)) {
+      ScrapedClusterState clusterState = statistics.getClusterState();
       boolean select = lastUpdate
-          .map(t -> statistics.getClusterState().getScrapeFinishedAt().isAfter(Instant.ofEpochMilli(t)))
+          .map(t -> clusterState.getScrapeFinishedAt().isAfter(Instant.ofEpochMilli(t)))
           .orElse(true);
 
       if (select) {
-        Map<String, ScrapedClusterState.ConsumerGroupState> consumerGroupsStates =
-            statistics.getClusterState().getConsumerGroupsStates();
-
-        return Mono.just(
-            Tuples.of(
-                groupNames.stream()
-                    .map(g -> Optional.ofNullable(consumerGroupsStates.get(g)))
-                    .filter(Optional::isPresent)
-                    .map(Optional::get)
-                    .map(g -> Map.entry(g.group(), buildConsumerGroup(g, endOffsets, includePartitions)))
-                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)),
-                Optional.of(statistics.getClusterState().getScrapeFinishedAt().toEpochMilli())
-            )
-        );
+        Map<String, ConsumerGroupLagDTO> lags = new HashMap<>();
+        for (String group : groupNames) {
+          var groupState = clusterState.getConsumerGroupsStates().get(group);
+          if (groupState != null) {
+            var key = new GroupLagKey(cluster.getName(), clusterState.getVersion(), group, includePartitions);
+            lags.put(
+                group,
+                groupLagsCache.get(key, k -> buildConsumerGroup(groupState, clusterState, includePartitions))
+            );
+          }
+        }
+        return Mono.just(Tuples.of(lags, Optional.of(clusterState.getScrapeFinishedAt().toEpochMilli())));
       }
 
     }
@@ -311,73 +313,57 @@ public class ConsumerGroupService {
 
   private ConsumerGroupLagDTO buildConsumerGroup(
       ScrapedClusterState.ConsumerGroupState state,
-      Map<TopicPartition, Long> endOffsets,
+      ScrapedClusterState clusterState,
       boolean includePartitions
   ) {
-    var commitedTopicPartitions = Stream.concat(
-        state.description().members().stream()
-            .flatMap(m ->
-                m.assignment().topicPartitions().stream()
-                    .map(t -> Map.entry(t, Optional.<Long>empty()))
-            ),
-        state.committedOffsets().entrySet().stream()
-            .map(o -> Map.entry(o.getKey(), Optional.ofNullable(o.getValue())))
-    ).collect(
-        Collectors.groupingBy(
-            Map.Entry::getKey,
-            Collectors.mapping(Map.Entry::getValue,
-                Collectors.<Optional<Long>>reducing(
-                    Optional.empty(),
-                    (a, b) -> Stream.of(a, b)
-                        .flatMap(Optional::stream)
-                        .max(Long::compare)
-                )
-            )
-        )
-    );
-
-    Map<TopicPartition, Long> topicPartitionsLags = commitedTopicPartitions.entrySet().stream()
-        .map(e ->
-            Map.entry(
-                e.getKey(),
-                calculateLag(e.getValue(), Optional.ofNullable(endOffsets.get(e.getKey()))).orElse(0L)
-            )
-        ).collect(
-            Collectors.groupingBy(
-                Map.Entry::getKey,
-                Collectors.reducing(0L, Map.Entry::getValue, Long::sum)
-            )
-        );
-
-    Map<String, Long> topicsLags = topicPartitionsLags.entrySet().stream().collect(
-            Collectors.groupingBy(
-              (e) -> e.getKey().topic(),
-              Collectors.reducing(0L, Map.Entry::getValue, Long::sum)
-            )
-        );
-
-    long lag = topicsLags.values().stream().mapToLong(v -> v).sum();
+    Map<TopicPartition, Long> committedOffsets = state.committedOffsets();
+    Map<String, Long> topicsLags = new HashMap<>();
+    Map<String, Map<String, Long>> partitionsLags = includePartitions ? new HashMap<>() : null;
+
+    long lag = 0;
+    for (Map.Entry<TopicPartition, Long> committed : committedOffsets.entrySet()) {
+      TopicPartition tp = committed.getKey();
+      var topicState = clusterState.getTopicStates().get(tp.topic());
+      long endOffset = topicState == null ? OffsetsByPartition.UNKNOWN : topicState.endOffset(tp.partition());
+      long partitionLag = committed.getValue() != null && endOffset != OffsetsByPartition.UNKNOWN
+          ? endOffset - committed.getValue()
+          : 0L;
+      lag += partitionLag;
+      topicsLags.merge(tp.topic(), partitionLag, Long::sum);
+      if (partitionsLags != null) {
+        partitionsLags.computeIfAbsent(tp.topic(), t -> new HashMap<>())
+            .put(String.valueOf(tp.partition()), partitionLag);
+      }
+    }
+    // partitions assigned to members, but without committed offsets, have no lag
+    for (var member : state.description().members()) {
+      for (TopicPartition tp : member.assignment().topicPartitions()) {
+        if (!committedOffsets.containsKey(tp)) {
+          topicsLags.putIfAbsent(tp.topic(), 0L);
+          if (partitionsLags != null) {
+            partitionsLags.computeIfAbsent(tp.topic(), t -> new HashMap<>())
+                .putIfAbsent(String.valueOf(tp.partition()), 0L);
+          }
+        }
+      }
+    }
 
     Map<String, ConsumerGroupTopicLagDTO> lagByTopicPartition = null;
-
-    if (includePartitions) {
-      lagByTopicPartition = topicPartitionsLags.entrySet()
-          .stream()
-          .collect(Collectors.groupingBy(
-              e -> e.getKey().topic(),   // group by topic name
-              Collectors.collectingAndThen(
-                  Collectors.toMap(
-                      e -> String.valueOf(e.getKey().partition()), // partition as String
-                      Map.Entry::getValue                          // lag
-                  ),
-                  ConsumerGroupTopicLagDTO::new
-              )
-          ));
+    if (partitionsLags != null) {
+      lagByTopicPartition = new HashMap<>(partitionsLags.size());
+      for (Map.Entry<String, Map<String, Long>> e : partitionsLags.entrySet()) {
+        lagByTopicPartition.put(e.getKey(), new ConsumerGroupTopicLagDTO(e.getValue()));
+      }
     }
 
     return new ConsumerGroupLagDTO(lag, topicsLags, lagByTopicPartition);
   }
 
+  // lags are memoized per cluster state version, since UI polls them periodically and they can't change
+  // until next scrape or topics update (which changes end offsets)
+  private record GroupLagKey(String cluster, long stateVersion, String group, boolean includePartitions) {
+  }
+
   public record ConsumerGroupsPage(List<InternalConsumerGroup> consumerGroups, int totalPages) {
     public static ConsumerGroupsPage from(List<InternalConsumerGroup> groups,
                                           int totalSize,
@@ -437,23 +423,42 @@ public class ConsumerGroupService {
                 sortAndPaginate(descriptions.values(), comparator, pageNum, perPage, sortOrderDto).toList());
       }
       case MESSAGES_BEHIND -> {
-
-        Comparator<GroupWithDescr> comparator = Comparator.comparingLong(gwd ->
-            gwd.icg.getConsumerLag() == null ? 0L : gwd.icg.getConsumerLag());
-
-        yield loadDescriptionsByInternalConsumerGroups(cluster, ac, groups, comparator, pageNum, perPage, sortOrderDto);
+        Comparator<GroupLag> comparator = Comparator.comparingLong(l -> l.lag() == null ? 0L : l.lag());
+        yield loadDescriptionsByLag(cluster, ac, groups, comparator, pageNum, perPage, sortOrderDto);
       }
-
       case TOPIC_NUM -> {
-
-        Comparator<GroupWithDescr> comparator = Comparator.comparingInt(gwd -> gwd.icg.getTopicNum());
-
-        yield loadDescriptionsByInternalConsumerGroups(cluster, ac, groups, comparator, pageNum, perPage, sortOrderDto);
-
+        Comparator<GroupLag> comparator = Comparator.comparingInt(GroupLag::topicNum);
+        yield loadDescriptionsByLag(cluster, ac, groups, comparator, pageNum, perPage, sortOrderDto);
       }
     };
   }
 
+  // sorting by lags pre-calculated on scrape, so only groups of requested page are described
+  private Mono<List<ConsumerGroupDescription>> loadDescriptionsByLag(KafkaCluster cluster,
+                                                                     ReactiveAdminClient ac,
+                                                                     List<ConsumerGroupListing> groups,
+                                                                     Comparator<GroupLag> comparator,
+                                                                     OptionalInt pageNum,
+                                                                     OptionalInt perPage,
+                                                                     SortOrderDTO sortOrderDto) {
+    Statistics statistics = statisticsCache.get(cluster);
+    if (!statistics.getStatus().equals(ServerStatusDTO.ONLINE)) {
+      Comparator<GroupWithDescr> liveComparator = Comparator.comparing(
+          gwd -> new GroupLag(gwd.icg.getConsumerLag(), Map.of(), gwd.icg.getTopicNum()),
+          comparator
+      );
+      return loadDescriptionsByInternalConsumerGroups(cluster, ac, groups, liveComparator, pageNum, perPage,
+          sortOrderDto);
+    }
+    // groups created after last scrape are treated as groups without lag
+    ConsumerGroupsLagIndex lagIndex = statistics.getClusterState().getConsumerGroupsLagIndex();
+    Comparator<ConsumerGroupListing> listingComparator = Comparator.comparing(
+        listing -> lagIndex.get(listing.groupId()),
+        comparator
+    );
+    return loadDescriptionsByListings(ac, groups, listingComparator, pageNum, perPage, sortOrderDto);
+  }
+
   private Mono<List<ConsumerGroupDescription>> loadDescriptionsByListings(ReactiveAdminClient ac,
                                                                           List<ConsumerGroupListing> listings,
                                                                           Comparator<ConsumerGroupListing> comparator,
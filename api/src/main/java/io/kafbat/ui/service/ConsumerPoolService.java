@@ -0,0 +1,72 @@
+package io.kafbat.ui.service;
+
+import io.kafbat.ui.config.ClustersProperties;
+import io.kafbat.ui.emitter.EnhancedConsumer;
+import io.kafbat.ui.emitter.EnhancedConsumerPool;
+import io.kafbat.ui.model.KafkaCluster;
+import io.kafbat.ui.util.ApplicationMetrics;
+import java.io.Closeable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.springframework.stereotype.Service;
+
+/**
+ * Provides consumers for messages browsing. Consumers are borrowed from per-cluster pools (if pooling is enabled)
+ * and should be closed after usage to return them back to the pool.
+ */
+@Service
+public class ConsumerPoolService implements Closeable {
+
+  private final ConsumerGroupService consumerGroupService;
+  private final ClustersProperties.ConsumerPoolProperties poolProperties;
+  private final Map<String, EnhancedConsumerPool> pools = new ConcurrentHashMap<>();
+
+  public ConsumerPoolService(ConsumerGroupService consumerGroupService,
+                             ClustersProperties properties) {
+    this.consumerGroupService = consumerGroupService;
+    this.poolProperties = Optional.ofNullable(properties.getPolling())
+        .map(ClustersProperties.PollingProperties::getConsumerPool)
+        .orElseGet(ClustersProperties.ConsumerPoolProperties::new);
+  }
+
+  public EnhancedConsumer borrowConsumer(KafkaCluster cluster) {
+    return borrowConsumer(cluster, Map.of());
+  }
+
+  public EnhancedConsumer borrowConsumer(KafkaCluster cluster, Map<String, Object> propertiesOverrides) {
+    if (!poolProperties.isEnabled()) {
+      return consumerGroupService.createConsumer(cluster, propertiesOverrides);
+    }
+    return pools.computeIfAbsent(cluster.getName(), name -> createPool(cluster))
+        .borrow(poolKey(propertiesOverrides));
+  }
+
+  // max.poll.records is rounded up to power of two, so different page sizes share a few pool partitions.
+  // Emitters don't rely on exact max.poll.records value, polled records above the limit are skipped.
+  private static Map<String, Object> poolKey(Map<String, Object> propertiesOverrides) {
+    Object maxPollRecords = propertiesOverrides.get(ConsumerConfig.MAX_POLL_RECORDS_CONFIG);
+    if (!(maxPollRecords instanceof Integer records) || records <= 1) {
+      return propertiesOverrides;
+    }
+    var key = new HashMap<>(propertiesOverrides);
+    key.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, Integer.highestOneBit(records - 1) << 1);
+    return key;
+  }
+
+  private EnhancedConsumerPool createPool(KafkaCluster cluster) {
+    return new EnhancedConsumerPool(
+        cluster.getName(),
+        overrides -> consumerGroupService.createConsumer(cluster, overrides),
+        poolProperties,
+        ApplicationMetrics.forCluster(cluster)
+    );
+  }
+
+  @Override
+  public void close() {
+    pools.values().forEach(EnhancedConsumerPool::close);
+  }
+}
@@ -3,9 +3,12 @@ package io.kafbat.ui.service;
 import com.fasterxml.jackson.databind.AnnotationIntrospector;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
 import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import de.siegmar.fastcsv.writer.CsvWriter;
 import de.siegmar.fastcsv.writer.LineDelimiter;
 import de.siegmar.fastcsv.writer.QuoteStrategies;
@@ -30,7 +33,9 @@ public class CsvWriterService {
   private final ClustersProperties.Csv properties;
 
   public CsvWriterService(ClustersProperties properties) {
-    this.om = new ObjectMapper();
+    this.om = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
     this.om.setAnnotationIntrospector(
         AnnotationIntrospector.pair(
             new CustomIgnoreIntrospector(),
@@ -54,6 +59,36 @@ public class CsvWriterService {
   }
 
 
+  /**
+   * Writes items one by one, emitting CSV line (with header line before the first item) for each of them.
+   * Columns are taken from {@code type}'s serializable properties, so all lines have the same columns
+   * regardless of which properties are set in particular item.
+   */
+  public <T> Flux<String> writeLines(Flux<T> items, Class<T> type) {
+    List<String> columns = columns(type);
+    return items.index().map(indexed -> {
+      final StringWriter sw = new StringWriter();
+      try (CsvWriter writer = writer(sw)) {
+        if (indexed.getT1() == 0) {
+          writer.writeRecord(columns);
+        }
+        JsonNode jsonNode = om.valueToTree(indexed.getT2());
+        writer.writeRecord(columns.stream().map(c -> jsonNode.path(c)).map(v -> v.isNull() ? "" : toText(v)).toList());
+      } catch (IOException ignored) {
+
+      }
+      return sw.toString();
+    });
+  }
+
+  private List<String> columns(Class<?> type) {
+    var config = om.getSerializationConfig();
+    return config.introspect(config.constructType(type)).findProperties().stream()
+        .map(BeanPropertyDefinition::getName)
+        .filter(name -> !SKIPPED_COLUMNS.contains(name))
+        .toList();
+  }
+
   public <T> String write(List<T> items) {
     final StringWriter sw = new StringWriter();
     try (CsvWriter writer = writer(sw)) {
@@ -12,8 +12,10 @@ import io.kafbat.ui.serdes.ConsumerRecordDeserializer;
 import io.kafbat.ui.serdes.ProducerRecordCreator;
 import io.kafbat.ui.serdes.SerdeInstance;
 import io.kafbat.ui.serdes.SerdesInitializer;
+import io.kafbat.ui.service.schemas.SchemaCatalogueService;
 import java.io.Closeable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -34,12 +36,18 @@ public class DeserializationService implements Closeable {
 
   public DeserializationService(Environment env,
                                 ClustersStorage clustersStorage,
-                                ClustersProperties clustersProperties) {
+                                ClustersProperties clustersProperties,
+                                SchemaCatalogueService schemaCatalogueService) {
     var serdesInitializer = new SerdesInitializer();
     for (int i = 0; i < clustersProperties.getClusters().size(); i++) {
       var clusterProperties = clustersProperties.getClusters().get(i);
       var cluster = clustersStorage.getClusterByName(clusterProperties.getName()).get();
-      clusterSerdes.put(cluster.getName(), serdesInitializer.init(env, clustersProperties, i));
+      var serdes = serdesInitializer.init(env, clustersProperties, i);
+      schemaCatalogueService.get(cluster.getName())
+          .ifPresent(catalogue -> serdes.useSchemaCatalogue(
+              Arrays.stream(clusterProperties.getSchemaRegistry().split(",")).map(String::trim).toList(),
+              catalogue));
+      clusterSerdes.put(cluster.getName(), serdes);
     }
   }
 
@@ -107,6 +115,7 @@ public class DeserializationService implements Closeable {
     var keySerde = getSerdeForDeserialize(cluster, topic, Serde.Target.KEY, keySerdeName);
     var valueSerde = getSerdeForDeserialize(cluster, topic, Serde.Target.VALUE, valueSerdeName);
     var fallbackSerde = getSerdesFor(cluster).getFallbackSerde();
+    var masking = cluster.getMasking();
     return new ConsumerRecordDeserializer(
         keySerde.getName(),
         keySerde.deserializer(topic, Serde.Target.KEY),
@@ -115,7 +124,9 @@ public class DeserializationService implements Closeable {
         fallbackSerde.getName(),
         fallbackSerde.deserializer(topic, Serde.Target.KEY),
         fallbackSerde.deserializer(topic, Serde.Target.VALUE),
-        cluster.getMasking().getMaskerForTopic(topic)
+        masking.getMaskerForTopic(topic),
+        keySerde.deserializesToRawUtf8Text() && !masking.hasMasksForTopic(topic, Serde.Target.KEY),
+        valueSerde.deserializesToRawUtf8Text() && !masking.hasMasksForTopic(topic, Serde.Target.VALUE)
     );
   }
 
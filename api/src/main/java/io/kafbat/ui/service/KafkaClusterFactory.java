@@ -22,6 +22,8 @@ import io.kafbat.ui.service.metrics.scrape.MetricsScraper;
 import io.kafbat.ui.service.metrics.scrape.jmx.JmxMetricsRetriever;
 import io.kafbat.ui.sr.ApiClient;
 import io.kafbat.ui.sr.api.KafkaSrClientApi;
+import io.kafbat.ui.util.ApplicationMetrics;
+import io.kafbat.ui.util.CallGuard;
 import io.kafbat.ui.util.KafkaServicesValidation;
 import io.kafbat.ui.util.ReactiveFailover;
 import io.kafbat.ui.util.WebClientConfigurator;
@@ -87,7 +89,7 @@ public class KafkaClusterFactory {
     builder.metricsScrapping(MetricsScraper.create(clusterProperties, jmxMetricsRetriever));
 
     if (schemaRegistryConfigured(clusterProperties)) {
-      builder.schemaRegistryClient(schemaRegistryClient(clusterProperties));
+      builder.schemaRegistryClient(schemaRegistryClient(clusterProperties, true));
       builder.schemaRegistryTopicSubjectSuffix(clusterProperties.getSchemaRegistryTopicSubjectSuffix());
     }
     if (connectClientsConfigured(clusterProperties)) {
@@ -95,7 +97,7 @@ public class KafkaClusterFactory {
       builder.connectsConfigs(connectConfigs(clusterProperties));
     }
     if (ksqlConfigured(clusterProperties)) {
-      builder.ksqlClient(ksqlClient(clusterProperties));
+      builder.ksqlClient(ksqlClient(clusterProperties, true));
     }
     if (prometheusStorageConfigured(properties.getDefaultMetricsStorage())) {
       builder.prometheusStorageClient(
@@ -131,17 +133,17 @@ public class KafkaClusterFactory {
             clusterProperties.getSsl()
         ),
         schemaRegistryConfigured(clusterProperties)
-            ? validateSchemaRegistry(() -> schemaRegistryClient(clusterProperties)).map(Optional::of)
+            ? validateSchemaRegistry(() -> schemaRegistryClient(clusterProperties, false)).map(Optional::of)
             : Mono.<Optional<ApplicationPropertyValidationDTO>>just(Optional.empty()),
 
         ksqlConfigured(clusterProperties)
-            ? validateKsql(() -> ksqlClient(clusterProperties)).map(Optional::of)
+            ? validateKsql(() -> ksqlClient(clusterProperties, false)).map(Optional::of)
             : Mono.<Optional<ApplicationPropertyValidationDTO>>just(Optional.empty()),
 
         connectClientsConfigured(clusterProperties)
             ? Flux.fromIterable(clusterProperties.getKafkaConnect())
             .flatMap(c ->
-                KafkaServicesValidation.validateConnect(() -> connectClient(clusterProperties, c))
+                KafkaServicesValidation.validateConnect(() -> connectClient(clusterProperties, c, false))
                     .map(r -> Tuples.of(c.getName(), r)))
             .collectMap(Tuple2::getT1, Tuple2::getT2)
             .map(Optional::of)
@@ -212,7 +214,8 @@ public class KafkaClusterFactory {
   private Map<String, ReactiveFailover<KafkaConnectClientApi>> connectClients(
       ClustersProperties.Cluster clusterProperties) {
     Map<String, ReactiveFailover<KafkaConnectClientApi>> connects = new HashMap<>();
-    clusterProperties.getKafkaConnect().forEach(c -> connects.put(c.getName(), connectClient(clusterProperties, c)));
+    clusterProperties.getKafkaConnect()
+        .forEach(c -> connects.put(c.getName(), connectClient(clusterProperties, c, true)));
     return connects;
   }
 
@@ -224,7 +227,8 @@ public class KafkaClusterFactory {
   }
 
   private ReactiveFailover<KafkaConnectClientApi> connectClient(ClustersProperties.Cluster cluster,
-                                                                ClustersProperties.ConnectCluster connectCluster) {
+                                                                ClustersProperties.ConnectCluster connectCluster,
+                                                                boolean guarded) {
     return ReactiveFailover.create(
         parseUrlList(connectCluster.getAddress()),
         url -> new RetryingKafkaConnectClient(
@@ -233,6 +237,7 @@ public class KafkaClusterFactory {
             webClientMaxBuffSize,
             responseTimeout
         ),
+        callGuards(cluster, guarded, "connect", "Kafka Connect '%s'".formatted(connectCluster.getName())),
         ReactiveFailover.CONNECTION_REFUSED_EXCEPTION_FILTER,
         "No alive connect instances available",
         ReactiveFailover.DEFAULT_RETRY_GRACE_PERIOD_MS
@@ -243,7 +248,8 @@ public class KafkaClusterFactory {
     return clusterProperties.getSchemaRegistry() != null;
   }
 
-  private ReactiveFailover<KafkaSrClientApi> schemaRegistryClient(ClustersProperties.Cluster clusterProperties) {
+  private ReactiveFailover<KafkaSrClientApi> schemaRegistryClient(ClustersProperties.Cluster clusterProperties,
+                                                                  boolean guarded) {
     var basicAuth = Optional.ofNullable(clusterProperties.getSchemaRegistryAuth())
         .orElse(new ClustersProperties.SchemaRegistryAuth());
     var oauth = Optional.ofNullable(basicAuth.getOauth())
@@ -283,17 +289,18 @@ public class KafkaClusterFactory {
     return ReactiveFailover.create(
         parseUrlList(clusterProperties.getSchemaRegistry()),
         url -> new KafkaSrClientApi(new ApiClient(webClient, null, null).setBasePath(url)),
+        callGuards(clusterProperties, guarded, "schema_registry", "Schema Registry"),
         ReactiveFailover.CONNECTION_REFUSED_EXCEPTION_FILTER,
         "No live schemaRegistry instances available",
         ReactiveFailover.DEFAULT_RETRY_GRACE_PERIOD_MS
-    );
+    ).withLatencyAwareRouting();
   }
 
   private boolean ksqlConfigured(ClustersProperties.Cluster clusterProperties) {
     return clusterProperties.getKsqldbServer() != null;
   }
 
-  private ReactiveFailover<KsqlApiClient> ksqlClient(ClustersProperties.Cluster clusterProperties) {
+  private ReactiveFailover<KsqlApiClient> ksqlClient(ClustersProperties.Cluster clusterProperties, boolean guarded) {
     return ReactiveFailover.create(
         parseUrlList(clusterProperties.getKsqldbServer()),
         url -> new KsqlApiClient(
@@ -303,10 +310,23 @@ public class KafkaClusterFactory {
             clusterProperties.getKsqldbServerSsl(),
             webClientMaxBuffSize
         ),
+        callGuards(clusterProperties, guarded, "ksqldb", "KsqlDB server"),
         ReactiveFailover.CONNECTION_REFUSED_EXCEPTION_FILTER,
         "No live ksqldb instances available",
         ReactiveFailover.DEFAULT_RETRY_GRACE_PERIOD_MS
-    );
+    ).withLatencyAwareRouting();
+  }
+
+  // guards are not created for short-lived clients used for config validation
+  private Function<String, CallGuard> callGuards(ClustersProperties.Cluster cluster,
+                                                 boolean guarded,
+                                                 String service,
+                                                 String serviceName) {
+    if (!guarded) {
+      return url -> null;
+    }
+    var metrics = ApplicationMetrics.forCluster(cluster.getName());
+    return url -> CallGuard.create(metrics, service, serviceName, url);
   }
 
   private List<String> parseUrlList(String url) {
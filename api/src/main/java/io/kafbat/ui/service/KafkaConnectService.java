@@ -34,6 +34,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
@@ -47,10 +48,16 @@ import reactor.util.function.Tuples;
 @Service
 @Slf4j
 public class KafkaConnectService {
+  private static final int CONNECTOR_TOPICS_CONCURRENCY = 8;
+
+  private record ConnectKey(String cluster, String connect) {
+  }
+
   private final KafkaConnectMapper kafkaConnectMapper;
   private final KafkaConfigSanitizer kafkaConfigSanitizer;
   private final ClustersProperties clustersProperties;
   private final StatisticsCache statisticsCache;
+  private final Map<ConnectKey, KafkaConnectState> staleConnectStates = new ConcurrentHashMap<>();
 
   public KafkaConnectService(KafkaConnectMapper kafkaConnectMapper,
                              KafkaConfigSanitizer kafkaConfigSanitizer,
@@ -114,54 +121,89 @@ public class KafkaConnectService {
     );
   }
 
+  /**
+   * Returns connectors of all cluster's Connects. Unless fresh is requested, connectors are taken from
+   * last scraped state, Connects without up-to-date scraped state are queried directly. If Connect
+   * is not available (or rejected by its call guard), last scraped state is returned, unless fresh
+   * connectors were requested - then error is propagated.
+   */
   public Flux<FullConnectorInfoDTO> getAllConnectors(final KafkaCluster cluster,
-                                                     @Nullable final String search, Boolean fts) {
-    return getConnects(cluster, false)
-        .flatMap(connect ->
-            getConnectorsWithErrorsSuppress(cluster, connect.getName())
-                .flatMapMany(connectors ->
-                    Flux.fromIterable(connectors.entrySet())
-                        .flatMap(e ->
-                          getConnectorTopics(
-                              cluster,
-                              connect.getName(),
-                              e.getKey()
-                          ).map(topics ->
-                              kafkaConnectMapper.fromClient(connect, e.getValue(), topics.getTopics())
-                          ).map(i -> checkConsumerGroup(cluster, i))
-                        )
-                )
-        ).map(kafkaConnectMapper::fullConnectorInfo)
+                                                     @Nullable final String search,
+                                                     Boolean fts,
+                                                     boolean fresh) {
+    Map<String, KafkaConnectState> scraped = statisticsCache.get(cluster).getConnectStates();
+    return Flux.fromIterable(connectClusters(cluster))
+        .flatMap(connect -> {
+          KafkaConnectState state = scraped.get(connect.getName());
+          if (state != null && !fresh && !isStale(cluster, state)) {
+            return fromScrapedState(cluster, state);
+          }
+          return loadConnectors(cluster, connect)
+              .map(i -> checkConsumerGroup(cluster, i))
+              .map(kafkaConnectMapper::fullConnectorInfo)
+              .onErrorResume(th -> {
+                if (fresh) {
+                  return Flux.error(th);
+                }
+                log.warn("Error loading connectors of Connect '{}': {}", connect.getName(), th.getMessage());
+                return state == null ? Flux.empty() : fromScrapedState(cluster, state);
+              });
+        })
         .collectList()
         .map(lst -> filterConnectors(lst, search, fts))
         .flatMapMany(Flux::fromIterable);
   }
 
+  private Flux<FullConnectorInfoDTO> fromScrapedState(KafkaCluster cluster, KafkaConnectState state) {
+    return Flux.fromIterable(state.getConnectors())
+        .map(c -> kafkaConnectMapper.fullConnectorInfo(state.getName(), c)
+            .consumer(Optional.ofNullable(c.consumer())
+                .flatMap(group -> getConsumerGroup(cluster, group))
+                .orElse(null)));
+  }
+
   public Flux<KafkaConnectState> scrapeAllConnects(KafkaCluster cluster) {
+    Map<String, KafkaConnectState> lastScraped = statisticsCache.get(cluster).getConnectStates();
+    return Flux.fromIterable(connectClusters(cluster)).flatMap(c ->
+        getClusterInfo(cluster, c.getName())
+            .map(info -> kafkaConnectMapper.toKafkaConnect(c, List.of(), info, false))
+            .onErrorResume((_) -> Mono.just(new ConnectDTO().name(c.getName())))
+            .flatMap(connect -> loadConnectors(cluster, c)
+                .collectList()
+                .map(connectors -> kafkaConnectMapper.toScrapeState(connect, connectors))
+                // keeping last known state while Connect is unavailable
+                .onErrorResume(_ -> Mono.just(Optional.ofNullable(lastScraped.get(c.getName()))
+                    .orElseGet(() -> kafkaConnectMapper.toScrapeState(connect, List.of())))))
+    );
+  }
 
-    Optional<List<ClustersProperties.@Valid ConnectCluster>> connectClusters =
-        Optional.ofNullable(cluster.getOriginalProperties().getKafkaConnect());
+  // loads connectors using bulk (expanded with info and status) endpoint, topics are requested per connector
+  private Flux<InternalConnectorInfo> loadConnectors(KafkaCluster cluster,
+                                                     ClustersProperties.ConnectCluster connect) {
+    return getConnectors(cluster, connect.getName())
+        .flatMapMany(connectors -> Flux.fromIterable(connectors.entrySet()))
+        .flatMap(e ->
+                getConnectorTopics(cluster, connect.getName(), e.getKey())
+                    .map(topics -> kafkaConnectMapper.fromClient(connect, e.getValue(), topics.getTopics())),
+            CONNECTOR_TOPICS_CONCURRENCY
+        );
+  }
 
-    return Flux.fromIterable(connectClusters.orElse(List.of())).flatMap(c ->
-        getClusterInfo(cluster, c.getName()).map(info ->
-                kafkaConnectMapper.toKafkaConnect(c, List.of(), info, false)
-        ).onErrorResume((_) -> Mono.just(new ConnectDTO().name(c.getName())))
-    ).flatMap(connect ->
-        getConnectorsWithErrorsSuppress(cluster, connect.getName())
-            .onErrorResume(_ -> Mono.just(Map.of()))
-            .flatMapMany(connectors ->
-                Flux.fromIterable(connectors.entrySet())
-                    .flatMap(e ->
-                        getConnectorTopics(
-                            cluster,
-                            connect.getName(),
-                            e.getKey()
-                        ).map(topics ->
-                            kafkaConnectMapper.fromClient(connect, e.getValue(), topics.getTopics())
-                        )
-                    )
-            ).collectList().map(connectors -> kafkaConnectMapper.toScrapeState(connect, connectors))
-    );
+  private List<ClustersProperties.ConnectCluster> connectClusters(KafkaCluster cluster) {
+    return Optional.ofNullable(cluster.getOriginalProperties().getKafkaConnect()).orElse(List.of());
+  }
+
+  // scraped state is considered stale if connectors were changed via UI after it was scraped
+  private boolean isStale(KafkaCluster cluster, KafkaConnectState state) {
+    var key = new ConnectKey(cluster.getName(), state.getName());
+    // entry for previously scraped state is not needed anymore
+    staleConnectStates.computeIfPresent(key, (k, stale) -> stale == state ? stale : null);
+    return staleConnectStates.get(key) == state;
+  }
+
+  private void onConnectorsChange(KafkaCluster cluster, String connectName) {
+    Optional.ofNullable(statisticsCache.get(cluster).getConnectStates().get(connectName))
+        .ifPresent(state -> staleConnectStates.put(new ConnectKey(cluster.getName(), connectName), state));
   }
 
   private List<FullConnectorInfoDTO> filterConnectors(
@@ -214,7 +256,7 @@ public class KafkaConnectService {
                 .map(kafkaConnectMapper::toClient)
                 .flatMap(client::createConnector)
                 .flatMap(c -> getConnector(cluster, connectName, c.getName()))
-        );
+        ).doOnSuccess(_ -> onConnectorsChange(cluster, connectName));
   }
 
   private Mono<Boolean> connectorExists(KafkaCluster cluster, String connectName,
@@ -267,13 +309,15 @@ public class KafkaConnectService {
         .mono(c ->
             requestBody
                 .flatMap(body -> c.setConnectorConfig(connectorName, body))
-                .map(kafkaConnectMapper::fromClient));
+                .map(kafkaConnectMapper::fromClient))
+        .doOnSuccess(_ -> onConnectorsChange(cluster, connectName));
   }
 
   public Mono<Void> deleteConnector(
       KafkaCluster cluster, String connectName, String connectorName) {
     return api(cluster, connectName)
-        .mono(c -> c.deleteConnector(connectorName));
+        .mono(c -> c.deleteConnector(connectorName))
+        .doOnSuccess(_ -> onConnectorsChange(cluster, connectName));
   }
 
   public Mono<Void> updateConnectorState(KafkaCluster cluster, String connectName,
@@ -288,7 +332,7 @@ public class KafkaConnectService {
               case STOP -> client.stopConnector(connectorName);
               case RESUME -> client.resumeConnector(connectorName);
             }
-        );
+        ).doOnSuccess(_ -> onConnectorsChange(cluster, connectName));
   }
 
   private Mono<Void> restartTasks(KafkaCluster cluster, String connectName,
@@ -322,7 +366,8 @@ public class KafkaConnectService {
   public Mono<Void> restartConnectorTask(KafkaCluster cluster, String connectName,
                                          String connectorName, Integer taskId) {
     return api(cluster, connectName)
-        .mono(client -> client.restartConnectorTask(connectorName, taskId));
+        .mono(client -> client.restartConnectorTask(connectorName, taskId))
+        .doOnSuccess(_ -> onConnectorsChange(cluster, connectName));
   }
 
   public Flux<ConnectorPluginDTO> getConnectorPlugins(KafkaCluster cluster,
@@ -8,6 +8,7 @@ import com.google.common.util.concurrent.RateLimiter;
 import io.kafbat.ui.config.ClustersProperties;
 import io.kafbat.ui.emitter.BackwardEmitter;
 import io.kafbat.ui.emitter.Cursor;
+import io.kafbat.ui.emitter.EnhancedConsumer;
 import io.kafbat.ui.emitter.ForwardEmitter;
 import io.kafbat.ui.emitter.MessageFilters;
 import io.kafbat.ui.emitter.TailingEmitter;
@@ -33,7 +34,9 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
@@ -49,6 +52,7 @@ import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
@@ -66,7 +70,7 @@ public class MessagesService {
 
   private final AdminClientService adminClientService;
   private final DeserializationService deserializationService;
-  private final ConsumerGroupService consumerGroupService;
+  private final ConsumerPoolService consumerPoolService;
   private final int maxPageSize;
   private final int defaultPageSize;
 
@@ -78,11 +82,11 @@ public class MessagesService {
 
   public MessagesService(AdminClientService adminClientService,
                          DeserializationService deserializationService,
-                         ConsumerGroupService consumerGroupService,
+                         ConsumerPoolService consumerPoolService,
                          ClustersProperties properties) {
     this.adminClientService = adminClientService;
     this.deserializationService = deserializationService;
-    this.consumerGroupService = consumerGroupService;
+    this.consumerPoolService = consumerPoolService;
 
     var pollingProps = Optional.ofNullable(properties.getPolling())
         .orElseGet(ClustersProperties.PollingProperties::new);
@@ -248,6 +252,52 @@ public class MessagesService {
     );
   }
 
+  /**
+   * Streams all messages in requested range (or up to limit, if set) without paging. Messages are polled
+   * only when downstream requests them, so export of large topics doesn't buffer messages in memory.
+   */
+  public Flux<TopicMessageDTO> exportMessages(KafkaCluster cluster,
+                                              String topic,
+                                              ConsumerPosition consumerPosition,
+                                              @Nullable String containsStringFilter,
+                                              @Nullable String filterId,
+                                              @Nullable Integer limit,
+                                              @Nullable String keySerde,
+                                              @Nullable String valueSerde) {
+    if (consumerPosition.pollingMode() == PollingModeDTO.TAILING) {
+      return Flux.error(new ValidationException("Tailing mode is not supported for messages export"));
+    }
+    if (limit != null && limit <= 0) {
+      return Flux.error(new ValidationException("Export limit should be positive"));
+    }
+    var deserializer = deserializationService.deserializerFor(cluster, topic, keySerde, valueSerde);
+    var filter = getMsgFilter(containsStringFilter, filterId);
+    return withExistingTopic(cluster, topic)
+        .flux()
+        .publishOn(Schedulers.boundedElastic())
+        .flatMap(td -> Flux.create(exportEmitter(cluster, deserializer, consumerPosition, filter, limit)))
+        .filter(evt -> evt.getType() == TopicMessageEventDTO.TypeEnum.MESSAGE)
+        .map(TopicMessageEventDTO::getMessage);
+  }
+
+  private Consumer<FluxSink<TopicMessageEventDTO>> exportEmitter(KafkaCluster cluster,
+                                                                 ConsumerRecordDeserializer deserializer,
+                                                                 ConsumerPosition consumerPosition,
+                                                                 Predicate<TopicMessageDTO> filter,
+                                                                 @Nullable Integer limit) {
+    // export is not paged, so cursor is tracked but never registered
+    var cursor = new Cursor.Tracking(deserializer, consumerPosition, filter, maxPageSize, c -> null);
+    Supplier<EnhancedConsumer> consumerSupplier = () -> consumerPoolService.borrowConsumer(cluster,
+        Map.of(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPageSize));
+    return switch (consumerPosition.pollingMode()) {
+      case TO_OFFSET, TO_TIMESTAMP, LATEST -> new BackwardEmitter(consumerSupplier, consumerPosition,
+          maxPageSize, limit, deserializer, filter, cluster.getPollingSettings(), cursor);
+      case FROM_OFFSET, FROM_TIMESTAMP, EARLIEST -> new ForwardEmitter(consumerSupplier, consumerPosition,
+          maxPageSize, limit, deserializer, filter, cluster.getPollingSettings(), cursor);
+      case TAILING -> throw new IllegalStateException();
+    };
+  }
+
   private Flux<TopicMessageEventDTO> loadMessages(KafkaCluster cluster,
                                                   String topic,
                                                   ConsumerRecordDeserializer deserializer,
@@ -267,7 +317,7 @@ public class MessagesService {
                                                       int limit) {
     var emitter = switch (consumerPosition.pollingMode()) {
       case TO_OFFSET, TO_TIMESTAMP, LATEST -> new BackwardEmitter(
-          () -> consumerGroupService.createConsumer(cluster,
+          () -> consumerPoolService.borrowConsumer(cluster,
               Map.of(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, limit)),
           consumerPosition,
           limit,
@@ -277,7 +327,7 @@ public class MessagesService {
           cursorsStorage.createNewCursor(deserializer, consumerPosition, filter, limit)
       );
       case FROM_OFFSET, FROM_TIMESTAMP, EARLIEST -> new ForwardEmitter(
-          () -> consumerGroupService.createConsumer(cluster,
+          () -> consumerPoolService.borrowConsumer(cluster,
               Map.of(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, limit)),
           consumerPosition,
           limit,
@@ -287,7 +337,7 @@ public class MessagesService {
           cursorsStorage.createNewCursor(deserializer, consumerPosition, filter, limit)
       );
       case TAILING -> new TailingEmitter(
-          () -> consumerGroupService.createConsumer(cluster),
+          () -> consumerPoolService.borrowConsumer(cluster),
           consumerPosition,
           deserializer,
           filter,
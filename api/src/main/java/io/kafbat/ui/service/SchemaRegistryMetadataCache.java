@@ -0,0 +1,241 @@
+package io.kafbat.ui.service;
+
+import io.kafbat.ui.config.ClustersProperties;
+import io.kafbat.ui.model.KafkaCluster;
+import io.kafbat.ui.service.schemas.SchemaCatalogueService;
+import io.kafbat.ui.sr.api.KafkaSrClientApi;
+import io.kafbat.ui.sr.model.Compatibility;
+import io.kafbat.ui.sr.model.CompatibilityConfig;
+import io.kafbat.ui.sr.model.SchemaSubject;
+import io.kafbat.ui.util.ReactiveFailover;
+import jakarta.annotation.Nullable;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Per-cluster snapshot of schema registry subjects metadata (latest version, id, type and compatibility),
+ * refreshed in background, so subjects listing, sorting and search don't query registry for every subject.
+ * Latest versions are loaded in bulk (GET /schemas?latestOnly=true) when registry supports it, subject-level
+ * compatibility is (re)loaded only for new or changed subjects and for entries older than
+ * {@link #COMPATIBILITY_REFRESH_INTERVAL} (minus per-subject jitter, so subjects loaded together don't expire
+ * together).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchemaRegistryMetadataCache {
+
+  static final Duration COMPATIBILITY_REFRESH_INTERVAL = Duration.ofMinutes(10);
+  private static final int REGISTRY_CALLS_CONCURRENCY = 8;
+  private static final String LATEST = "latest";
+
+  /**
+   * Subject's latest schema and subject-level compatibility (null means global compatibility is used).
+   */
+  public record SubjectMetadata(SchemaSubject latest,
+                                @Nullable Compatibility compatibility,
+                                long compatibilityLoadedAtMillis) {
+  }
+
+  public record State(Map<String, SubjectMetadata> subjects, @Nullable Compatibility globalCompatibility) {
+
+    public Compatibility compatibility(SubjectMetadata subject) {
+      return subject.compatibility() != null ? subject.compatibility() : globalCompatibility;
+    }
+
+    private State withSubject(String subject, @Nullable SubjectMetadata metadata) {
+      Map<String, SubjectMetadata> updated = new HashMap<>(subjects);
+      if (metadata == null) {
+        updated.remove(subject);
+      } else {
+        updated.put(subject, metadata);
+      }
+      return new State(Map.copyOf(updated), globalCompatibility);
+    }
+  }
+
+  private final ClustersStorage clustersStorage;
+  private final ClustersProperties clustersProperties;
+
+  private final Map<String, State> states = new ConcurrentHashMap<>();
+  private final AtomicBoolean refreshing = new AtomicBoolean();
+
+  // refresh is not awaited, since initial load of big registry can take long and spring's scheduling thread
+  // is shared with other scheduled tasks; next refresh is skipped if previous one is still running
+  @Scheduled(fixedRateString = "${kafka.schema-registry-metadata-refresh-rate-millis:30000}")
+  public void refreshAll() {
+    if (!isEnabled() || !refreshing.compareAndSet(false, true)) {
+      return;
+    }
+    Flux.fromIterable(clustersStorage.getKafkaClusters())
+        .filter(c -> c.getSchemaRegistryClient() != null)
+        // metadata of clusters with schemas topic catalogue is updated by SchemaCatalogueService
+        .filter(c -> !SchemaCatalogueService.isEnabled(c))
+        .parallel()
+        .runOn(Schedulers.parallel())
+        .flatMap(c -> refresh(c)
+            .doOnError(th -> log.warn("Error refreshing schema registry metadata for cluster {}", c.getName(), th))
+            .onErrorResume(th -> Mono.empty()))
+        .then()
+        .doFinally(s -> refreshing.set(false))
+        .subscribe();
+  }
+
+  private boolean isEnabled() {
+    return clustersProperties.getCache().isEnabled();
+  }
+
+  /**
+   * Returns empty if cache is disabled or cluster's metadata was not loaded yet.
+   */
+  public Optional<State> get(KafkaCluster cluster) {
+    return isEnabled() ? Optional.ofNullable(states.get(cluster.getName())) : Optional.empty();
+  }
+
+  public Mono<State> refresh(KafkaCluster cluster) {
+    State previous = states.get(cluster.getName());
+    return Mono.zip(loadLatestSchemas(cluster), loadGlobalCompatibility(cluster))
+        .flatMap(t -> {
+          long now = System.currentTimeMillis();
+          return Flux.fromIterable(t.getT1())
+              .flatMap(latest -> {
+                SubjectMetadata cached = previous == null ? null : previous.subjects().get(latest.getSubject());
+                if (cached != null && isUpToDate(cached, latest, now)) {
+                  return Mono.just(cached);
+                }
+                return loadSubjectCompatibility(cluster, latest.getSubject())
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .map(compatibility -> new SubjectMetadata(latest, compatibility.orElse(null), now));
+              }, REGISTRY_CALLS_CONCURRENCY)
+              .collectMap(m -> m.latest().getSubject())
+              .map(subjects -> new State(Map.copyOf(subjects), t.getT2().orElse(null)));
+        })
+        .doOnNext(state -> states.put(cluster.getName(), state));
+  }
+
+  /**
+   * Replaces cluster's metadata with externally loaded one. Keeps previously loaded global compatibility
+   * if it is not provided.
+   */
+  public void replace(KafkaCluster cluster,
+                      Map<String, SubjectMetadata> subjects,
+                      @Nullable Compatibility globalCompatibility) {
+    states.compute(cluster.getName(), (name, previous) -> new State(
+        Map.copyOf(subjects),
+        globalCompatibility != null || previous == null ? globalCompatibility : previous.globalCompatibility()));
+  }
+
+  /**
+   * Reloads single subject's metadata, should be called after subject is changed through UI, so changes
+   * are visible before next background refresh.
+   */
+  public Mono<Void> refreshSubject(KafkaCluster cluster, String subject) {
+    return Mono.defer(() -> states.containsKey(cluster.getName())
+        ? loadSubject(cluster, subject)
+        : Mono.empty());
+  }
+
+  private Mono<Void> loadSubject(KafkaCluster cluster, String subject) {
+    return api(cluster).mono(c -> c.getSubjectVersion(subject, LATEST, false))
+        .zipWhen(latest -> loadSubjectCompatibility(cluster, subject)
+            .map(Optional::of)
+            .defaultIfEmpty(Optional.empty()))
+        .map(t -> new SubjectMetadata(t.getT1(), t.getT2().orElse(null), System.currentTimeMillis()))
+        .map(Optional::of)
+        .onErrorResume(WebClientResponseException.NotFound.class, th -> Mono.just(Optional.empty()))
+        .doOnNext(metadata -> states.computeIfPresent(
+            cluster.getName(), (name, state) -> state.withSubject(subject, metadata.orElse(null))))
+        .onErrorResume(th -> {
+          log.warn("Error refreshing schema registry metadata for subject {}", subject, th);
+          return Mono.empty();
+        })
+        .then();
+  }
+
+  public Mono<Void> refreshGlobalCompatibility(KafkaCluster cluster) {
+    return loadGlobalCompatibility(cluster)
+        .doOnNext(global -> states.computeIfPresent(
+            cluster.getName(), (name, state) -> new State(state.subjects(), global.orElse(null))))
+        .onErrorResume(th -> Mono.empty())
+        .then();
+  }
+
+  private boolean isUpToDate(SubjectMetadata cached, SchemaSubject latest, long now) {
+    return cached.latest().getVersion().equals(latest.getVersion())
+        && cached.latest().getId().equals(latest.getId())
+        && now - cached.compatibilityLoadedAtMillis() < compatibilityTtlMillis(latest.getSubject());
+  }
+
+  // between half and full refresh interval, stable per subject
+  static long compatibilityTtlMillis(String subject) {
+    long interval = COMPATIBILITY_REFRESH_INTERVAL.toMillis();
+    return interval - Math.floorMod(subject.hashCode(), interval / 2);
+  }
+
+  private Mono<List<SchemaSubject>> loadLatestSchemas(KafkaCluster cluster) {
+    return api(cluster)
+        .flux(c -> c.getSchemas(null, false, true))
+        .collectList()
+        // registries that don't support latestOnly flag return all versions
+        .map(SchemaRegistryMetadataCache::latestPerSubject)
+        .onErrorResume(
+            th -> th instanceof WebClientResponseException.NotFound
+                || th instanceof WebClientResponseException.MethodNotAllowed,
+            th -> loadLatestSchemasPerSubject(cluster));
+  }
+
+  private static List<SchemaSubject> latestPerSubject(List<SchemaSubject> schemas) {
+    return List.copyOf(
+        schemas.stream()
+            .collect(Collectors.toMap(
+                SchemaSubject::getSubject,
+                s -> s,
+                (s1, s2) -> Integer.parseInt(s1.getVersion()) >= Integer.parseInt(s2.getVersion()) ? s1 : s2))
+            .values());
+  }
+
+  // fallback for registries without bulk schemas endpoint
+  private Mono<List<SchemaSubject>> loadLatestSchemasPerSubject(KafkaCluster cluster) {
+    return api(cluster)
+        .mono(c -> c.getAllSubjectNames(null, false))
+        .flatMapIterable(SchemaRegistryService::parseSubjectListString)
+        .flatMap(subject -> api(cluster).mono(c -> c.getSubjectVersion(subject, LATEST, false))
+                .onErrorResume(WebClientResponseException.NotFound.class, th -> Mono.empty()),
+            REGISTRY_CALLS_CONCURRENCY)
+        .collectList();
+  }
+
+  private Mono<Optional<Compatibility>> loadGlobalCompatibility(KafkaCluster cluster) {
+    return api(cluster)
+        .mono(KafkaSrClientApi::getGlobalCompatibilityLevel)
+        .map(c -> Optional.ofNullable(c.getCompatibilityLevel()))
+        .defaultIfEmpty(Optional.empty());
+  }
+
+  // empty if subject doesn't have own compatibility level
+  private Mono<Compatibility> loadSubjectCompatibility(KafkaCluster cluster, String subject) {
+    return api(cluster)
+        .mono(c -> c.getSubjectCompatibilityLevel(subject, false))
+        .mapNotNull(CompatibilityConfig::getCompatibilityLevel)
+        .onErrorResume(WebClientResponseException.NotFound.class, th -> Mono.empty());
+  }
+
+  private ReactiveFailover<KafkaSrClientApi> api(KafkaCluster cluster) {
+    return cluster.getSchemaRegistryClient();
+  }
+}
@@ -46,6 +46,7 @@ public class SchemaRegistryService {
   }
 
   private final StatisticsCache statisticsCache;
+  private final SchemaRegistryMetadataCache metadataCache;
 
   private ReactiveFailover<KafkaSrClientApi> api(KafkaCluster cluster) {
     return cluster.getSchemaRegistryClient();
@@ -54,20 +55,34 @@ public class SchemaRegistryService {
   public Mono<List<SubjectWithCompatibilityLevel>> getAllLatestVersionSchemas(KafkaCluster cluster,
                                                                               List<String> subjects,
                                                                               int pageSize) {
+    Optional<SchemaRegistryMetadataCache.State> cached = cachedMetadata(cluster);
     return Flux.fromIterable(subjects)
-        .flatMap(subject -> getLatestSchemaVersionBySubject(cluster, subject), pageSize)
+        .flatMap(subject -> cached
+            .map(state -> state.subjects().get(subject))
+            .map(m -> Mono.just(new SubjectWithCompatibilityLevel(
+                m.latest(), cached.get().compatibility(m), topicName(cluster, subject))))
+            // subject is not cached yet (created after last refresh)
+            .orElseGet(() -> getLatestSchemaVersionBySubject(cluster, subject)), pageSize)
         .collect(Collectors.toList());
   }
 
+  Optional<SchemaRegistryMetadataCache.State> cachedMetadata(KafkaCluster cluster) {
+    return metadataCache.get(cluster);
+  }
+
   public Mono<List<String>> getAllSubjectNames(KafkaCluster cluster) {
+    Optional<SchemaRegistryMetadataCache.State> cached = cachedMetadata(cluster);
+    if (cached.isPresent()) {
+      return Mono.just(List.copyOf(cached.get().subjects().keySet()));
+    }
     return api(cluster)
-        .mono(c -> c.getAllSubjectNames(null, false))
-        .flatMapIterable(this::parseSubjectListString)
+        .hedgedMono("getAllSubjectNames", c -> c.getAllSubjectNames(null, false))
+        .flatMapIterable(SchemaRegistryService::parseSubjectListString)
         .collectList();
   }
 
   @SneakyThrows
-  private List<String> parseSubjectListString(String subjectNamesStr) {
+  static List<String> parseSubjectListString(String subjectNamesStr) {
     //workaround for https://github.com/spring-projects/spring-framework/issues/24734
     return new JsonMapper().readValue(subjectNamesStr, new TypeReference<>() {
     });
@@ -106,7 +121,7 @@ public class SchemaRegistryService {
   private Mono<SubjectWithCompatibilityLevel> getSchemaSubject(KafkaCluster cluster, String schemaName,
                                                                String version) {
     return api(cluster)
-        .mono(c -> c.getSubjectVersion(schemaName, version, false))
+        .hedgedMono("getSubjectVersion", c -> c.getSubjectVersion(schemaName, version, false))
         .zipWith(getSchemaCompatibilityInfoOrGlobal(cluster, schemaName))
         .map(t -> new SubjectWithCompatibilityLevel(t.getT1(), t.getT2(), topicName(cluster, schemaName)))
         .onErrorResume(WebClientResponseException.NotFound.class, th -> Mono.error(new SchemaNotFoundException()));
@@ -121,11 +136,13 @@ public class SchemaRegistryService {
   }
 
   private Mono<Void> deleteSchemaSubject(KafkaCluster cluster, String schemaName, String version) {
-    return api(cluster).mono(c -> c.deleteSubjectVersion(schemaName, version, false));
+    return api(cluster).mono(c -> c.deleteSubjectVersion(schemaName, version, false))
+        .then(metadataCache.refreshSubject(cluster, schemaName));
   }
 
   public Mono<Void> deleteSchemaSubjectEntirely(KafkaCluster cluster, String schemaName) {
-    return api(cluster).mono(c -> c.deleteAllSubjectVersions(schemaName, false));
+    return api(cluster).mono(c -> c.deleteAllSubjectVersions(schemaName, false))
+        .then(metadataCache.refreshSubject(cluster, schemaName));
   }
 
   /**
@@ -141,6 +158,7 @@ public class SchemaRegistryService {
             th -> new SchemaCompatibilityException())
         .onErrorMap(WebClientResponseException.UnprocessableEntity.class,
             th -> new ValidationException("Invalid schema. Error from registry: " + th.getResponseBodyAsString()))
+        .then(metadataCache.refreshSubject(cluster, subject))
         .then(getLatestSchemaVersionBySubject(cluster, subject));
   }
 
@@ -150,27 +168,27 @@ public class SchemaRegistryService {
     return api(cluster)
         .mono(c -> c.updateSubjectCompatibilityLevel(
             schemaName, new CompatibilityLevelChange().compatibility(compatibility)))
-        .then();
+        .then(metadataCache.refreshSubject(cluster, schemaName));
   }
 
   public Mono<Void> updateGlobalSchemaCompatibility(KafkaCluster cluster,
                                                     Compatibility compatibility) {
     return api(cluster)
         .mono(c -> c.updateGlobalCompatibilityLevel(new CompatibilityLevelChange().compatibility(compatibility)))
-        .then();
+        .then(metadataCache.refreshGlobalCompatibility(cluster));
   }
 
   public Mono<Compatibility> getSchemaCompatibilityLevel(KafkaCluster cluster,
                                                          String schemaName) {
     return api(cluster)
-        .mono(c -> c.getSubjectCompatibilityLevel(schemaName, true))
+        .hedgedMono("getSubjectCompatibilityLevel", c -> c.getSubjectCompatibilityLevel(schemaName, true))
         .map(CompatibilityConfig::getCompatibilityLevel)
         .onErrorResume(error -> Mono.empty());
   }
 
   public Mono<Compatibility> getGlobalSchemaCompatibilityLevel(KafkaCluster cluster) {
     return api(cluster)
-        .mono(KafkaSrClientApi::getGlobalCompatibilityLevel)
+        .hedgedMono("getGlobalCompatibilityLevel", KafkaSrClientApi::getGlobalCompatibilityLevel)
         .map(CompatibilityConfig::getCompatibilityLevel);
   }
 
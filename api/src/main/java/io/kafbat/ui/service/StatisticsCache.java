@@ -3,7 +3,6 @@ package io.kafbat.ui.service;
 import io.kafbat.ui.config.ClustersProperties;
 import io.kafbat.ui.model.InternalPartitionsOffsets;
 import io.kafbat.ui.model.KafkaCluster;
-import io.kafbat.ui.model.ServerStatusDTO;
 import io.kafbat.ui.model.Statistics;
 import java.util.List;
 import java.util.Map;
@@ -25,36 +24,37 @@ public class StatisticsCache {
     clustersStorage.getKafkaClusters().forEach(c -> cache.put(c.getName(), initializing));
   }
 
-  public synchronized void replace(KafkaCluster c, Statistics stats) {
-    cache.put(c.getName(), stats);
+  public void replace(KafkaCluster c, Statistics stats) {
+    Statistics prev = cache.put(c.getName(), stats);
+    // topics index is shared by subsequent stats of the cluster, closing it only when new stats have another one
+    if (prev != null && prev.getClusterState().getTopicIndex() != stats.getClusterState().getTopicIndex()) {
+      try {
+        prev.close();
+      } catch (Exception e) {
+        log.error("Error closing cluster {} stats", c.getName(), e);
+      }
+    }
   }
 
-  public synchronized void update(KafkaCluster c,
-                                  Map<String, TopicDescription> descriptions,
-                                  Map<String, List<ConfigEntry>> configs,
-                                  InternalPartitionsOffsets partitionsOffsets,
-                                  ClustersProperties clustersProperties) {
-    var stats = get(c);
-    replace(
-        c,
-        stats.withClusterState(s ->
+  // updates are applied with structural sharing (see ScrapedClusterState), so they are cheap and
+  // do not block readers; previous stats are not closed, since their topics index is shared with updated stats
+  public void update(KafkaCluster c,
+                     Map<String, TopicDescription> descriptions,
+                     Map<String, List<ConfigEntry>> configs,
+                     InternalPartitionsOffsets partitionsOffsets,
+                     ClustersProperties clustersProperties) {
+    cache.computeIfPresent(
+        c.getName(),
+        (name, stats) -> stats.withClusterState(s ->
             s.updateTopics(descriptions, configs, partitionsOffsets, clustersProperties)
         )
     );
-    try {
-      if (!stats.getStatus().equals(ServerStatusDTO.INITIALIZING)) {
-        stats.close();
-      }
-    } catch (Exception e) {
-      log.error("Error closing cluster {} stats", c.getName(), e);
-    }
   }
 
-  public synchronized void onTopicDelete(KafkaCluster c, String topic) {
-    var stats = get(c);
-    replace(
-        c,
-        stats.withClusterState(s -> s.topicDeleted(topic))
+  public void onTopicDelete(KafkaCluster c, String topic) {
+    cache.computeIfPresent(
+        c.getName(),
+        (name, stats) -> stats.withClusterState(s -> s.topicDeleted(topic))
     );
   }
 
@@ -53,7 +53,7 @@ public class StatisticsService {
                     .then(
                         Mono.zip(
                             featureService.getAvailableFeatures(ac, cluster, description),
-                            loadClusterState(description, ac),
+                            loadClusterState(cluster, description, ac),
                             loadKafkaConnects(cluster),
                             loadQuorumInfo(ac)
                                 .map(quorumInfo -> new LoadQuorumInfoResult(Optional.of(quorumInfo), KRAFT))
@@ -121,9 +121,12 @@ public class StatisticsService {
     return stats.build();
   }
 
-  private Mono<ScrapedClusterState> loadClusterState(ClusterDescription clusterDescription,
+  private Mono<ScrapedClusterState> loadClusterState(KafkaCluster cluster,
+                                                     ClusterDescription clusterDescription,
                                                      ReactiveAdminClient ac) {
-    return ScrapedClusterState.scrape(clusterDescription, ac, clustersProperties);
+    // previous state is used as a base for incremental scrape, if enabled
+    var previous = cache.get(cluster).getClusterState();
+    return ScrapedClusterState.scrape(clusterDescription, ac, clustersProperties, previous);
   }
 
   private Mono<Metrics> scrapeMetrics(KafkaCluster cluster,
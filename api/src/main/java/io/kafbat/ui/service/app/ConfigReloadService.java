@@ -1,6 +1,7 @@
 package io.kafbat.ui.service.app;
 
 import io.kafbat.ui.config.auth.RoleBasedAccessControlProperties;
+import io.kafbat.ui.service.rbac.AccessControlService;
 import io.kafbat.ui.util.MultiFileWatcher;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
@@ -38,6 +39,7 @@ public class ConfigReloadService {
 
   private final ConfigurableEnvironment environment;
   private final RoleBasedAccessControlProperties rbacProperties;
+  private final AccessControlService accessControlService;
   private final YamlPropertySourceLoader yamlLoader = new YamlPropertySourceLoader();
 
   private Thread watcherThread;
@@ -104,7 +106,10 @@ public class ConfigReloadService {
       Binder binder = Binder.get(environment);
 
       binder.bind("rbac", RoleBasedAccessControlProperties.class)
-          .ifBound(bound -> rbacProperties.setRoles(bound.getRoles()));
+          .ifBound(bound -> {
+            rbacProperties.setRoles(bound.getRoles());
+            accessControlService.invalidatePermissionsCache();
+          });
     } catch (Throwable e) {
       log.error("Error while reloading file {}", path, e);
     }
@@ -6,12 +6,23 @@ import io.kafbat.ui.model.InternalTopic;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.pcollections.HashTreePMap;
+import org.pcollections.PMap;
 
 public class FilterTopicIndex implements TopicsIndex {
-  private Collection<InternalTopic> topics;
+  // persistent map, so upserts are O(log n) and share unchanged topics with previous index
+  private final PMap<String, InternalTopic> topics;
 
   public FilterTopicIndex(Collection<InternalTopic> topics) {
+    this(HashTreePMap.from(
+        topics.stream().collect(Collectors.toMap(InternalTopic::getName, Function.identity(), (t1, t2) -> t2))
+    ));
+  }
+
+  FilterTopicIndex(PMap<String, InternalTopic> topics) {
     this.topics = topics;
   }
 
@@ -19,9 +30,9 @@ public class FilterTopicIndex implements TopicsIndex {
   public List<InternalTopic> find(String search, Boolean showInternal, String sort,
                                   boolean fts, Integer count) {
     if (search == null || search.isBlank()) {
-      return new ArrayList<>(this.topics);
+      return new ArrayList<>(this.topics.values());
     }
-    Stream<InternalTopic> stream = topics.stream().filter(topic -> !topic.isInternal()
+    Stream<InternalTopic> stream = topics.values().stream().filter(topic -> !topic.isInternal()
             || showInternal != null && showInternal)
         .filter(
             topic -> search == null || CI.contains(topic.getName(), search)
@@ -30,6 +41,20 @@ public class FilterTopicIndex implements TopicsIndex {
     return stream.toList();
   }
 
+  @Override
+  public TopicsIndex upsert(Collection<InternalTopic> updated) {
+    PMap<String, InternalTopic> result = topics;
+    for (InternalTopic topic : updated) {
+      result = result.plus(topic.getName(), topic);
+    }
+    return new FilterTopicIndex(result);
+  }
+
+  @Override
+  public TopicsIndex delete(String topic) {
+    return new FilterTopicIndex(topics.minus(topic));
+  }
+
   @Override
   public void close() throws Exception {
 
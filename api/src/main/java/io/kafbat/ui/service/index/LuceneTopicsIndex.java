@@ -5,9 +5,12 @@ import io.kafbat.ui.model.InternalTopicConfig;
 import io.kafbat.ui.service.index.lucene.IndexedTextField;
 import io.kafbat.ui.service.index.lucene.NameDistanceScoringFunction;
 import io.kafbat.ui.service.index.lucene.ShortWordAnalyzer;
+import jakarta.annotation.Nullable;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -22,7 +25,6 @@ import org.apache.lucene.document.Field;
 import org.apache.lucene.document.IntPoint;
 import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.StringField;
-import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.Term;
@@ -34,79 +36,180 @@ import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.store.ByteBuffersDirectory;
 import org.apache.lucene.store.Directory;
+import org.pcollections.HashTreePMap;
+import org.pcollections.PMap;
 
+/**
+ * Long-lived index, updated in place by {@link #upsert}, {@link #delete} and {@link #sync}. It has a single owner -
+ * cluster's statistics: cluster state snapshots created by updates share the same index instance, and it is closed
+ * only when owner replaces it with another index instance. Snapshots still referencing closed index fall back to
+ * non-full-text search over topics they hold.
+ */
 @Slf4j
 public class LuceneTopicsIndex implements TopicsIndex {
   public static final String FIELD_NAME_RAW = "name_raw";
 
   private final Directory directory;
-  private final DirectoryReader indexReader;
-  private final IndexSearcher indexSearcher;
+  private final IndexWriter indexWriter;
+  // near-real-time searchers, refreshed after each update, so searches are never blocked by updates
+  private final SearcherManager searcherManager;
   private final Analyzer analyzer;
-  private final int maxSize;
+  // searches and updates hold read lock, so index is not closed in the middle of them
   private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
-  private final Map<String, InternalTopic> topicMap;
+  private volatile boolean closed;
+  private volatile PMap<String, InternalTopic> topicMap;
 
   public LuceneTopicsIndex(List<InternalTopic> topics) throws IOException {
     this.analyzer = new ShortWordAnalyzer();
-    this.topicMap = topics.stream().collect(Collectors.toMap(InternalTopic::getName, Function.identity()));
-    this.directory = build(topics);
-    this.indexReader = DirectoryReader.open(directory);
-    this.indexSearcher = new IndexSearcher(indexReader);
-    this.maxSize = topics.size();
+    this.topicMap = HashTreePMap.from(
+        topics.stream().collect(Collectors.toMap(InternalTopic::getName, Function.identity(), (t1, t2) -> t2))
+    );
+    this.directory = new ByteBuffersDirectory();
+    this.indexWriter = new IndexWriter(directory, new IndexWriterConfig(this.analyzer));
+    for (InternalTopic topic : topics) {
+      indexWriter.addDocument(toDocument(topic));
+    }
+    this.searcherManager = new SearcherManager(indexWriter, null);
+  }
+
+  private static Document toDocument(InternalTopic topic) {
+    Document doc = new Document();
+
+    doc.add(new StringField(FIELD_NAME_RAW, topic.getName(), Field.Store.YES));
+    doc.add(new IndexedTextField(FIELD_NAME, topic.getName(), Field.Store.YES));
+    doc.add(new IntPoint(FIELD_PARTITIONS, topic.getPartitionCount()));
+    doc.add(new IntPoint(FIELD_REPLICATION, topic.getReplicationFactor()));
+    doc.add(new LongPoint(FIELD_SIZE, topic.getSegmentSize()));
+    if (topic.getTopicConfigs() != null && !topic.getTopicConfigs().isEmpty()) {
+      for (InternalTopicConfig topicConfig : topic.getTopicConfigs()) {
+        final String topicConfigValue = topicConfig.getValue();
+        if (topicConfigValue != null) {
+          doc.add(new StringField(FIELD_CONFIG_PREFIX + "_" + topicConfig.getName(), topicConfig.getValue(),
+              Field.Store.NO));
+        } else {
+          log.info(
+              "Topic configuration item '{}' on internal topic '{}' has an unexpected value of null"
+              + "; skipping processing", topicConfig.getName(), topic.getName()
+          );
+        }
+      }
+    }
+    doc.add(new StringField(FIELD_INTERNAL, String.valueOf(topic.isInternal()), Field.Store.NO));
+    return doc;
   }
 
-  private Directory build(List<InternalTopic> topics) {
-    Directory directory = new ByteBuffersDirectory();
+  // index is updated in place, concurrent updates are serialized, searches are not blocked
+  @Override
+  public synchronized TopicsIndex upsert(Collection<InternalTopic> topics) {
+    closeLock.readLock().lock();
+    try {
+      ensureOpen();
+      PMap<String, InternalTopic> updated = topicMap;
+      for (InternalTopic topic : topics) {
+        indexWriter.updateDocument(new Term(FIELD_NAME_RAW, topic.getName()), toDocument(topic));
+        updated = updated.plus(topic.getName(), topic);
+      }
+      topicMap = updated;
+      searcherManager.maybeRefresh();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      closeLock.readLock().unlock();
+    }
+    return this;
+  }
 
-    try (IndexWriter directoryWriter = new IndexWriter(directory, new IndexWriterConfig(this.analyzer))) {
+  /**
+   * Synchronizes index with the given (full) topics list. Only topics which indexed fields changed are re-indexed,
+   * topics missing in the list are removed from index. Allows to keep a single long-lived index per cluster
+   * instead of re-building it on every scrape.
+   */
+  public synchronized LuceneTopicsIndex sync(Collection<InternalTopic> topics) {
+    closeLock.readLock().lock();
+    try {
+      ensureOpen();
+      PMap<String, InternalTopic> current = topicMap;
+      Map<String, InternalTopic> updated = new HashMap<>(topics.size());
+      int reindexed = 0;
       for (InternalTopic topic : topics) {
-        Document doc = new Document();
-
-        doc.add(new StringField(FIELD_NAME_RAW, topic.getName(), Field.Store.YES));
-        doc.add(new IndexedTextField(FIELD_NAME, topic.getName(), Field.Store.YES));
-        doc.add(new IntPoint(FIELD_PARTITIONS, topic.getPartitionCount()));
-        doc.add(new IntPoint(FIELD_REPLICATION, topic.getReplicationFactor()));
-        doc.add(new LongPoint(FIELD_SIZE, topic.getSegmentSize()));
-        if (topic.getTopicConfigs() != null && !topic.getTopicConfigs().isEmpty()) {
-          for (InternalTopicConfig topicConfig : topic.getTopicConfigs()) {
-            final String topicConfigValue = topicConfig.getValue();
-            if (topicConfigValue != null) {
-              doc.add(new StringField(FIELD_CONFIG_PREFIX + "_" + topicConfig.getName(), topicConfig.getValue(),
-                  Field.Store.NO));
-            } else {
-              log.info(
-                  "Topic configuration item '{}' on internal topic '{}' has an unexpected value of null"
-                  + "; skipping processing", topicConfig.getName(), topic.getName()
-              );
-            }
-          }
+        updated.put(topic.getName(), topic);
+        InternalTopic prev = current.get(topic.getName());
+        if (prev == null || !sameIndexedFields(prev, topic)) {
+          indexWriter.updateDocument(new Term(FIELD_NAME_RAW, topic.getName()), toDocument(topic));
+          reindexed++;
         }
-        doc.add(new StringField(FIELD_INTERNAL, String.valueOf(topic.isInternal()), Field.Store.NO));
-        directoryWriter.addDocument(doc);
       }
+      int deleted = 0;
+      for (String name : current.keySet()) {
+        if (!updated.containsKey(name)) {
+          indexWriter.deleteDocuments(new Term(FIELD_NAME_RAW, name));
+          deleted++;
+        }
+      }
+      // topics are replaced anyway, since not indexed fields (offsets, rates, etc.) could change
+      topicMap = HashTreePMap.from(updated);
+      searcherManager.maybeRefresh();
+      log.debug("Topics index synchronized: {} topics re-indexed, {} deleted", reindexed, deleted);
     } catch (IOException e) {
-      throw new RuntimeException(e);
+      throw new UncheckedIOException(e);
+    } finally {
+      closeLock.readLock().unlock();
+    }
+    return this;
+  }
+
+  private static boolean sameIndexedFields(InternalTopic t1, InternalTopic t2) {
+    return t1.isInternal() == t2.isInternal()
+        && t1.getPartitionCount() == t2.getPartitionCount()
+        && t1.getReplicationFactor() == t2.getReplicationFactor()
+        && t1.getSegmentSize() == t2.getSegmentSize()
+        && Objects.equals(t1.getTopicConfigs(), t2.getTopicConfigs());
+  }
+
+  @Override
+  public synchronized TopicsIndex delete(String topic) {
+    closeLock.readLock().lock();
+    try {
+      ensureOpen();
+      indexWriter.deleteDocuments(new Term(FIELD_NAME_RAW, topic));
+      topicMap = topicMap.minus(topic);
+      searcherManager.maybeRefresh();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      closeLock.readLock().unlock();
+    }
+    return this;
+  }
+
+  public boolean isClosed() {
+    return closed;
+  }
+
+  private void ensureOpen() {
+    if (closed) {
+      throw new IllegalStateException("Topics index is closed");
     }
-    return directory;
   }
 
   @Override
   public void close() throws Exception {
     this.closeLock.writeLock().lock();
     try {
-      if (indexReader != null) {
-        this.indexReader.close();
-      }
-      if (this.directory != null) {
-        this.directory.close();
+      if (closed) {
+        return;
       }
+      closed = true;
+      this.searcherManager.close();
+      this.indexWriter.close();
+      this.directory.close();
     } finally {
       this.closeLock.writeLock().unlock();
     }
@@ -115,22 +218,35 @@ public class LuceneTopicsIndex implements TopicsIndex {
   public List<InternalTopic> find(String search, Boolean showInternal, String sort,
                                   boolean fts, Integer count) {
     if (!fts) {
-      try (FilterTopicIndex filter = new FilterTopicIndex(this.topicMap.values())) {
-        return filter.find(search, showInternal, sort, fts, count);
-      } catch (Exception e) {
-        throw new RuntimeException(e);
-      }
+      return findWithFilter(this.topicMap, search, showInternal, sort, count);
     }
     return find(search, showInternal, sort, count, 0.0f);
   }
 
+  private static List<InternalTopic> findWithFilter(PMap<String, InternalTopic> topics, String search,
+                                                    Boolean showInternal, String sort, Integer count) {
+    try (FilterTopicIndex filter = new FilterTopicIndex(topics)) {
+      return filter.find(search, showInternal, sort, false, count);
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   public List<InternalTopic> find(String search, Boolean showInternal,
                            String sortField, Integer count, float minScore) {
     if (search == null || search.isBlank()) {
       return new ArrayList<>(this.topicMap.values());
     }
     closeLock.readLock().lock();
+    IndexSearcher indexSearcher = null;
     try {
+      if (closed) {
+        // index was replaced by owner, but this (older) snapshot is still in use
+        return findWithFilter(this.topicMap, search, showInternal, sortField, count);
+      }
+      indexSearcher = searcherManager.acquire();
+      // topics map is updated before searcher refresh, so it contains every topic visible to the searcher
+      PMap<String, InternalTopic> topics = this.topicMap;
 
       PrefixQueryParser queryParser = new PrefixQueryParser(FIELD_NAME, this.analyzer);
       queryParser.setDefaultOperator(QueryParser.Operator.AND);
@@ -158,23 +274,34 @@ public class LuceneTopicsIndex implements TopicsIndex {
 
       Sort sort = new Sort(sortFields.toArray(new SortField[0]));
 
-      TopDocs result = this.indexSearcher.search(wrapped, count != null ? count : this.maxSize, sort);
+      TopDocs result = indexSearcher.search(wrapped, count != null ? count : Math.max(topics.size(), 1), sort);
 
-      List<String> topics = new ArrayList<>();
+      List<String> found = new ArrayList<>();
       for (ScoreDoc scoreDoc : result.scoreDocs) {
         if (minScore > 0.00001f && scoreDoc.score < minScore) {
           continue;
         }
-        Document document = this.indexSearcher.storedFields().document(scoreDoc.doc);
-        topics.add(document.get(FIELD_NAME_RAW));
+        Document document = indexSearcher.storedFields().document(scoreDoc.doc);
+        found.add(document.get(FIELD_NAME_RAW));
       }
-      return topics.stream().map(topicMap::get).filter(Objects::nonNull).toList();
+      return found.stream().map(topics::get).filter(Objects::nonNull).toList();
     } catch (IOException e) {
       throw new UncheckedIOException(e);
     } catch (ParseException e) {
       throw new RuntimeException(e);
     } finally {
+      releaseSearcher(indexSearcher);
       this.closeLock.readLock().unlock();
     }
   }
+
+  private void releaseSearcher(@Nullable IndexSearcher indexSearcher) {
+    if (indexSearcher != null) {
+      try {
+        searcherManager.release(indexSearcher);
+      } catch (IOException e) {
+        log.warn("Error releasing topics index searcher", e);
+      }
+    }
+  }
 }
@@ -1,6 +1,7 @@
 package io.kafbat.ui.service.index;
 
 import io.kafbat.ui.model.InternalTopic;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -33,4 +34,15 @@ public interface TopicsIndex extends AutoCloseable {
   }
 
   List<InternalTopic> find(String search, Boolean showInternal, String sort, boolean fts, Integer count);
+
+  /**
+   * Adds or replaces given topics. Returned index can be either this instance updated in place,
+   * or a new instance sharing unchanged data with this one, so only returned index should be used after the call.
+   */
+  TopicsIndex upsert(Collection<InternalTopic> topics);
+
+  /**
+   * Removes topic from index. See {@link #upsert(Collection)} for returned index semantics.
+   */
+  TopicsIndex delete(String topic);
 }
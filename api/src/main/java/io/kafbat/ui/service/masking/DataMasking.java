@@ -70,6 +70,10 @@ public class DataMasking {
         .value(valMasker.apply(msg.getValue()));
   }
 
+  public boolean hasMasksForTopic(String topic, Serde.Target target) {
+    return masks.stream().anyMatch(m -> m.shouldBeApplied(topic, target));
+  }
+
   @VisibleForTesting
   UnaryOperator<String> getMaskingFunction(String topic, Serde.Target target) {
     var targetMasks = masks.stream().filter(m -> m.shouldBeApplied(topic, target)).toList();
@@ -0,0 +1,39 @@
+package io.kafbat.ui.service.metrics.prometheus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.CRC32C;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Metrics rendered in prometheus text format. Rendered once per metrics update and then served as-is
+ * to all scrapers, so body arrays must not be modified.
+ */
+public record PrometheusExposition(byte[] body, byte[] gzippedBody, String etag) {
+
+  static PrometheusExposition of(byte[] body) {
+    return new PrometheusExposition(body, gzip(body), etag(body));
+  }
+
+  String gzippedEtag() {
+    return etag + "-gzip";
+  }
+
+  private static String etag(byte[] body) {
+    CRC32C crc = new CRC32C();
+    crc.update(body);
+    return Long.toHexString(crc.getValue()) + "-" + Integer.toHexString(body.length);
+  }
+
+  private static byte[] gzip(byte[] body) {
+    // text exposition compresses ~10x, so initial size is a rough upper bound
+    var out = new ByteArrayOutputStream(Math.max(body.length / 8, 64));
+    try (var gzip = new GZIPOutputStream(out)) {
+      gzip.write(body);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return out.toByteArray();
+  }
+}
@@ -0,0 +1,90 @@
+package io.kafbat.ui.service.metrics.prometheus;
+
+import io.kafbat.ui.model.KafkaCluster;
+import io.kafbat.ui.model.Metrics;
+import io.kafbat.ui.service.StatisticsCache;
+import io.prometheus.metrics.model.snapshots.MetricSnapshot;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps prometheus expositions rendered from the latest clusters metrics. Metrics object is replaced
+ * on every statistics update, so rendering is re-done only when metrics instance changes; cluster-labeled
+ * snapshots are kept per cluster, so combined exposition doesn't re-label metrics of unchanged clusters.
+ */
+@Component
+@RequiredArgsConstructor
+public class PrometheusExpositionCache {
+
+  @RequiredArgsConstructor
+  private static final class ClusterExposition {
+    private final Metrics source;
+    private final List<MetricSnapshot> prepared;
+    private PrometheusExposition exposition;
+
+    // cluster's own exposition is only rendered if cluster endpoint is scraped
+    synchronized PrometheusExposition exposition() {
+      if (exposition == null) {
+        exposition = PrometheusMetricsExposer.render(prepared.stream());
+      }
+      return exposition;
+    }
+  }
+
+  private record CombinedExposition(List<Metrics> sources, PrometheusExposition exposition) {
+  }
+
+  private final StatisticsCache statisticsCache;
+
+  private final Map<String, ClusterExposition> clusterExpositions = new ConcurrentHashMap<>();
+  private volatile CombinedExposition combined;
+
+  public PrometheusExposition getClusterExposition(KafkaCluster cluster) {
+    return clusterExposition(cluster).exposition();
+  }
+
+  public synchronized PrometheusExposition getCombinedExposition(List<KafkaCluster> clusters) {
+    // dropping expositions of clusters that are no longer exposed, so their metrics are not retained
+    Set<String> names = clusters.stream().map(KafkaCluster::getName).collect(Collectors.toSet());
+    clusterExpositions.keySet().retainAll(names);
+    List<Metrics> sources = clusters.stream().map(c -> statisticsCache.get(c).getMetrics()).toList();
+    CombinedExposition current = combined;
+    if (current != null && sameInstances(current.sources(), sources)) {
+      return current.exposition();
+    }
+    PrometheusExposition rendered = PrometheusMetricsExposer.render(
+        clusters.stream().flatMap(c -> clusterExposition(c).prepared.stream())
+    );
+    combined = new CombinedExposition(sources, rendered);
+    return rendered;
+  }
+
+  private ClusterExposition clusterExposition(KafkaCluster cluster) {
+    Metrics metrics = statisticsCache.get(cluster).getMetrics();
+    // compute() serializes concurrent scrapes of the same cluster, so metrics are prepared once per update
+    return clusterExpositions.compute(cluster.getName(), (name, current) -> {
+      if (current != null && current.source == metrics) {
+        return current;
+      }
+      List<MetricSnapshot> prepared = PrometheusMetricsExposer.prepareMetricsForGlobalExpose(name, metrics).toList();
+      return new ClusterExposition(metrics, prepared);
+    });
+  }
+
+  private static boolean sameInstances(List<Metrics> l1, List<Metrics> l2) {
+    if (l1.size() != l2.size()) {
+      return false;
+    }
+    for (int i = 0; i < l1.size(); i++) {
+      if (l1.get(i) != l2.get(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -4,19 +4,19 @@ package io.kafbat.ui.service.metrics.prometheus;
 import static io.kafbat.ui.util.MetricsUtils.appendLabel;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
 
-import com.google.common.annotations.VisibleForTesting;
 import io.kafbat.ui.model.Metrics;
 import io.kafbat.ui.util.MetricsUtils;
 import io.prometheus.metrics.expositionformats.PrometheusTextFormatWriter;
 import io.prometheus.metrics.model.snapshots.MetricSnapshot;
 import io.prometheus.metrics.model.snapshots.MetricSnapshots;
 import java.io.ByteArrayOutputStream;
-import java.nio.charset.StandardCharsets;
 import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.SneakyThrows;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 
@@ -25,30 +25,9 @@ public final class PrometheusMetricsExposer {
   private static final String CLUSTER_EXPOSE_LBL_NAME = "cluster";
   private static final String BROKER_EXPOSE_LBL_NAME = "broker_id";
 
-  private static final HttpHeaders PROMETHEUS_EXPOSE_ENDPOINT_HEADERS;
-
-  static {
-    PROMETHEUS_EXPOSE_ENDPOINT_HEADERS = new HttpHeaders();
-    PROMETHEUS_EXPOSE_ENDPOINT_HEADERS.set(CONTENT_TYPE, PrometheusTextFormatWriter.CONTENT_TYPE);
-  }
-
   private PrometheusMetricsExposer() {
   }
 
-  public static ResponseEntity<String> exposeAllMetrics(Map<String, Metrics> clustersMetrics) {
-    return constructHttpsResponse(getMetricsForGlobalExpose(clustersMetrics));
-  }
-
-  private static MetricSnapshots getMetricsForGlobalExpose(Map<String, Metrics> clustersMetrics) {
-    return new MetricSnapshots(clustersMetrics.entrySet()
-        .stream()
-        .flatMap(e -> prepareMetricsForGlobalExpose(e.getKey(), e.getValue()))
-        // merging MFS with same name with LinkedHashMap(for order keeping)
-        .collect(Collectors.toMap(mfs -> mfs.getMetadata().getName(), mfs -> mfs,
-            MetricsUtils::concatDataPoints, LinkedHashMap::new))
-        .values());
-  }
-
   public static Stream<MetricSnapshot> prepareMetricsForGlobalExpose(String clusterName, Metrics metrics) {
     return Stream.concat(
             metrics.getInferredMetrics().asStream(),
@@ -65,15 +44,70 @@ public final class PrometheusMetricsExposer {
         });
   }
 
-  @VisibleForTesting
+  static PrometheusExposition render(Stream<MetricSnapshot> preparedMetrics) {
+    return PrometheusExposition.of(serialize(mergeFamilies(preparedMetrics)));
+  }
+
+  private static MetricSnapshots mergeFamilies(Stream<MetricSnapshot> preparedMetrics) {
+    return new MetricSnapshots(preparedMetrics
+        // merging MFS with same name with LinkedHashMap(for order keeping)
+        .collect(Collectors.toMap(mfs -> mfs.getMetadata().getName(), mfs -> mfs,
+            MetricsUtils::concatDataPoints, LinkedHashMap::new))
+        .values());
+  }
+
   @SneakyThrows
-  public static ResponseEntity<String> constructHttpsResponse(MetricSnapshots metrics) {
+  private static byte[] serialize(MetricSnapshots metrics) {
     ByteArrayOutputStream buffer = new ByteArrayOutputStream();
     PrometheusTextFormatWriter writer = new PrometheusTextFormatWriter(false);
     writer.write(buffer, metrics);
-    return ResponseEntity
-        .ok()
-        .headers(PROMETHEUS_EXPOSE_ENDPOINT_HEADERS)
-        .body(buffer.toString(StandardCharsets.UTF_8));
+    return buffer.toByteArray();
+  }
+
+  /**
+   * Serves pre-rendered exposition: gzipped variant is chosen when client accepts it, conditional requests
+   * (If-None-Match) are answered with 304 by spring's ResponseEntity handling, since ETag is set.
+   */
+  public static ResponseEntity<Resource> constructHttpResponse(PrometheusExposition exposition,
+                                                               HttpHeaders requestHeaders) {
+    boolean gzip = acceptsGzip(requestHeaders.get(HttpHeaders.ACCEPT_ENCODING));
+    var response = ResponseEntity.ok()
+        .header(CONTENT_TYPE, PrometheusTextFormatWriter.CONTENT_TYPE)
+        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    if (gzip) {
+      return response
+          .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+          .eTag(exposition.gzippedEtag())
+          .body(new ByteArrayResource(exposition.gzippedBody()));
+    }
+    return response
+        .eTag(exposition.etag())
+        .body(new ByteArrayResource(exposition.body()));
+  }
+
+  static boolean acceptsGzip(List<String> acceptEncodings) {
+    if (acceptEncodings == null) {
+      return false;
+    }
+    return acceptEncodings.stream()
+        .flatMap(h -> Stream.of(h.split(",")))
+        .map(coding -> coding.split(";"))
+        .filter(parts -> parts[0].trim().equalsIgnoreCase("gzip"))
+        .anyMatch(parts -> qualityValue(parts) > 0);
+  }
+
+  // q-value of "coding;q=0.5" parts, 1 if not specified, 0 (not acceptable) if malformed
+  private static double qualityValue(String[] codingParts) {
+    for (int i = 1; i < codingParts.length; i++) {
+      String param = codingParts[i].trim();
+      if (param.length() > 1 && Character.toLowerCase(param.charAt(0)) == 'q' && param.charAt(1) == '=') {
+        try {
+          return Double.parseDouble(param.substring(2).trim());
+        } catch (NumberFormatException e) {
+          return 0;
+        }
+      }
+    }
+    return 1;
   }
 }
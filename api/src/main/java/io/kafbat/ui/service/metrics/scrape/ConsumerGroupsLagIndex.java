@@ -0,0 +1,71 @@
+package io.kafbat.ui.service.metrics.scrape;
+
+import io.kafbat.ui.service.metrics.scrape.ScrapedClusterState.ConsumerGroupState;
+import io.kafbat.ui.service.metrics.scrape.ScrapedClusterState.TopicState;
+import jakarta.annotation.Nullable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import org.apache.kafka.common.TopicPartition;
+
+/**
+ * Consumer groups lags, pre-calculated from scraped committed and end offsets. Used to sort and paginate
+ * consumer groups by lag or topics count without describing all groups and fetching their offsets.
+ */
+public class ConsumerGroupsLagIndex {
+
+  /**
+   * Lag is null if group has no committed offsets (same as in {@link io.kafbat.ui.model.InternalConsumerGroup}).
+   */
+  public record GroupLag(@Nullable Long lag, Map<String, Long> topicsLag, int topicNum) {
+    public static final GroupLag EMPTY = new GroupLag(null, Map.of(), 0);
+  }
+
+  private final Map<String, GroupLag> lags;
+
+  private ConsumerGroupsLagIndex(Map<String, GroupLag> lags) {
+    this.lags = lags;
+  }
+
+  public static ConsumerGroupsLagIndex empty() {
+    return new ConsumerGroupsLagIndex(Map.of());
+  }
+
+  public static ConsumerGroupsLagIndex build(Map<String, ConsumerGroupState> groups,
+                                             Map<String, TopicState> topics) {
+    Map<String, GroupLag> lags = new HashMap<>(groups.size());
+    groups.forEach((name, state) -> lags.put(name, calculate(state, topics)));
+    return new ConsumerGroupsLagIndex(lags);
+  }
+
+  private static GroupLag calculate(ConsumerGroupState state, Map<String, TopicState> topics) {
+    Map<String, Long> topicsLag = new HashMap<>();
+    long total = 0;
+    for (Map.Entry<TopicPartition, Long> committed : state.committedOffsets().entrySet()) {
+      TopicPartition tp = committed.getKey();
+      TopicState topic = topics.get(tp.topic());
+      long endOffset = topic == null ? OffsetsByPartition.UNKNOWN : topic.endOffset(tp.partition());
+      long lag = committed.getValue() != null && endOffset != OffsetsByPartition.UNKNOWN
+          ? endOffset - committed.getValue()
+          : 0L;
+      topicsLag.merge(tp.topic(), lag, Long::sum);
+      total += lag;
+    }
+    Set<String> groupTopics = new HashSet<>(topicsLag.keySet());
+    state.description().members().forEach(m ->
+        m.assignment().topicPartitions().forEach(tp -> groupTopics.add(tp.topic())));
+    return new GroupLag(
+        state.committedOffsets().isEmpty() ? null : total,
+        topicsLag,
+        groupTopics.size()
+    );
+  }
+
+  /**
+   * Returns group's lag, or {@link GroupLag#EMPTY} if group was not scraped yet.
+   */
+  public GroupLag get(String group) {
+    return lags.getOrDefault(group, GroupLag.EMPTY);
+  }
+}
@@ -4,6 +4,7 @@ import io.kafbat.ui.model.ConnectorStatusDTO;
 import io.kafbat.ui.model.ConnectorTypeDTO;
 import java.time.Instant;
 import java.util.List;
+import javax.annotation.Nullable;
 import lombok.Builder;
 import lombok.RequiredArgsConstructor;
 import lombok.Value;
@@ -20,5 +21,10 @@ public class KafkaConnectState {
   public record ConnectorState(String name,
                                ConnectorTypeDTO connectorType,
                                ConnectorStatusDTO status,
-                               List<String> topics) {}
+                               List<String> topics,
+                               String connectorClass,
+                               int tasksCount,
+                               int failedTasksCount,
+                               // consumer group name built from connect's pattern, group may not exist
+                               @Nullable String consumer) {}
 }
@@ -14,6 +14,7 @@ import io.kafbat.ui.service.metrics.scrape.jmx.JmxMetricsRetriever;
 import io.kafbat.ui.service.metrics.scrape.jmx.JmxMetricsScraper;
 import io.kafbat.ui.service.metrics.scrape.prometheus.PrometheusScraper;
 import io.kafbat.ui.service.metrics.sink.MetricsSink;
+import io.kafbat.ui.util.ApplicationMetrics;
 import io.prometheus.metrics.model.snapshots.MetricSnapshot;
 import jakarta.annotation.Nullable;
 import java.util.Collection;
@@ -26,34 +27,46 @@ import reactor.core.publisher.Mono;
 
 @Slf4j
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
-public class MetricsScraper {
+public class MetricsScraper implements AutoCloseable {
 
   private final String clusterName;
   private final MetricsSink sink;
   private final InferredMetricsScraper inferredMetricsScraper;
   @Nullable
   private final BrokerMetricsScraper brokerMetricsScraper;
+  private final ScrapedMetricsFilter metricsFilter;
 
   public static MetricsScraper create(Cluster cluster,
                                       JmxMetricsRetriever jmxMetricsRetriever) {
     BrokerMetricsScraper scraper = null;
     MetricsConfig metricsConfig = cluster.getMetrics();
+    var metricsFilter = ScrapedMetricsFilter.create(
+        cluster.getName(), metricsConfig != null ? metricsConfig.getFilter() : null);
     if (cluster.getMetrics() != null) {
       var scrapeProperties = MetricsScrapeProperties.create(cluster);
       if (metricsConfig.getType().equalsIgnoreCase(JMX_METRICS_TYPE) && metricsConfig.getPort() != null) {
-        scraper = new JmxMetricsScraper(scrapeProperties, jmxMetricsRetriever);
+        scraper = new JmxMetricsScraper(
+            scrapeProperties, jmxMetricsRetriever, ApplicationMetrics.forCluster(cluster.getName()));
       } else if (metricsConfig.getType().equalsIgnoreCase(PROMETHEUS_METRICS_TYPE)) {
-        scraper = new PrometheusScraper(scrapeProperties);
+        // families are filtered while parsing, so they are not passed to metricsFilter.apply(..)
+        scraper = new PrometheusScraper(
+            scrapeProperties, metricsFilter::isFamilyIncluded, metricsFilter::recordFilteredSeries);
       }
     }
     return new MetricsScraper(
         cluster.getName(),
         MetricsSink.create(cluster),
         new InferredMetricsScraper(),
-        scraper
+        scraper,
+        metricsFilter
     );
   }
 
+  @Override
+  public void close() {
+    sink.close();
+  }
+
   public Mono<Metrics> scrape(ScrapedClusterState clusterState, Collection<Node> nodes) {
     Mono<InferredMetrics> inferred = inferredMetricsScraper.scrape(clusterState);
     Mono<PerBrokerScrapedMetrics> brokerMetrics = scrapeBrokers(nodes);
@@ -83,7 +96,7 @@ public class MetricsScraper {
 
   private Mono<PerBrokerScrapedMetrics> scrapeBrokers(Collection<Node> nodes) {
     if (brokerMetricsScraper != null) {
-      return brokerMetricsScraper.scrape(nodes);
+      return brokerMetricsScraper.scrape(nodes).map(metricsFilter::apply);
     }
     return Mono.just(PerBrokerScrapedMetrics.empty());
   }
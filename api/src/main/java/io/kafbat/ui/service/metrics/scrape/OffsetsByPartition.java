@@ -0,0 +1,122 @@
+package io.kafbat.ui.service.metrics.scrape;
+
+import com.google.common.base.Preconditions;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Immutable partition -> offset map, backed by a primitive array indexed by partition number.
+ * Allows reading offsets without boxing via {@link #offset(int)}, while still being usable as a regular map:
+ * map view contains exactly the entries of the source map, including null and negative offsets.
+ */
+public final class OffsetsByPartition extends AbstractMap<Integer, Long> {
+
+  public static final long UNKNOWN = -1;
+
+  private static final OffsetsByPartition EMPTY = new OffsetsByPartition(new long[0], new BitSet(), new BitSet(), 0);
+
+  private final long[] offsets;
+  private final BitSet present;
+  private final BitSet nullValues;
+  private final int size;
+
+  private OffsetsByPartition(long[] offsets, BitSet present, BitSet nullValues, int size) {
+    this.offsets = offsets;
+    this.present = present;
+    this.nullValues = nullValues;
+    this.size = size;
+  }
+
+  public static OffsetsByPartition from(Map<Integer, Long> offsets) {
+    if (offsets instanceof OffsetsByPartition already) {
+      return already;
+    }
+    if (offsets.isEmpty()) {
+      return EMPTY;
+    }
+    int maxPartition = offsets.keySet().stream().mapToInt(Integer::intValue).max().orElse(-1);
+    long[] array = new long[maxPartition + 1];
+    Arrays.fill(array, UNKNOWN);
+    BitSet present = new BitSet(array.length);
+    BitSet nullValues = new BitSet(array.length);
+    for (Map.Entry<Integer, Long> e : offsets.entrySet()) {
+      int partition = e.getKey();
+      Preconditions.checkArgument(partition >= 0, "Negative partition %s", partition);
+      present.set(partition);
+      if (e.getValue() == null) {
+        nullValues.set(partition);
+      } else {
+        array[partition] = e.getValue();
+      }
+    }
+    return new OffsetsByPartition(array, present, nullValues, offsets.size());
+  }
+
+  /**
+   * Returns partition's offset, or {@link #UNKNOWN} if there is no offset for partition,
+   * or it is null or negative (Kafka uses negative values for unknown offsets).
+   */
+  public long offset(int partition) {
+    if (partition < 0 || partition >= offsets.length) {
+      return UNKNOWN;
+    }
+    long offset = offsets[partition];
+    return offset >= 0 ? offset : UNKNOWN;
+  }
+
+  @Override
+  public Long get(Object key) {
+    if (key instanceof Integer partition && containsKey(partition)) {
+      return nullValues.get(partition) ? null : offsets[partition];
+    }
+    return null;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return key instanceof Integer partition && partition >= 0 && present.get(partition);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public Set<Entry<Integer, Long>> entrySet() {
+    return new AbstractSet<>() {
+      @Override
+      public Iterator<Entry<Integer, Long>> iterator() {
+        return new Iterator<>() {
+          private int next = present.nextSetBit(0);
+
+          @Override
+          public boolean hasNext() {
+            return next >= 0;
+          }
+
+          @Override
+          public Entry<Integer, Long> next() {
+            if (!hasNext()) {
+              throw new NoSuchElementException();
+            }
+            var entry = new SimpleImmutableEntry<>(next, nullValues.get(next) ? null : offsets[next]);
+            next = present.nextSetBit(next + 1);
+            return entry;
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+    };
+  }
+}
@@ -14,11 +14,17 @@ import io.kafbat.ui.service.index.FilterTopicIndex;
 import io.kafbat.ui.service.index.LuceneTopicsIndex;
 import io.kafbat.ui.service.index.TopicsIndex;
 import jakarta.annotation.Nullable;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.Builder;
@@ -32,6 +38,8 @@ import org.apache.kafka.clients.admin.OffsetSpec;
 import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.Node;
 import org.apache.kafka.common.TopicPartition;
+import org.pcollections.HashTreePMap;
+import org.pcollections.PMap;
 import reactor.core.publisher.Mono;
 
 @Builder(toBuilder = true)
@@ -40,11 +48,29 @@ import reactor.core.publisher.Mono;
 @Slf4j
 public class ScrapedClusterState implements AutoCloseable {
 
+  private static final AtomicLong VERSIONS = new AtomicLong();
+
   Instant scrapeFinishedAt;
   Map<Integer, NodeState> nodesStates;
   Map<String, TopicState> topicStates;
   Map<String, ConsumerGroupState> consumerGroupsStates;
   TopicsIndex topicIndex;
+  @Nullable // null if state was not scraped from cluster
+  RefreshTimestamps refreshTimestamps;
+  // re-built on each scrape, so lags are not updated by single topic updates between scrapes
+  @Nullable
+  ConsumerGroupsLagIndex consumerGroupsLagIndex;
+  // changes on every state change (scrape or topics update), can be used as a key for data derived from state
+  @Builder.Default
+  long version = nextVersion();
+
+  private static long nextVersion() {
+    return VERSIONS.incrementAndGet();
+  }
+
+  public ConsumerGroupsLagIndex getConsumerGroupsLagIndex() {
+    return consumerGroupsLagIndex == null ? ConsumerGroupsLagIndex.empty() : consumerGroupsLagIndex;
+  }
 
   @Override
   public void close() throws Exception {
@@ -67,6 +93,24 @@ public class ScrapedClusterState implements AutoCloseable {
       Map<Integer, Long> endOffsets,
       @Nullable SegmentStats segmentStats,
       @Nullable Map<Integer, SegmentStats> partitionsSegmentStats) {
+
+    public TopicState {
+      // end offsets are read on every lag calculation, so they are stored in primitive array
+      endOffsets = endOffsets == null ? null : OffsetsByPartition.from(endOffsets);
+    }
+
+    /**
+     * Returns partition's end offset without boxing, or {@link OffsetsByPartition#UNKNOWN} if it is unknown.
+     */
+    public long endOffset(int partition) {
+      return endOffsets == null ? OffsetsByPartition.UNKNOWN : ((OffsetsByPartition) endOffsets).offset(partition);
+    }
+  }
+
+  /**
+   * Times when state parts were last fetched from cluster, used by incremental scraping.
+   */
+  public record RefreshTimestamps(Instant fullScrape, Instant logDirs, Instant consumerGroups) {
   }
 
   public record ConsumerGroupState(
@@ -85,48 +129,90 @@ public class ScrapedClusterState implements AutoCloseable {
         .build();
   }
 
+  // topic states and index are updated with structural sharing, so single topic update costs O(log n)
   public ScrapedClusterState updateTopics(Map<String, TopicDescription> descriptions,
                                           Map<String, List<ConfigEntry>> configs,
                                           InternalPartitionsOffsets partitionsOffsets,
                                           ClustersProperties clustersProperties) {
-    var updatedTopicStates = new HashMap<>(topicStates);
-    descriptions.forEach((topic, description) -> {
-      SegmentStats segmentStats = null;
-      Map<Integer, SegmentStats> partitionsSegmentStats = null;
-      if (topicStates.containsKey(topic)) {
-        segmentStats = topicStates.get(topic).segmentStats();
-        partitionsSegmentStats = topicStates.get(topic).partitionsSegmentStats();
-      }
-      updatedTopicStates.put(
+    PMap<String, TopicState> updatedTopicStates = persistent(topicStates);
+    List<InternalTopic> updatedTopics = new ArrayList<>(descriptions.size());
+    for (var entry : descriptions.entrySet()) {
+      String topic = entry.getKey();
+      @Nullable TopicState prev = topicStates.get(topic);
+      var state = new TopicState(
           topic,
-          new TopicState(
-              topic,
-              description,
-              configs.getOrDefault(topic, List.of()),
-              partitionsOffsets.topicOffsets(topic, true),
-              partitionsOffsets.topicOffsets(topic, false),
-              segmentStats,
-              partitionsSegmentStats
-          )
+          entry.getValue(),
+          configs.getOrDefault(topic, List.of()),
+          partitionsOffsets.topicOffsets(topic, true),
+          partitionsOffsets.topicOffsets(topic, false),
+          prev == null ? null : prev.segmentStats(),
+          prev == null ? null : prev.partitionsSegmentStats()
       );
-    });
+      updatedTopicStates = updatedTopicStates.plus(topic, state);
+      updatedTopics.add(buildInternalTopic(state, clustersProperties));
+    }
 
     return toBuilder()
         .topicStates(updatedTopicStates)
-        .topicIndex(buildTopicIndex(clustersProperties, updatedTopicStates))
+        .topicIndex(mutateIndex(index -> index.upsert(updatedTopics)))
+        .version(nextVersion())
         .build();
   }
 
   public ScrapedClusterState topicDeleted(String topic) {
-    var newTopicStates = new HashMap<>(topicStates);
-    newTopicStates.remove(topic);
     return toBuilder()
-        .topicStates(newTopicStates)
+        .topicStates(persistent(topicStates).minus(topic))
+        .topicIndex(mutateIndex(index -> index.delete(topic)))
+        .version(nextVersion())
         .build();
   }
 
+  // index can be closed by full scrape that replaced it, before new state is published to statistics cache.
+  // Mutation is skipped then (searches fall back to filtering), and index is re-created by the next scrape.
+  private TopicsIndex mutateIndex(Function<TopicsIndex, TopicsIndex> mutation) {
+    try {
+      return mutation.apply(topicIndex);
+    } catch (IllegalStateException e) {
+      if (topicIndex instanceof LuceneTopicsIndex luceneIndex && luceneIndex.isClosed()) {
+        log.debug("Topics index is closed, skipping its update until next scrape");
+        return topicIndex;
+      }
+      throw e;
+    }
+  }
+
+  private static PMap<String, TopicState> persistent(Map<String, TopicState> topicStates) {
+    return topicStates instanceof PMap<String, TopicState> p ? p : HashTreePMap.from(topicStates);
+  }
+
+  /**
+   * Scrapes cluster state. If incremental scraping is enabled and previous state is recent enough,
+   * only changed parts of state are fetched from cluster and merged into the previous state.
+   */
+  public static Mono<ScrapedClusterState> scrape(ClusterDescription clusterDescription,
+                                                 ReactiveAdminClient ac,
+                                                 ClustersProperties clustersProperties,
+                                                 @Nullable ScrapedClusterState previous) {
+    var scrapeProperties = clustersProperties.getScrape();
+    Instant now = Instant.now();
+    if (!scrapeProperties.isIncremental()
+        || previous == null
+        || previous.refreshTimestamps == null
+        || isExpired(previous.refreshTimestamps.fullScrape(), scrapeProperties.getFullScrapeInterval(), now)) {
+      return fullScrape(clusterDescription, ac, clustersProperties, previous);
+    }
+    return previous.scrapeIncrementally(clusterDescription, ac, clustersProperties, now);
+  }
+
   public static Mono<ScrapedClusterState> scrape(ClusterDescription clusterDescription,
                                                  ReactiveAdminClient ac, ClustersProperties clustersProperties) {
+    return fullScrape(clusterDescription, ac, clustersProperties, null);
+  }
+
+  private static Mono<ScrapedClusterState> fullScrape(ClusterDescription clusterDescription,
+                                                      ReactiveAdminClient ac,
+                                                      ClustersProperties clustersProperties,
+                                                      @Nullable ScrapedClusterState previous) {
     return Mono.zip(
         ac.describeLogDirs(clusterDescription.getNodes().stream().map(Node::id).toList())
             .map(InternalLogDirStats::new),
@@ -144,12 +230,159 @@ public class ScrapedClusterState implements AutoCloseable {
                 clusterDescription,
                 phase1.getT1(),
                 topicStateMap(phase1.getT1(), phase1.getT3(), phase1.getT4(), phase2.getT1(), phase2.getT2()),
-                phase2.getT3(),
-                phase2.getT4(),
-                clustersProperties
+                consumerGroupsStates(phase2.getT3(), phase2.getT4()),
+                clustersProperties,
+                previous == null ? null : previous.topicIndex
             )));
   }
 
+  /*
+   * Topic descriptions and latest offsets are fetched on every scrape, since they are cheap and change often.
+   * Configs and earliest offsets are only fetched for topics which metadata changed (created, re-created or
+   * partitions added). Log dirs (with earliest offsets, that usually change due to retention) and consumer groups
+   * are refreshed with their own intervals. Everything is fully re-scraped with fullScrapeInterval, so changes
+   * not visible in metadata (like configs altered outside UI) are eventually picked up.
+   */
+  private Mono<ScrapedClusterState> scrapeIncrementally(ClusterDescription clusterDescription,
+                                                        ReactiveAdminClient ac,
+                                                        ClustersProperties clustersProperties,
+                                                        Instant now) {
+    var scrapeProperties = clustersProperties.getScrape();
+    boolean refreshLogDirs = isExpired(refreshTimestamps.logDirs(), scrapeProperties.getLogDirsRefreshInterval(), now);
+    boolean refreshGroups =
+        isExpired(refreshTimestamps.consumerGroups(), scrapeProperties.getConsumerGroupsRefreshInterval(), now);
+
+    Mono<Optional<InternalLogDirStats>> logDirsMono = refreshLogDirs
+        ? ac.describeLogDirs(clusterDescription.getNodes().stream().map(Node::id).toList())
+            .map(InternalLogDirStats::new)
+            .map(Optional::of)
+        : Mono.just(Optional.empty());
+
+    Mono<Optional<Map<String, ConsumerGroupState>>> groupsMono = refreshGroups
+        ? ac.listConsumerGroups()
+            .map(l -> l.stream().map(ConsumerGroupListing::groupId).toList())
+            .flatMap(groups ->
+                Mono.zip(ac.describeConsumerGroups(groups), ac.listConsumerGroupOffsets(groups, null)))
+            .map(t -> Optional.of(consumerGroupsStates(t.getT1(), t.getT2())))
+        : Mono.just(Optional.empty());
+
+    return Mono.zip(logDirsMono, groupsMono, ac.describeTopics())
+        .flatMap(phase1 -> {
+          Map<String, TopicDescription> descriptions = phase1.getT3();
+          Set<String> changedTopics = descriptions.values().stream()
+              .filter(d -> metadataChanged(topicStates.get(d.name()), d))
+              .map(TopicDescription::name)
+              .collect(Collectors.toSet());
+          Collection<TopicDescription> earliestOffsetsTargets = refreshLogDirs
+              ? descriptions.values()
+              : changedTopics.stream().map(descriptions::get).toList();
+          return Mono.zip(
+              changedTopics.isEmpty() ? Mono.just(Map.<String, List<ConfigEntry>>of())
+                  : ac.getTopicsConfig(changedTopics, false),
+              ac.listOffsets(descriptions.values(), OffsetSpec.latest()),
+              earliestOffsetsTargets.isEmpty() ? Mono.just(Map.<TopicPartition, Long>of())
+                  : ac.listOffsets(earliestOffsetsTargets, OffsetSpec.earliest())
+          ).map(phase2 -> {
+            log.debug("Incremental scrape: {} topics changed, log dirs refreshed: {}, groups refreshed: {}",
+                changedTopics.size(), refreshLogDirs, refreshGroups);
+            return mergeIncrementalScrape(
+                clusterDescription,
+                descriptions,
+                changedTopics,
+                phase2.getT1(),
+                groupByTopic(phase2.getT2()),
+                groupByTopic(phase2.getT3()),
+                phase1.getT1().orElse(null),
+                phase1.getT2().orElse(null),
+                clustersProperties,
+                now
+            );
+          });
+        });
+  }
+
+  private ScrapedClusterState mergeIncrementalScrape(ClusterDescription clusterDescription,
+                                                     Map<String, TopicDescription> descriptions,
+                                                     Set<String> changedTopics,
+                                                     Map<String, List<ConfigEntry>> changedTopicsConfigs,
+                                                     Map<String, Map<Integer, Long>> latestOffsets,
+                                                     Map<String, Map<Integer, Long>> earliestOffsets,
+                                                     @Nullable InternalLogDirStats logDirStats,
+                                                     @Nullable Map<String, ConsumerGroupState> groupsStates,
+                                                     ClustersProperties clustersProperties,
+                                                     Instant now) {
+    var partitionsStatsByTopic = Optional.ofNullable(logDirStats)
+        .map(InternalLogDirStats::getPartitionsStats)
+        .map(ScrapedClusterState::groupByTopic)
+        .orElse(null);
+
+    Map<String, TopicState> newTopicStates = new HashMap<>();
+    descriptions.forEach((topic, description) -> {
+      // state of re-created topic should not be reused
+      @Nullable TopicState prev = changedTopics.contains(topic) ? null : topicStates.get(topic);
+      newTopicStates.put(
+          topic,
+          new TopicState(
+              topic,
+              description,
+              prev == null ? changedTopicsConfigs.getOrDefault(topic, List.of()) : prev.configs(),
+              earliestOffsets.getOrDefault(topic, prev == null ? Map.of() : prev.startOffsets()),
+              latestOffsets.getOrDefault(topic, Map.of()),
+              logDirStats != null
+                  ? logDirStats.getTopicStats().get(topic)
+                  : (prev == null ? null : prev.segmentStats()),
+              logDirStats != null
+                  ? (partitionsStatsByTopic == null ? null : partitionsStatsByTopic.getOrDefault(topic, Map.of()))
+                  : (prev == null ? null : prev.partitionsSegmentStats())
+          )
+      );
+    });
+
+    Map<Integer, NodeState> newNodesStates = new HashMap<>();
+    clusterDescription.getNodes().forEach(node -> {
+      @Nullable NodeState prev = nodesStates.get(node.id());
+      newNodesStates.put(
+          node.id(),
+          new NodeState(
+              node.id(),
+              node,
+              logDirStats != null
+                  ? logDirStats.getBrokerStats().get(node.id())
+                  : (prev == null ? null : prev.segmentStats()),
+              logDirStats != null
+                  ? logDirStats.getBrokerDirsStats().get(node.id())
+                  : (prev == null ? null : prev.logDirSpaceStats())
+          ));
+    });
+
+    var newGroupsStates = groupsStates != null ? groupsStates : consumerGroupsStates;
+    return new ScrapedClusterState(
+        now,
+        newNodesStates,
+        HashTreePMap.from(newTopicStates),
+        newGroupsStates,
+        buildTopicIndex(clustersProperties, newTopicStates, topicIndex),
+        new RefreshTimestamps(
+            refreshTimestamps.fullScrape(),
+            logDirStats != null ? now : refreshTimestamps.logDirs(),
+            groupsStates != null ? now : refreshTimestamps.consumerGroups()
+        ),
+        ConsumerGroupsLagIndex.build(newGroupsStates, newTopicStates),
+        nextVersion()
+    );
+  }
+
+  // topic's configs should be re-fetched if topic was created, re-created or its partitions count changed
+  private static boolean metadataChanged(@Nullable TopicState prev, TopicDescription current) {
+    return prev == null
+        || !Objects.equals(prev.description().topicId(), current.topicId())
+        || prev.description().partitions().size() != current.partitions().size();
+  }
+
+  private static boolean isExpired(Instant refreshedAt, Duration interval, Instant now) {
+    return !refreshedAt.plus(interval).isAfter(now);
+  }
+
   private static Map<String, TopicState> topicStateMap(
       InternalLogDirStats segmentStats,
       Map<String, TopicDescription> topicDescriptions,
@@ -157,29 +390,29 @@ public class ScrapedClusterState implements AutoCloseable {
       Map<TopicPartition, Long> latestOffsets,
       Map<TopicPartition, Long> earliestOffsets) {
 
+    var earliestByTopic = groupByTopic(earliestOffsets);
+    var latestByTopic = groupByTopic(latestOffsets);
+    var partitionsStatsByTopic = Optional.ofNullable(segmentStats.getPartitionsStats())
+        .map(ScrapedClusterState::groupByTopic)
+        .orElse(null);
+
     return topicDescriptions.entrySet().stream().map(entry -> new TopicState(
         entry.getKey(),
         entry.getValue(),
         topicConfigs.getOrDefault(entry.getKey(), List.of()),
-        filterTopic(entry.getKey(), earliestOffsets),
-        filterTopic(entry.getKey(), latestOffsets),
+        earliestByTopic.getOrDefault(entry.getKey(), Map.of()),
+        latestByTopic.getOrDefault(entry.getKey(), Map.of()),
         segmentStats.getTopicStats().get(entry.getKey()),
-        Optional.ofNullable(segmentStats.getPartitionsStats())
-            .map(topicForFilter -> filterTopic(entry.getKey(), topicForFilter))
-            .orElse(null)
+        partitionsStatsByTopic == null ? null : partitionsStatsByTopic.getOrDefault(entry.getKey(), Map.of())
     )).collect(Collectors.toMap(
         TopicState::name,
         Function.identity()
     ));
   }
 
-  private static ScrapedClusterState create(ClusterDescription clusterDescription,
-                                            InternalLogDirStats segmentStats,
-                                            Map<String, TopicState> topicStates,
-                                            Map<String, ConsumerGroupDescription> consumerDescriptions,
-                                            Table<String, TopicPartition, Long> consumerOffsets,
-                                            ClustersProperties clustersProperties) {
-
+  private static Map<String, ConsumerGroupState> consumerGroupsStates(
+      Map<String, ConsumerGroupDescription> consumerDescriptions,
+      Table<String, TopicPartition, Long> consumerOffsets) {
     Map<String, ConsumerGroupState> consumerGroupsStates = new HashMap<>();
     consumerDescriptions.forEach((name, desc) ->
         consumerGroupsStates.put(
@@ -189,6 +422,15 @@ public class ScrapedClusterState implements AutoCloseable {
                 desc,
                 consumerOffsets.row(name)
             )));
+    return consumerGroupsStates;
+  }
+
+  private static ScrapedClusterState create(ClusterDescription clusterDescription,
+                                            InternalLogDirStats segmentStats,
+                                            Map<String, TopicState> topicStates,
+                                            Map<String, ConsumerGroupState> consumerGroupsStates,
+                                            ClustersProperties clustersProperties,
+                                            @Nullable TopicsIndex previousIndex) {
 
     Map<Integer, NodeState> nodesStates = new HashMap<>();
     clusterDescription.getNodes().forEach(node ->
@@ -201,23 +443,51 @@ public class ScrapedClusterState implements AutoCloseable {
                 segmentStats.getBrokerDirsStats().get(node.id())
             )));
 
+    Instant now = Instant.now();
     return new ScrapedClusterState(
-        Instant.now(),
+        now,
         nodesStates,
-        topicStates,
+        HashTreePMap.from(topicStates),
         consumerGroupsStates,
-        buildTopicIndex(clustersProperties, topicStates)
+        buildTopicIndex(clustersProperties, topicStates, previousIndex),
+        new RefreshTimestamps(now, now, now),
+        ConsumerGroupsLagIndex.build(consumerGroupsStates, topicStates),
+        nextVersion()
     );
   }
 
+  // lucene index is long-lived: previous scrape's index is synchronized with new topics instead of re-building.
+  // If previous index was not reused (sync failed, fts was disabled), it is closed.
   private static TopicsIndex buildTopicIndex(ClustersProperties clustersProperties,
-                                             Map<String, TopicState> topicStates) {
+                                             Map<String, TopicState> topicStates,
+                                             @Nullable TopicsIndex previousIndex) {
+    TopicsIndex index = syncOrCreateTopicIndex(clustersProperties, topicStates, previousIndex);
+    if (previousIndex != null && previousIndex != index) {
+      try {
+        previousIndex.close();
+      } catch (Exception e) {
+        log.warn("Error closing previous topics index", e);
+      }
+    }
+    return index;
+  }
+
+  private static TopicsIndex syncOrCreateTopicIndex(ClustersProperties clustersProperties,
+                                                    Map<String, TopicState> topicStates,
+                                                    @Nullable TopicsIndex previousIndex) {
     ClustersProperties.ClusterFtsProperties fts = clustersProperties.getFts();
     List<InternalTopic> topics = topicStates.values().stream().map(
         topicState -> buildInternalTopic(topicState, clustersProperties)
     ).toList();
 
     if (fts.isEnabled()) {
+      if (previousIndex instanceof LuceneTopicsIndex luceneIndex) {
+        try {
+          return luceneIndex.sync(topics);
+        } catch (Exception e) {
+          log.warn("Error updating lucene topics index, it will be re-created", e);
+        }
+      }
       try {
         return new LuceneTopicsIndex(topics);
       } catch (Exception e) {
@@ -227,11 +497,10 @@ public class ScrapedClusterState implements AutoCloseable {
     return new FilterTopicIndex(topics);
   }
 
-  private static <T> Map<Integer, T> filterTopic(String topicForFilter, Map<TopicPartition, T> tpMap) {
-    return tpMap.entrySet()
-        .stream()
-        .filter(tp -> tp.getKey().topic().equals(topicForFilter))
-        .collect(Collectors.toMap(e -> e.getKey().partition(), Map.Entry::getValue));
+  private static <T> Map<String, Map<Integer, T>> groupByTopic(Map<TopicPartition, T> tpMap) {
+    Map<String, Map<Integer, T>> result = new HashMap<>();
+    tpMap.forEach((tp, value) -> result.computeIfAbsent(tp.topic(), t -> new HashMap<>()).put(tp.partition(), value));
+    return result;
   }
 
   private static InternalTopic buildInternalTopic(TopicState state,
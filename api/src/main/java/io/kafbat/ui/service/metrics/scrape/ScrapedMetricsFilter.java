@@ -0,0 +1,101 @@
+package io.kafbat.ui.service.metrics.scrape;
+
+import io.kafbat.ui.config.ClustersProperties.MetricsFilterConfig;
+import io.kafbat.ui.util.ApplicationMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.prometheus.metrics.model.snapshots.MetricSnapshot;
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Applies cluster's metrics filter to scraped broker metrics: drops families not matching include/exclude
+ * patterns and families that don't fit into per-broker series limit. Dropped series are counted
+ * (see {@link ApplicationMetrics#droppedScrapedSeries(String)}).
+ */
+@Slf4j
+public class ScrapedMetricsFilter {
+
+  static final String FILTERED_REASON = "filtered";
+  static final String LIMIT_REASON = "limit";
+
+  private final List<Pattern> includeFamilies;
+  private final List<Pattern> excludeFamilies;
+  @Nullable
+  private final Integer maxSeriesPerBroker;
+  private final Map<String, Boolean> familiesDecisions = new ConcurrentHashMap<>();
+
+  private final Counter filteredSeries;
+  private final Counter overLimitSeries;
+
+  ScrapedMetricsFilter(MetricsFilterConfig config, ApplicationMetrics metrics) {
+    this.includeFamilies = compile(config.getIncludeFamilies());
+    this.excludeFamilies = compile(config.getExcludeFamilies());
+    this.maxSeriesPerBroker = config.getMaxSeriesPerBroker();
+    this.filteredSeries = metrics.droppedScrapedSeries(FILTERED_REASON);
+    this.overLimitSeries = metrics.droppedScrapedSeries(LIMIT_REASON);
+  }
+
+  public static ScrapedMetricsFilter create(String clusterName, @Nullable MetricsFilterConfig config) {
+    return new ScrapedMetricsFilter(
+        Optional.ofNullable(config).orElseGet(MetricsFilterConfig::new),
+        ApplicationMetrics.forCluster(clusterName)
+    );
+  }
+
+  private static List<Pattern> compile(@Nullable List<String> patterns) {
+    return patterns == null ? List.of() : patterns.stream().map(Pattern::compile).toList();
+  }
+
+  public boolean isFamilyIncluded(String family) {
+    return familiesDecisions.computeIfAbsent(family, f ->
+        (includeFamilies.isEmpty() || includeFamilies.stream().anyMatch(p -> p.matcher(f).matches()))
+            && excludeFamilies.stream().noneMatch(p -> p.matcher(f).matches()));
+  }
+
+  // for series filtered out before apply(..) is called (like prometheus families skipped by parser)
+  public void recordFilteredSeries(long series) {
+    filteredSeries.increment(series);
+  }
+
+  PerBrokerScrapedMetrics apply(PerBrokerScrapedMetrics scraped) {
+    if (includeFamilies.isEmpty() && excludeFamilies.isEmpty() && maxSeriesPerBroker == null) {
+      return scraped;
+    }
+    Map<Integer, List<MetricSnapshot>> filtered = new HashMap<>();
+    scraped.perBrokerMetrics().forEach((brokerId, snapshots) -> filtered.put(brokerId, apply(brokerId, snapshots)));
+    return new PerBrokerScrapedMetrics(filtered);
+  }
+
+  private List<MetricSnapshot> apply(int brokerId, List<MetricSnapshot> snapshots) {
+    List<MetricSnapshot> kept = new ArrayList<>(snapshots.size());
+    long keptSeries = 0;
+    long filtered = 0;
+    long overLimit = 0;
+    for (MetricSnapshot snapshot : snapshots) {
+      int series = snapshot.getDataPoints().size();
+      if (!isFamilyIncluded(snapshot.getMetadata().getName())) {
+        filtered += series;
+      } else if (maxSeriesPerBroker != null && keptSeries + series > maxSeriesPerBroker) {
+        // whole family is dropped, partially kept families would be misleading
+        overLimit += series;
+      } else {
+        keptSeries += series;
+        kept.add(snapshot);
+      }
+    }
+    filteredSeries.increment(filtered);
+    overLimitSeries.increment(overLimit);
+    if (overLimit > 0) {
+      log.debug("{} series of broker {} metrics dropped, since they exceed series limit ({})",
+          overLimit, brokerId, maxSeriesPerBroker);
+    }
+    return kept;
+  }
+}
@@ -0,0 +1,149 @@
+package io.kafbat.ui.service.metrics.scrape.jmx;
+
+import io.kafbat.ui.service.metrics.RawMetric;
+import io.micrometer.core.instrument.Counter;
+import jakarta.annotation.Nullable;
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServerConnection;
+import javax.management.ObjectName;
+import javax.management.remote.JMXConnectionNotification;
+import javax.management.remote.JMXConnector;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Long-lived connection to broker's JMX endpoint. Scraped MBean names (matching filter) and their attributes
+ * metadata are cached between scrapes, so a scrape mostly costs one bulk getAttributes call per MBean.
+ * Names are re-resolved periodically to pick up MBeans of newly created topics and partitions.
+ */
+@Slf4j
+class JmxConnection implements Closeable {
+
+  private record MBeanAttributes(MBeanAttributeInfo[] infos, String[] names) {
+  }
+
+  static final Duration NAMES_REFRESH_INTERVAL = Duration.ofMinutes(5);
+
+  private final JMXConnector connector;
+  private final JmxMetricsFilter filter;
+  private final Map<ObjectName, MBeanAttributes> attributesCache = new ConcurrentHashMap<>();
+  private volatile boolean failed = false;
+
+  @Nullable
+  private Set<ObjectName> resolvedNames;
+  private long namesResolvedAtNanos;
+
+  JmxConnection(JMXConnector connector, JmxMetricsFilter filter) {
+    this.connector = connector;
+    this.filter = filter;
+    connector.addConnectionNotificationListener(
+        (notification, handback) -> {
+          String type = notification.getType();
+          if (JMXConnectionNotification.FAILED.equals(type) || JMXConnectionNotification.CLOSED.equals(type)) {
+            failed = true;
+          }
+        },
+        null,
+        null
+    );
+  }
+
+  boolean isHealthy() {
+    return !failed;
+  }
+
+  synchronized List<RawMetric> scrape(Counter rmiCalls) throws IOException, JMException {
+    MBeanServerConnection msc = connector.getMBeanServerConnection();
+    List<ObjectName> names = resolveNames(msc, rmiCalls);
+    List<RawMetric> result = new ArrayList<>();
+    for (ObjectName name : names) {
+      try {
+        MBeanAttributes attributes = attributesCache.get(name);
+        if (attributes == null) {
+          attributes = scrapedAttributes(msc.getMBeanInfo(name));
+          rmiCalls.increment();
+          attributesCache.put(name, attributes);
+        }
+        if (attributes.names().length == 0) {
+          continue;
+        }
+        AttributeList values = msc.getAttributes(name, attributes.names());
+        rmiCalls.increment();
+        result.addAll(
+            JmxMetricsFormatter.constructMetricsList(name, attributes.infos(), alignValues(attributes, values)));
+      } catch (InstanceNotFoundException e) {
+        // mbean was unregistered since names were resolved
+        attributesCache.remove(name);
+        resolvedNames.remove(name);
+      }
+    }
+    return result;
+  }
+
+  private List<ObjectName> resolveNames(MBeanServerConnection msc, Counter rmiCalls) throws IOException {
+    if (resolvedNames != null && System.nanoTime() - namesResolvedAtNanos < NAMES_REFRESH_INTERVAL.toNanos()) {
+      return List.copyOf(resolvedNames);
+    }
+    Set<ObjectName> names = new LinkedHashSet<>();
+    for (ObjectName include : filter.includeObjectNames()) {
+      if (include.isPattern()) {
+        names.addAll(msc.queryNames(include, null));
+        rmiCalls.increment();
+      } else {
+        names.add(include);
+      }
+    }
+    names.removeIf(filter::isExcluded);
+    // forgetting unregistered mbeans
+    attributesCache.keySet().retainAll(names);
+    resolvedNames = names;
+    namesResolvedAtNanos = System.nanoTime();
+    return List.copyOf(names);
+  }
+
+  private MBeanAttributes scrapedAttributes(MBeanInfo info) {
+    MBeanAttributeInfo[] scraped = Arrays.stream(info.getAttributes())
+        .filter(MBeanAttributeInfo::isReadable)
+        .filter(a -> filter.isAttributeIncluded(a.getName()))
+        .toArray(MBeanAttributeInfo[]::new);
+    String[] names = Arrays.stream(scraped).map(MBeanAttributeInfo::getName).toArray(String[]::new);
+    return new MBeanAttributes(scraped, names);
+  }
+
+  // getAttributes skips attributes that can't be read, so values are matched to attributes by name
+  private static Object[] alignValues(MBeanAttributes attributes, AttributeList values) {
+    Map<String, Object> valuesByName = new HashMap<>(values.size());
+    for (Attribute attribute : values.asList()) {
+      valuesByName.put(attribute.getName(), attribute.getValue());
+    }
+    Object[] aligned = new Object[attributes.names().length];
+    for (int i = 0; i < aligned.length; i++) {
+      aligned[i] = valuesByName.get(attributes.names()[i]);
+    }
+    return aligned;
+  }
+
+  @Override
+  public void close() {
+    try {
+      connector.close();
+    } catch (IOException e) {
+      log.debug("Error closing jmx connector", e);
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package io.kafbat.ui.service.metrics.scrape.jmx;
+
+import io.kafbat.ui.config.ClustersProperties.JmxFilterConfig;
+import jakarta.annotation.Nullable;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+/**
+ * MBeans and attributes to be scraped from brokers, parsed from cluster's jmx filter config once.
+ * Included object names without wildcards are used as is, without querying broker for matching names.
+ */
+public record JmxMetricsFilter(List<ObjectName> includeObjectNames,
+                               List<ObjectName> excludeObjectNames,
+                               Set<String> includeAttributes,
+                               Set<String> excludeAttributes) {
+
+  static final String DEFAULT_OBJECT_NAMES_PATTERN = "kafka.server*:*";
+
+  public static JmxMetricsFilter create(@Nullable JmxFilterConfig config) {
+    var cfg = Optional.ofNullable(config).orElseGet(JmxFilterConfig::new);
+    List<ObjectName> includes = parseObjectNames(cfg.getIncludeObjectNames());
+    return new JmxMetricsFilter(
+        includes.isEmpty() ? parseObjectNames(List.of(DEFAULT_OBJECT_NAMES_PATTERN)) : includes,
+        parseObjectNames(cfg.getExcludeObjectNames()),
+        cfg.getIncludeAttributes() == null ? Set.of() : Set.copyOf(cfg.getIncludeAttributes()),
+        cfg.getExcludeAttributes() == null ? Set.of() : Set.copyOf(cfg.getExcludeAttributes())
+    );
+  }
+
+  private static List<ObjectName> parseObjectNames(@Nullable List<String> names) {
+    if (names == null) {
+      return List.of();
+    }
+    return names.stream()
+        .map(name -> {
+          try {
+            return new ObjectName(name);
+          } catch (MalformedObjectNameException e) {
+            throw new IllegalStateException("Application config isn't valid. Invalid JMX object name: " + name, e);
+          }
+        })
+        .toList();
+  }
+
+  boolean isExcluded(ObjectName name) {
+    for (ObjectName exclude : excludeObjectNames) {
+      if (exclude.apply(name)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  boolean isAttributeIncluded(String attribute) {
+    return (includeAttributes.isEmpty() || includeAttributes.contains(attribute))
+        && !excludeAttributes.contains(attribute);
+  }
+}
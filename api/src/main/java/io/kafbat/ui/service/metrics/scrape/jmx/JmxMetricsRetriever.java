@@ -1,20 +1,21 @@
 package io.kafbat.ui.service.metrics.scrape.jmx;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import io.kafbat.ui.model.MetricsScrapeProperties;
 import io.kafbat.ui.service.metrics.RawMetric;
+import io.kafbat.ui.util.ApplicationMetrics;
+import io.micrometer.core.instrument.Counter;
+import jakarta.annotation.Nullable;
 import java.io.Closeable;
-import java.util.ArrayList;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Consumer;
-import javax.management.MBeanAttributeInfo;
-import javax.management.MBeanServerConnection;
-import javax.management.ObjectName;
 import javax.management.remote.JMXConnector;
 import javax.management.remote.JMXConnectorFactory;
 import javax.management.remote.JMXServiceURL;
-import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.kafka.common.Node;
@@ -36,19 +37,38 @@ public class JmxMetricsRetriever implements Closeable {
 
   private static final String JMX_URL = "service:jmx:rmi:///jndi/rmi://";
   private static final String JMX_SERVICE_TYPE = "jmxrmi";
-  private static final String CANONICAL_NAME_PATTERN = "kafka.server*:*";
+  private static final Duration IDLE_CONNECTION_TIMEOUT = Duration.ofMinutes(10);
+
+  // connections are reused between scrapes and closed when not used for a while (ex. after config reload)
+  private final Cache<JmxEndpoint, JmxConnection> connections = Caffeine.newBuilder()
+      .expireAfterAccess(IDLE_CONNECTION_TIMEOUT)
+      .executor(Runnable::run)
+      .removalListener((JmxEndpoint endpoint, JmxConnection connection, RemovalCause cause) -> {
+        if (connection != null) {
+          connection.close();
+        }
+      })
+      .build();
+
+  private record JmxEndpoint(String url, MetricsScrapeProperties scrapeProperties) {
+  }
 
   @Override
   public void close() {
+    connections.invalidateAll();
+    connections.cleanUp();
     JmxSslSocketFactory.clearFactoriesCache();
   }
 
-  public Mono<List<RawMetric>> retrieveFromNode(MetricsScrapeProperties scrapeProperties, Node node) {
+  public Mono<List<RawMetric>> retrieveFromNode(MetricsScrapeProperties scrapeProperties,
+                                                JmxMetricsFilter filter,
+                                                ApplicationMetrics metrics,
+                                                Node node) {
     if (isSslJmxEndpoint(scrapeProperties) && !SSL_JMX_SUPPORTED) {
       log.warn("Cluster has jmx ssl configured, but it is not supported by the app");
       return Mono.just(List.of());
     }
-    return Mono.fromSupplier(() -> retrieveSync(scrapeProperties, node))
+    return Mono.fromSupplier(() -> retrieveSync(scrapeProperties, filter, metrics, node))
         .subscribeOn(Schedulers.boundedElastic());
   }
 
@@ -57,37 +77,75 @@ public class JmxMetricsRetriever implements Closeable {
         && scrapeProperties.getKeystoreConfig().getKeystoreLocation() != null;
   }
 
-  @SneakyThrows
-  private List<RawMetric> retrieveSync(MetricsScrapeProperties scrapeProperties, Node node) {
-    String jmxUrl = JMX_URL + node.host() + ":" + scrapeProperties.getPort() + "/" + JMX_SERVICE_TYPE;
+  private List<RawMetric> retrieveSync(MetricsScrapeProperties scrapeProperties,
+                                       JmxMetricsFilter filter,
+                                       ApplicationMetrics metrics,
+                                       Node node) {
+    String hostAndPort = node.host() + ":" + scrapeProperties.getPort();
+    String jmxUrl = JMX_URL + hostAndPort + "/" + JMX_SERVICE_TYPE;
     log.debug("Collecting JMX metrics for {}", jmxUrl);
-    List<RawMetric> result = new ArrayList<>();
-    withJmxConnector(jmxUrl, scrapeProperties, jmxConnector -> getMetricsFromJmx(jmxConnector, result));
-    log.debug("{} metrics collected for {}", result.size(), jmxUrl);
-    return result;
+    // ssl context should be set for both connection establishment and rmi calls, since sockets can be re-created
+    var env = prepareJmxEnvAndSetThreadLocal(scrapeProperties);
+    try {
+      Counter rmiCalls = metrics.jmxRmiCalls(hostAndPort);
+      List<RawMetric> result = metrics.jmxScrapeTimer(hostAndPort)
+          .record(() -> scrape(new JmxEndpoint(jmxUrl, scrapeProperties), filter, env, rmiCalls));
+      log.debug("{} metrics collected for {}", result.size(), jmxUrl);
+      return result;
+    } finally {
+      JmxSslSocketFactory.clearThreadLocalContext();
+    }
   }
 
-  private void withJmxConnector(String jmxUrl,
-                                MetricsScrapeProperties scrapeProperties,
-                                Consumer<JMXConnector> consumer) {
-    var env = prepareJmxEnvAndSetThreadLocal(scrapeProperties);
+  private List<RawMetric> scrape(JmxEndpoint endpoint,
+                                 JmxMetricsFilter filter,
+                                 Map<String, ?> env,
+                                 Counter rmiCalls) {
+    JmxConnection connection = connections.getIfPresent(endpoint);
+    boolean pooled = connection != null && connection.isHealthy();
+    if (!pooled) {
+      connection = connect(endpoint, filter, env);
+      if (connection == null) {
+        return List.of();
+      }
+    }
+    try {
+      return connection.scrape(rmiCalls);
+    } catch (Exception e) {
+      connections.invalidate(endpoint);
+      if (pooled) {
+        // connection could be broken since previous scrape, retrying with the new one
+        log.debug("Error getting jmx metrics from {} with pooled connection, reconnecting", endpoint.url(), e);
+        return scrape(endpoint, filter, env, rmiCalls);
+      }
+      log.error("Error getting jmx metrics from {}", endpoint.url(), e);
+      return List.of();
+    }
+  }
+
+  @Nullable
+  private JmxConnection connect(JmxEndpoint endpoint, JmxMetricsFilter filter, Map<String, ?> env) {
     JMXServiceURL serviceUrl;
     try {
-      serviceUrl = new JMXServiceURL(jmxUrl);
+      serviceUrl = new JMXServiceURL(endpoint.url());
     } catch (java.net.MalformedURLException e) {
-      log.error("Malformed JMX URL: {}", jmxUrl, e);
-      return;
+      log.error("Malformed JMX URL: {}", endpoint.url(), e);
+      return null;
     }
-    try (JMXConnector connector = JMXConnectorFactory.newJMXConnector(serviceUrl, env)) {
-      if (!tryConnect(connector, env, jmxUrl)) {
-        return;
-      }
-      consumer.accept(connector);
-    } catch (Exception connectorException) {
-      log.error("Error getting jmx metrics from {}", jmxUrl, connectorException);
-    } finally {
-      JmxSslSocketFactory.clearThreadLocalContext();
+    JMXConnector connector;
+    try {
+      connector = JMXConnectorFactory.newJMXConnector(serviceUrl, env);
+    } catch (Exception e) {
+      log.error("Error creating jmx connector for {}", endpoint.url(), e);
+      return null;
     }
+    if (!tryConnect(connector, env, endpoint.url())) {
+      return null;
+    }
+    var connection = new JmxConnection(connector, filter);
+    // replaced unhealthy connection will be closed by removal listener
+    connections.put(endpoint, connection);
+    return connection;
   }
 
   private boolean tryConnect(JMXConnector connector, Map<String, ?> env, String jmxUrl) {
@@ -96,6 +154,11 @@ public class JmxMetricsRetriever implements Closeable {
       return true;
     } catch (Exception connectException) {
       log.error("Error connecting to {}", jmxUrl, connectException);
+      try {
+        connector.close();
+      } catch (Exception closeException) {
+        log.debug("Error closing jmx connector for {}", jmxUrl, closeException);
+      }
       return false;
     }
   }
@@ -124,24 +187,4 @@ public class JmxMetricsRetriever implements Closeable {
     return env;
   }
 
-  @SneakyThrows
-  private void getMetricsFromJmx(JMXConnector jmxConnector, List<RawMetric> sink) {
-    MBeanServerConnection msc = jmxConnector.getMBeanServerConnection();
-    var jmxMetrics = msc.queryNames(new ObjectName(CANONICAL_NAME_PATTERN), null);
-    for (ObjectName jmxMetric : jmxMetrics) {
-      sink.addAll(extractObjectMetrics(jmxMetric, msc));
-    }
-  }
-
-  @SneakyThrows
-  private List<RawMetric> extractObjectMetrics(ObjectName objectName, MBeanServerConnection msc) {
-    MBeanAttributeInfo[] attrNames = msc.getMBeanInfo(objectName).getAttributes();
-    Object[] attrValues = new Object[attrNames.length];
-    for (int i = 0; i < attrNames.length; i++) {
-      attrValues[i] = msc.getAttribute(objectName, attrNames[i].getName());
-    }
-    return JmxMetricsFormatter.constructMetricsList(objectName, attrNames, attrValues);
-  }
-
 }
-
@@ -4,6 +4,7 @@ import io.kafbat.ui.model.MetricsScrapeProperties;
 import io.kafbat.ui.service.metrics.RawMetric;
 import io.kafbat.ui.service.metrics.scrape.BrokerMetricsScraper;
 import io.kafbat.ui.service.metrics.scrape.PerBrokerScrapedMetrics;
+import io.kafbat.ui.util.ApplicationMetrics;
 import io.prometheus.metrics.model.snapshots.MetricSnapshot;
 import java.util.Collection;
 import java.util.List;
@@ -17,17 +18,23 @@ public class JmxMetricsScraper implements BrokerMetricsScraper {
 
   private final JmxMetricsRetriever jmxMetricsRetriever;
   private final MetricsScrapeProperties scrapeProperties;
+  private final JmxMetricsFilter filter;
+  private final ApplicationMetrics metrics;
 
   public JmxMetricsScraper(MetricsScrapeProperties scrapeProperties,
-                           JmxMetricsRetriever jmxMetricsRetriever) {
+                           JmxMetricsRetriever jmxMetricsRetriever,
+                           ApplicationMetrics metrics) {
     this.scrapeProperties = scrapeProperties;
     this.jmxMetricsRetriever = jmxMetricsRetriever;
+    this.filter = JmxMetricsFilter.create(scrapeProperties.getJmxFilter());
+    this.metrics = metrics;
   }
 
   @Override
   public Mono<PerBrokerScrapedMetrics> scrape(Collection<Node> nodes) {
     Mono<Map<Integer, List<MetricSnapshot>>> collected = Flux.fromIterable(nodes)
-        .flatMap(n -> jmxMetricsRetriever.retrieveFromNode(scrapeProperties, n).map(metrics -> Tuples.of(n, metrics)))
+        .flatMap(n -> jmxMetricsRetriever.retrieveFromNode(scrapeProperties, filter, metrics, n)
+            .map(metrics -> Tuples.of(n, metrics)))
         .collectMap(
             t -> t.getT1().id(),
             t -> RawMetric.groupIntoSnapshot(t.getT2()).toList()
@@ -5,7 +5,11 @@ import io.kafbat.ui.util.WebClientConfigurator;
 import io.prometheus.metrics.model.snapshots.MetricSnapshot;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.LongConsumer;
+import java.util.function.Predicate;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.util.unit.DataSize;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -20,8 +24,20 @@ class PrometheusMetricsRetriever {
   private final int port;
   private final boolean sslEnabled;
   private final WebClient webClient;
+  private final Predicate<String> familiesFilter;
+  // notified with number of series dropped by families filter on each retrieval
+  private final LongConsumer filteredSeriesListener;
 
   PrometheusMetricsRetriever(MetricsScrapeProperties scrapeProperties) {
+    this(scrapeProperties, family -> true, series -> {
+    });
+  }
+
+  PrometheusMetricsRetriever(MetricsScrapeProperties scrapeProperties,
+                             Predicate<String> familiesFilter,
+                             LongConsumer filteredSeriesListener) {
+    this.familiesFilter = familiesFilter;
+    this.filteredSeriesListener = filteredSeriesListener;
     this.port = Optional.ofNullable(scrapeProperties.getPort()).orElse(DEFAULT_EXPORTER_PORT);
     this.sslEnabled = scrapeProperties.isSsl() || scrapeProperties.getKeystoreConfig() != null;
     this.webClient = new WebClientConfigurator()
@@ -42,15 +58,32 @@ class PrometheusMetricsRetriever {
         .build()
         .toUri();
 
-    return webClient.get()
-        .uri(uri)
-        .retrieve()
-        .bodyToMono(String.class)
+    // parsing response body as it is received, without aggregating it into single string
+    return Mono.defer(() -> {
+          var parser = new PrometheusTextFormatParser(familiesFilter);
+          return webClient.get()
+              .uri(uri)
+              .retrieve()
+              .bodyToFlux(DataBuffer.class)
+              .doOnNext(buffer -> feed(parser, buffer))
+              .then(Mono.fromSupplier(() -> {
+                var parsed = parser.complete();
+                filteredSeriesListener.accept(parser.getSkippedDataPoints());
+                return parsed;
+              }));
+        })
         .doOnError(e -> log.error("Error while getting metrics from {}", host, e))
-        .map(body -> new PrometheusTextFormatParser().parse(body))
         .onErrorResume(th -> {
           log.warn("Error while getting prometheus metrics from {}", host, th);
           return Mono.just(List.of());
         });
   }
+
+  private static void feed(PrometheusTextFormatParser parser, DataBuffer buffer) {
+    try (DataBuffer.ByteBufferIterator iterator = buffer.readableByteBuffers()) {
+      iterator.forEachRemaining(parser::feed);
+    } finally {
+      DataBufferUtils.release(buffer);
+    }
+  }
 }
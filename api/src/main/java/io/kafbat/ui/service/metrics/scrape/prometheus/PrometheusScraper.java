@@ -7,6 +7,8 @@ import io.prometheus.metrics.model.snapshots.MetricSnapshot;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.function.LongConsumer;
+import java.util.function.Predicate;
 import org.apache.kafka.common.Node;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -17,8 +19,10 @@ public class PrometheusScraper implements BrokerMetricsScraper {
 
   private final PrometheusMetricsRetriever retriever;
 
-  public PrometheusScraper(MetricsScrapeProperties scrapeProperties) {
-    this.retriever = new PrometheusMetricsRetriever(scrapeProperties);
+  public PrometheusScraper(MetricsScrapeProperties scrapeProperties,
+                           Predicate<String> familiesFilter,
+                           LongConsumer filteredSeriesListener) {
+    this.retriever = new PrometheusMetricsRetriever(scrapeProperties, familiesFilter, filteredSeriesListener);
   }
 
   @Override
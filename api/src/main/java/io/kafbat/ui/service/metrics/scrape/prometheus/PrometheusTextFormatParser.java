@@ -18,13 +18,15 @@ import io.prometheus.metrics.model.snapshots.Quantiles;
 import io.prometheus.metrics.model.snapshots.SummarySnapshot;
 import io.prometheus.metrics.model.snapshots.UnknownSnapshot;
 import io.prometheus.metrics.model.snapshots.UnknownSnapshot.UnknownDataPointSnapshot;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.function.Predicate;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 import org.jspecify.annotations.Nullable;
@@ -33,99 +35,286 @@ import org.jspecify.annotations.Nullable;
  * Parses the Prometheus text format into a {@link MetricSnapshots} object.
  * This class is designed to be the functional inverse of
  * {@code io.prometheus.metrics.expositionformats.PrometheusTextFormatWriter}.
+ *
+ * <p>Text can be fed in chunks (as it is received from metrics endpoint), complete lines are tokenized
+ * right away without regexes, metric and label names are interned. Data points of metric families
+ * that are not accepted by families filter are skipped without parsing labels and values.
+ * Parser instance is stateful and should be used for a single response.
  */
 public class PrometheusTextFormatParser {
 
-  // Regex to capture metric name, optional labels, value, and optional timestamp.
-  // Groups: 1=name, 2=labels (content), 3=value, 4=timestamp
-  private static final Pattern METRIC_LINE_PATTERN = Pattern.compile(// NOSONAR
-      "^([a-zA-Z_:][a-zA-Z0-9_:]*)"            // Metric name
-          + "(?:\\{([^}]*)})?"                     // Optional labels (content in group 2)
-          + "\\s+"
-          + "(-?(?:Inf|NaN|\\d*\\.?\\d+(?:[eE][+-]?\\d+)?))" // Value (group 3)
-          + "(?:\\s+(\\d+))?$");                 // Group 4: Optional timestamp
-
-
-  private static final Pattern HELP_PATTERN =
-      Pattern.compile("^# HELP ([a-zA-Z_:][a-zA-Z0-9_:]*) (.*)");
-  private static final Pattern TYPE_PATTERN =
-      Pattern.compile("^# TYPE ([a-zA-Z_:][a-zA-Z0-9_:]*) (counter|gauge|histogram|summary|untyped)");
-  private static final Pattern LABEL_PATTERN =
-      Pattern.compile("([a-zA-Z_:][a-zA-Z0-9_:]*)=\"((?>\\\\\"|\\\\\\\\|\\\\n|[^\"])*)\"");
   public static final String QUANTILE_LABEL = "quantile";
 
+  private static final String HELP_PREFIX = "# HELP ";
+  private static final String TYPE_PREFIX = "# TYPE ";
+
   private record ParsedDataPoint(String name, Labels labels, double value, Long scrapedAt) {
   }
 
+  private final List<MetricSnapshot> snapshots = new ArrayList<>();
+  private final ParsingContext cxt;
+  private final NamesInterner interner = new NamesInterner();
+  private final StringBuilder labelValue = new StringBuilder();
+
+  // bytes of the current (not yet terminated) line and its decoded chars
+  private byte[] lineBytes = new byte[256];
+  private int lineLength = 0;
+  private char[] line = new char[256];
+  private long skippedDataPoints = 0;
+
+  public PrometheusTextFormatParser() {
+    this(family -> true);
+  }
+
+  /**
+   * Creates parser that keeps only metric families (by sanitized name) accepted by filter.
+   */
+  public PrometheusTextFormatParser(Predicate<String> familiesFilter) {
+    this.cxt = new ParsingContext(snapshots, familiesFilter);
+  }
+
   public List<MetricSnapshot> parse(String textFormat) {
-    List<MetricSnapshot> snapshots = new ArrayList<>();
-    var cxt = new ParsingContext(snapshots);
-    textFormat.lines()
-        .map(String::trim)
-        .filter(s -> !s.isEmpty())
-        .forEach(line -> {
-          if (line.startsWith("#")) {
-            parseComment(line, cxt);
-          } else {
-            parseMetricLine(line, cxt);
-          }
-        });
+    feed(ByteBuffer.wrap(textFormat.getBytes(StandardCharsets.UTF_8)));
+    return complete();
+  }
+
+  /**
+   * Parses complete lines of the chunk, the rest is buffered until next chunk.
+   */
+  public void feed(ByteBuffer chunk) {
+    while (chunk.hasRemaining()) {
+      byte b = chunk.get();
+      if (b == '\n') {
+        parseLine();
+        lineLength = 0;
+      } else {
+        if (lineLength == lineBytes.length) {
+          lineBytes = Arrays.copyOf(lineBytes, lineLength * 2);
+        }
+        lineBytes[lineLength++] = b;
+      }
+    }
+  }
+
+  /**
+   * Parses last buffered line and returns all parsed snapshots.
+   */
+  public List<MetricSnapshot> complete() {
+    if (lineLength > 0) {
+      parseLine();
+      lineLength = 0;
+    }
     cxt.flushAndReset();
     return snapshots;
   }
 
-  private void parseComment(String line, ParsingContext cxt) {
-    if (line.startsWith("# HELP")) {
-      Matcher m = HELP_PATTERN.matcher(line);
-      if (m.matches()) {
-        cxt.metricNameAndHelp(
-            PrometheusNaming.sanitizeMetricName(m.group(1)),
-            m.group(2)
-        );
+  /**
+   * Returns number of data points (series) skipped, because their families were not accepted by filter.
+   */
+  public long getSkippedDataPoints() {
+    return skippedDataPoints;
+  }
+
+  private void parseLine() {
+    int end = decodeLine();
+    int start = 0;
+    while (start < end && line[start] <= ' ') {
+      start++;
+    }
+    while (end > start && line[end - 1] <= ' ') {
+      end--;
+    }
+    if (start == end) {
+      return;
+    }
+    if (line[start] == '#') {
+      parseComment(start, end);
+    } else {
+      parseMetricLine(start, end);
+    }
+  }
+
+  // returns decoded line length
+  private int decodeLine() {
+    if (line.length < lineLength) {
+      line = new char[Math.max(lineLength, line.length * 2)];
+    }
+    for (int i = 0; i < lineLength; i++) {
+      byte b = lineBytes[i];
+      if (b < 0) {
+        // non-ascii chars are rare (can only be in label values or help), decoding whole line
+        String decoded = new String(lineBytes, 0, lineLength, StandardCharsets.UTF_8);
+        decoded.getChars(0, decoded.length(), line, 0);
+        return decoded.length();
       }
-    } else if (line.startsWith("# TYPE")) {
-      Matcher m = TYPE_PATTERN.matcher(line);
-      if (m.matches()) {
-        cxt.metricNameAndType(
-            PrometheusNaming.sanitizeMetricName(m.group(1)),
-            MetricType.valueOf(m.group(2).toUpperCase())
-        );
+      line[i] = (char) b;
+    }
+    return lineLength;
+  }
+
+  private void parseComment(int start, int end) {
+    boolean help = startsWith(start, end, HELP_PREFIX);
+    if (!help && !startsWith(start, end, TYPE_PREFIX)) {
+      return; // regular comment
+    }
+    int nameStart = start + HELP_PREFIX.length();
+    int nameEnd = scanName(nameStart, end);
+    if (nameEnd == nameStart || nameEnd >= end || line[nameEnd] != ' ') {
+      return;
+    }
+    String family = cxt.sanitize(interner.intern(line, nameStart, nameEnd - nameStart));
+    if (!cxt.isIncluded(family)) {
+      cxt.skipFamily(family);
+      return;
+    }
+    String rest = new String(line, nameEnd + 1, end - nameEnd - 1);
+    if (help) {
+      cxt.metricNameAndHelp(family, rest);
+    } else {
+      MetricType type = MetricType.fromString(rest);
+      if (type != null) {
+        cxt.metricNameAndType(family, type);
       }
     }
   }
 
-  private void parseMetricLine(String line, ParsingContext cxt) {
-    Matcher m = METRIC_LINE_PATTERN.matcher(line);
-    if (m.matches()) {
-      String metricName = m.group(1);
-      String labelsString = m.group(2);
-      String valueString = m.group(3);
-      String timestampString = m.group(4);
-      cxt.dataPoint(
-          new ParsedDataPoint(
-              metricName,
-              Optional.ofNullable(labelsString).map(this::parseLabels).orElse(Labels.EMPTY),
-              parseDouble(valueString),
-              Optional.ofNullable(timestampString).map(Long::parseLong).orElse(0L)));
+  private void parseMetricLine(int start, int end) {
+    int nameEnd = scanName(start, end);
+    if (nameEnd == start) {
+      return;
+    }
+    String name = interner.intern(line, start, nameEnd - start);
+    if (!cxt.acceptsDataPoint(name)) {
+      skippedDataPoints++;
+      return;
+    }
+    int pos = nameEnd;
+    Labels labels = Labels.EMPTY;
+    if (pos < end && line[pos] == '{') {
+      Labels.Builder builder = Labels.builder();
+      pos = parseLabels(pos + 1, end, builder);
+      if (pos < 0) {
+        return;
+      }
+      labels = builder.build();
+    }
+    // value should be separated by whitespace
+    if (pos >= end || line[pos] > ' ') {
+      return;
+    }
+    pos = skipWhitespaces(pos, end);
+    int valueStart = pos;
+    while (pos < end && line[pos] > ' ') {
+      pos++;
+    }
+    double value;
+    try {
+      value = parseDouble(new String(line, valueStart, pos - valueStart));
+    } catch (NumberFormatException e) {
+      return;
+    }
+    long timestamp = 0L;
+    pos = skipWhitespaces(pos, end);
+    if (pos < end) {
+      for (int i = pos; i < end; i++) {
+        if (line[i] < '0' || line[i] > '9') {
+          return;
+        }
+      }
+      timestamp = Long.parseLong(new String(line, pos, end - pos));
     }
+    cxt.dataPoint(new ParsedDataPoint(name, labels, value, timestamp));
   }
 
-  private Labels parseLabels(String labelsString) {
-    Labels.Builder builder = Labels.builder();
-    Matcher m = LABEL_PATTERN.matcher(labelsString);
-    while (m.find()) {
-      builder.label(m.group(1), unescapeLabelValue(m.group(2)));
+  // returns position after closing '}', or -1 if labels are malformed
+  private int parseLabels(int from, int end, Labels.Builder builder) {
+    int pos = from;
+    while (true) {
+      while (pos < end && (line[pos] == ',' || line[pos] <= ' ')) {
+        pos++;
+      }
+      if (pos >= end) {
+        return -1;
+      }
+      if (line[pos] == '}') {
+        return pos + 1;
+      }
+      int labelNameEnd = scanName(pos, end);
+      if (labelNameEnd == pos || labelNameEnd + 1 >= end
+          || line[labelNameEnd] != '=' || line[labelNameEnd + 1] != '"') {
+        return -1;
+      }
+      String labelName = interner.intern(line, pos, labelNameEnd - pos);
+      pos = parseLabelValue(labelNameEnd + 2, end);
+      if (pos < 0) {
+        return -1;
+      }
+      builder.label(labelName, labelValue.toString());
     }
-    return builder.build();
   }
 
-  private String unescapeLabelValue(String value) {
-    return value.replace("\\\\", "\\").replace("\\\"", "\"").replace("\\n", "\n");
+  // unescapes value into labelValue buffer, returns position after closing quote or -1 if value is not closed
+  private int parseLabelValue(int from, int end) {
+    labelValue.setLength(0);
+    int pos = from;
+    while (pos < end) {
+      char c = line[pos++];
+      if (c == '"') {
+        return pos;
+      }
+      if (c == '\\' && pos < end) {
+        char escaped = line[pos++];
+        switch (escaped) {
+          case '\\' -> labelValue.append('\\');
+          case '"' -> labelValue.append('"');
+          case 'n' -> labelValue.append('\n');
+          default -> labelValue.append(c).append(escaped);
+        }
+      } else {
+        labelValue.append(c);
+      }
+    }
+    return -1;
+  }
+
+  // returns end position of [a-zA-Z_:][a-zA-Z0-9_:]* name
+  private int scanName(int from, int end) {
+    int pos = from;
+    while (pos < end) {
+      char c = line[pos];
+      boolean valid = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_' || c == ':'
+          || (pos > from && c >= '0' && c <= '9');
+      if (!valid) {
+        break;
+      }
+      pos++;
+    }
+    return pos;
+  }
+
+  private int skipWhitespaces(int from, int end) {
+    int pos = from;
+    while (pos < end && line[pos] <= ' ') {
+      pos++;
+    }
+    return pos;
+  }
+
+  private boolean startsWith(int start, int end, String prefix) {
+    if (end - start < prefix.length()) {
+      return false;
+    }
+    for (int i = 0; i < prefix.length(); i++) {
+      if (line[start + i] != prefix.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
   }
 
   private static double parseDouble(String value) {
     return switch (value) {
-      case "+Inf" -> Double.POSITIVE_INFINITY;
+      case "+Inf", "Inf" -> Double.POSITIVE_INFINITY;
       case "-Inf" -> Double.NEGATIVE_INFINITY;
       case "NaN" -> Double.NaN;
       default -> Double.parseDouble(value);
@@ -137,25 +326,139 @@ public class PrometheusTextFormatParser {
     GAUGE,
     UNTYPED,
     HISTOGRAM,
-    SUMMARY
+    SUMMARY;
+
+    @Nullable
+    static MetricType fromString(String type) {
+      return switch (type) {
+        case "counter" -> COUNTER;
+        case "gauge" -> GAUGE;
+        case "untyped" -> UNTYPED;
+        case "histogram" -> HISTOGRAM;
+        case "summary" -> SUMMARY;
+        default -> null;
+      };
+    }
+  }
+
+  // metric and label names are repeated on most of the lines, so we keep single instance for each of them
+  private static final class NamesInterner {
+
+    private String[] table = new String[1024];
+    private int size = 0;
+
+    String intern(char[] chars, int offset, int length) {
+      int hash = 0;
+      for (int i = offset; i < offset + length; i++) {
+        hash = 31 * hash + chars[i]; // same as String.hashCode()
+      }
+      int mask = table.length - 1;
+      int idx = spread(hash) & mask;
+      while (true) {
+        String existing = table[idx];
+        if (existing == null) {
+          String created = new String(chars, offset, length);
+          table[idx] = created;
+          if (++size * 2 > table.length) {
+            resize();
+          }
+          return created;
+        }
+        if (existing.hashCode() == hash && contentEquals(existing, chars, offset, length)) {
+          return existing;
+        }
+        idx = (idx + 1) & mask;
+      }
+    }
+
+    private static boolean contentEquals(String str, char[] chars, int offset, int length) {
+      if (str.length() != length) {
+        return false;
+      }
+      for (int i = 0; i < length; i++) {
+        if (str.charAt(i) != chars[offset + i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private static int spread(int hash) {
+      return hash ^ (hash >>> 16);
+    }
+
+    private void resize() {
+      String[] old = table;
+      table = new String[old.length * 2];
+      int mask = table.length - 1;
+      for (String str : old) {
+        if (str != null) {
+          int idx = spread(str.hashCode()) & mask;
+          while (table[idx] != null) {
+            idx = (idx + 1) & mask;
+          }
+          table[idx] = str;
+        }
+      }
+    }
   }
 
   private static class ParsingContext {
 
     private final List<MetricSnapshot> sink;
+    private final Predicate<String> familiesFilter;
+    private final Map<String, Boolean> familiesFilterResults = new HashMap<>();
+    private final Map<String, String> sanitizedNames = new HashMap<>();
 
     private String currentMetricName;
     private String currentHelp;
     private MetricDataPointsAccumulator dataPoints;
+    // family which data points should be skipped (declared by HELP/TYPE, but not accepted by filter)
+    private String skippedFamily;
 
-    ParsingContext(List<MetricSnapshot> sink) {
+    ParsingContext(List<MetricSnapshot> sink, Predicate<String> familiesFilter) {
       this.sink = sink;
+      this.familiesFilter = familiesFilter;
     }
 
     private void reset() {
       currentMetricName = null;
       currentHelp = null;
       dataPoints = null;
+      skippedFamily = null;
+    }
+
+    String sanitize(String name) {
+      return sanitizedNames.computeIfAbsent(name, PrometheusNaming::sanitizeMetricName);
+    }
+
+    boolean isIncluded(String family) {
+      return familiesFilterResults.computeIfAbsent(family, familiesFilter::test);
+    }
+
+    void skipFamily(String family) {
+      flushAndReset();
+      skippedFamily = family;
+    }
+
+    // checks data point by metric name before labels and value are parsed
+    boolean acceptsDataPoint(String name) {
+      if (skippedFamily != null) {
+        if (belongsToFamily(name, skippedFamily)) {
+          return false;
+        }
+        skippedFamily = null;
+      }
+      if (currentMetricName != null && name.startsWith(currentMetricName)) {
+        return true;
+      }
+      // data point will start new untyped family
+      return isIncluded(sanitize(name));
+    }
+
+    // data point names are family name or family name with suffix (like _total, _bucket, _sum)
+    private static boolean belongsToFamily(String name, String family) {
+      return name.startsWith(family) && (name.length() == family.length() || name.charAt(family.length()) == '_');
     }
 
     void metricNameAndType(String metricName, MetricType metricType) {
@@ -182,7 +485,7 @@ public class PrometheusTextFormatParser {
 
     void dataPoint(ParsedDataPoint parsedDataPoint) {
       if (currentMetricName == null) {
-        currentMetricName = PrometheusNaming.sanitizeMetricName(parsedDataPoint.name);
+        currentMetricName = sanitize(parsedDataPoint.name);
       }
       if (dataPoints == null) {
         dataPoints = new UntypedDataPointsAccumulator();
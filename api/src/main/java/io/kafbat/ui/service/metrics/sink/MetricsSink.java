@@ -3,6 +3,7 @@ package io.kafbat.ui.service.metrics.sink;
 import static org.springframework.util.StringUtils.hasText;
 
 import io.kafbat.ui.config.ClustersProperties;
+import io.kafbat.ui.util.ApplicationMetrics;
 import io.prometheus.metrics.model.snapshots.MetricSnapshot;
 import java.util.ArrayList;
 import java.util.List;
@@ -10,7 +11,7 @@ import java.util.Optional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-public interface MetricsSink {
+public interface MetricsSink extends AutoCloseable {
 
   static MetricsSink create(ClustersProperties.Cluster cluster) {
     List<MetricsSink> sinks = new ArrayList<>();
@@ -20,23 +21,51 @@ public interface MetricsSink {
         .ifPresent(prometheusConf -> {
           if (hasText(prometheusConf.getPushGatewayUrl())) {
             sinks.add(
-                PrometheusPushGatewaySink.create(
-                    prometheusConf.getPushGatewayUrl(),
-                    prometheusConf.getPushGatewayUsername(),
-                    prometheusConf.getPushGatewayPassword()
+                new QueuedMetricsSink(
+                    "pushgateway",
+                    PrometheusPushGatewaySink.create(
+                        prometheusConf.getPushGatewayUrl(),
+                        prometheusConf.getPushGatewayUsername(),
+                        prometheusConf.getPushGatewayPassword()
+                    ),
+                    PrometheusPushGatewaySink.QUEUE_OPTIONS,
+                    ApplicationMetrics.forCluster(cluster.getName())
+                ));
+          }
+          if (hasText(prometheusConf.getUrl()) && Boolean.TRUE.equals(prometheusConf.getRemoteWrite())) {
+            sinks.add(
+                new QueuedMetricsSink(
+                    "remotewrite",
+                    PrometheusRemoteWriteSink.create(prometheusConf.getUrl(), cluster.getSsl()),
+                    PrometheusRemoteWriteSink.QUEUE_OPTIONS,
+                    ApplicationMetrics.forCluster(cluster.getName())
                 ));
           }
         });
     return compoundSink(sinks);
   }
 
+  // sinks are queued, so sending only enqueues metrics and never waits for actual delivery
   private static MetricsSink compoundSink(List<MetricsSink> sinks) {
-    return metricsFlux ->
-        Flux.fromIterable(sinks)
-            .flatMap(sink -> sink.send(metricsFlux))
+    return new MetricsSink() {
+      @Override
+      public Mono<Void> send(Flux<MetricSnapshot> metrics) {
+        return Flux.fromIterable(sinks)
+            .flatMap(sink -> sink.send(metrics))
             .then();
+      }
+
+      @Override
+      public void close() {
+        sinks.forEach(MetricsSink::close);
+      }
+    };
   }
 
   Mono<Void> send(Flux<MetricSnapshot> metrics);
 
+  // releases sink's resources (like sending threads), called when clusters are re-created on config reload
+  @Override
+  void close();
+
 }
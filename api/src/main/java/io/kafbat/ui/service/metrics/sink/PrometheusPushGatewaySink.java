@@ -6,15 +6,18 @@ import io.prometheus.metrics.exporter.pushgateway.PushGateway;
 import io.prometheus.metrics.model.snapshots.MetricSnapshot;
 import io.prometheus.metrics.model.snapshots.MetricSnapshots;
 import jakarta.annotation.Nullable;
+import java.time.Duration;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 @RequiredArgsConstructor
-class PrometheusPushGatewaySink implements MetricsSink {
+class PrometheusPushGatewaySink implements QueuedMetricsSink.Sender {
+
+  // push gateway keeps only the last pushed state, so only the latest pending scrape is worth sending
+  static final QueuedMetricsSink.Options QUEUE_OPTIONS =
+      new QueuedMetricsSink.Options(1, 1, 3, Duration.ofSeconds(1));
 
   private final PushGateway pushGateway;
 
@@ -32,11 +35,11 @@ class PrometheusPushGatewaySink implements MetricsSink {
   }
 
   @Override
-  public Mono<Void> send(Flux<MetricSnapshot> metrics) {
-    return metrics.collectList()
+  public Mono<Void> send(List<QueuedMetricsSink.Scrape> batch) {
+    return batch.getLast().metrics().collectList()
         .filter(lst -> !lst.isEmpty())
+        // blocking push, executed on queued sink's own scheduler
         .doOnNext(this::pushSync)
-        .subscribeOn(Schedulers.boundedElastic())
         .then();
   }
 
@@ -0,0 +1,155 @@
+package io.kafbat.ui.service.metrics.sink;
+
+import com.google.common.collect.Lists;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import io.kafbat.ui.config.ClustersProperties;
+import io.kafbat.ui.util.WebClientConfigurator;
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.xerial.snappy.Snappy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Sends metrics to prometheus remote-write endpoint (snappy-compressed protobuf WriteRequest, v1 protocol).
+ * Series of a batch are split between shards by labels hash and shards are sent concurrently, while requests
+ * within a shard are sent sequentially, so samples of a series are always delivered in time order.
+ */
+@RequiredArgsConstructor
+class PrometheusRemoteWriteSink implements QueuedMetricsSink.Sender {
+
+  // remote-write keeps every sample, so several pending scrapes are sent in one batch
+  static final QueuedMetricsSink.Options QUEUE_OPTIONS =
+      new QueuedMetricsSink.Options(20, 5, 5, Duration.ofSeconds(1));
+
+  static final int DEFAULT_SHARDS = 4;
+  static final int DEFAULT_MAX_SERIES_PER_REQUEST = 2_000;
+
+  private static final String WRITE_PATH = "/api/v1/write";
+  private static final MediaType PROTOBUF = MediaType.parseMediaType("application/x-protobuf");
+
+  private final WebClient webClient;
+  private final URI writeEndpoint;
+  private final int shards;
+  private final int maxSeriesPerRequest;
+
+  static PrometheusRemoteWriteSink create(String prometheusUrl, @Nullable ClustersProperties.TruststoreConfig ssl) {
+    return new PrometheusRemoteWriteSink(
+        new WebClientConfigurator().configureSsl(ssl, null).build(),
+        UriComponentsBuilder.fromUriString(prometheusUrl).path(WRITE_PATH).build().toUri(),
+        DEFAULT_SHARDS,
+        DEFAULT_MAX_SERIES_PER_REQUEST
+    );
+  }
+
+  @Override
+  public Mono<Void> send(List<QueuedMetricsSink.Scrape> batch) {
+    // deferred, since series map is filled per subscription (batch is resent on retries)
+    return Mono.defer(() -> {
+      Map<List<String>, RemoteWriteSeries> series = new LinkedHashMap<>();
+      return Flux.fromIterable(batch)
+          .concatMap(scrape -> scrape.metrics()
+              .doOnNext(snapshot -> RemoteWriteSeries.collect(snapshot, scrape.timestampMillis(), series)))
+          .thenMany(Flux.defer(() -> Flux.fromIterable(shard(series))))
+          .flatMap(
+              shard -> Flux.fromIterable(Lists.partition(shard, maxSeriesPerRequest)).concatMap(this::write),
+              shards)
+          .then();
+    });
+  }
+
+  private List<List<RemoteWriteSeries>> shard(Map<List<String>, RemoteWriteSeries> series) {
+    List<List<RemoteWriteSeries>> sharded = new ArrayList<>(shards);
+    for (int i = 0; i < shards; i++) {
+      sharded.add(new ArrayList<>(series.size() / shards + 1));
+    }
+    series.forEach((labels, s) -> sharded.get(Math.floorMod(labels.hashCode(), shards)).add(s));
+    sharded.removeIf(List::isEmpty);
+    return sharded;
+  }
+
+  private Mono<Void> write(List<RemoteWriteSeries> series) {
+    return Mono.fromCallable(() -> Snappy.compress(encodeWriteRequest(series)))
+        .flatMap(body -> webClient.post()
+            .uri(writeEndpoint)
+            .contentType(PROTOBUF)
+            .header("Content-Encoding", "snappy")
+            .header("X-Prometheus-Remote-Write-Version", "0.1.0")
+            .bodyValue(body)
+            .retrieve()
+            .toBodilessEntity())
+        .then();
+  }
+
+  // WriteRequest { repeated TimeSeries timeseries = 1; }
+  // TimeSeries { repeated Label labels = 1; repeated Sample samples = 2; }
+  // Label { string name = 1; string value = 2; }
+  // Sample { double value = 1; int64 timestamp = 2; }
+  @SneakyThrows(IOException.class)
+  static byte[] encodeWriteRequest(List<RemoteWriteSeries> series) {
+    int[] seriesSizes = new int[series.size()];
+    int requestSize = 0;
+    for (int i = 0; i < series.size(); i++) {
+      seriesSizes[i] = seriesSize(series.get(i));
+      requestSize += lengthDelimitedSize(1, seriesSizes[i]);
+    }
+    byte[] result = new byte[requestSize];
+    CodedOutputStream out = CodedOutputStream.newInstance(result);
+    for (int i = 0; i < series.size(); i++) {
+      out.writeTag(1, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+      out.writeUInt32NoTag(seriesSizes[i]);
+      List<String> labels = series.get(i).labels();
+      for (int l = 0; l < labels.size(); l += 2) {
+        out.writeTag(1, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        out.writeUInt32NoTag(labelSize(labels.get(l), labels.get(l + 1)));
+        out.writeString(1, labels.get(l));
+        out.writeString(2, labels.get(l + 1));
+      }
+      for (RemoteWriteSeries.Sample sample : series.get(i).samples()) {
+        out.writeTag(2, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        out.writeUInt32NoTag(sampleSize(sample));
+        out.writeDouble(1, sample.value());
+        out.writeInt64(2, sample.timestampMillis());
+      }
+    }
+    out.checkNoSpaceLeft();
+    return result;
+  }
+
+  private static int seriesSize(RemoteWriteSeries series) {
+    int size = 0;
+    List<String> labels = series.labels();
+    for (int l = 0; l < labels.size(); l += 2) {
+      size += lengthDelimitedSize(1, labelSize(labels.get(l), labels.get(l + 1)));
+    }
+    for (RemoteWriteSeries.Sample sample : series.samples()) {
+      size += lengthDelimitedSize(2, sampleSize(sample));
+    }
+    return size;
+  }
+
+  private static int labelSize(String name, String value) {
+    return CodedOutputStream.computeStringSize(1, name) + CodedOutputStream.computeStringSize(2, value);
+  }
+
+  private static int sampleSize(RemoteWriteSeries.Sample sample) {
+    return CodedOutputStream.computeDoubleSize(1, sample.value())
+        + CodedOutputStream.computeInt64Size(2, sample.timestampMillis());
+  }
+
+  private static int lengthDelimitedSize(int fieldNumber, int size) {
+    return CodedOutputStream.computeTagSize(fieldNumber) + CodedOutputStream.computeUInt32SizeNoTag(size) + size;
+  }
+}
@@ -0,0 +1,157 @@
+package io.kafbat.ui.service.metrics.sink;
+
+import io.kafbat.ui.util.ApplicationMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.prometheus.metrics.model.snapshots.MetricSnapshot;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+/**
+ * Decouples metrics scraping from sending: {@link #send(Flux)} only enqueues scraped metrics, and
+ * they are passed to the sender by a single worker on sink's own scheduler. Queue is bounded, when
+ * it is full the oldest scrape is dropped. Worker takes up to maxBatchSize queued scrapes per send and
+ * retries failed sends with backoff, so a slow or unavailable sink doesn't delay statistics updates.
+ */
+@Slf4j
+class QueuedMetricsSink implements MetricsSink {
+
+  record Options(int queueCapacity, int maxBatchSize, int maxRetries, Duration minBackoff) {
+  }
+
+  /**
+   * Scraped metrics with the time they were enqueued at, which is used as scrape time.
+   */
+  record Scrape(Flux<MetricSnapshot> metrics, long timestampMillis) {
+  }
+
+  interface Sender {
+    Mono<Void> send(List<Scrape> batch);
+  }
+
+  private final String name;
+  private final Sender sender;
+  private final Options options;
+  private final Scheduler scheduler;
+
+  private final Deque<Scrape> queue = new ArrayDeque<>();
+  private boolean draining = false; // guarded by this
+  private boolean closed = false; // guarded by this
+
+  private final AtomicInteger queueSize;
+  private final Counter droppedBatches;
+  private final Counter failedBatches;
+  private final Timer lag;
+
+  QueuedMetricsSink(String name, Sender sender, Options options, ApplicationMetrics metrics) {
+    this.name = name;
+    this.sender = sender;
+    this.options = options;
+    this.scheduler = createScheduler(name);
+    this.queueSize = metrics.metricsSinkQueueSize(name);
+    this.droppedBatches = metrics.metricsSinkDroppedBatches(name);
+    this.failedBatches = metrics.metricsSinkFailedBatches(name);
+    this.lag = metrics.metricsSinkLag(name);
+  }
+
+  // single worker thread that is released when sink is idle; executor is shut down when sink is closed
+  private static Scheduler createScheduler(String name) {
+    var threadFactory = new CustomizableThreadFactory("kui-metrics-sink-" + name + "-");
+    threadFactory.setDaemon(true);
+    var executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+    executor.allowCoreThreadTimeOut(true);
+    return Schedulers.fromExecutorService(executor, "kui-metrics-sink-" + name);
+  }
+
+  @Override
+  public Mono<Void> send(Flux<MetricSnapshot> metrics) {
+    return Mono.fromRunnable(() -> enqueue(metrics));
+  }
+
+  private void enqueue(Flux<MetricSnapshot> metrics) {
+    boolean startDraining;
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      if (queue.size() >= options.queueCapacity()) {
+        queue.pollFirst();
+        droppedBatches.increment();
+      }
+      queue.addLast(new Scrape(metrics, System.currentTimeMillis()));
+      queueSize.set(queue.size());
+      startDraining = !draining;
+      draining = true;
+    }
+    if (startDraining) {
+      scheduler.schedule(this::sendNextBatch);
+    }
+  }
+
+  private void sendNextBatch() {
+    List<Scrape> batch = pollBatch();
+    if (batch.isEmpty()) {
+      return;
+    }
+    sender.send(batch)
+        .subscribeOn(scheduler)
+        .retryWhen(Retry.backoff(options.maxRetries(), options.minBackoff()).filter(QueuedMetricsSink::isRetryable))
+        .doOnSuccess(v -> {
+          long now = System.currentTimeMillis();
+          batch.forEach(p -> lag.record(now - p.timestampMillis(), TimeUnit.MILLISECONDS));
+        })
+        .doOnError(th -> {
+          failedBatches.increment();
+          log.warn("Error sending metrics to '{}' metrics sink", name, th);
+        })
+        .onErrorComplete()
+        .doFinally(s -> sendNextBatch())
+        .subscribe();
+  }
+
+  // client errors (except throttling) will not be fixed by resending the same batch
+  private static boolean isRetryable(Throwable th) {
+    return !(th instanceof WebClientResponseException e)
+        || !e.getStatusCode().is4xxClientError()
+        || e.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+  }
+
+  // queued metrics are dropped, batch that is being sent is cancelled by scheduler disposal
+  @Override
+  public void close() {
+    synchronized (this) {
+      closed = true;
+      queue.clear();
+      queueSize.set(0);
+    }
+    scheduler.dispose();
+  }
+
+  private synchronized List<Scrape> pollBatch() {
+    List<Scrape> batch = new ArrayList<>(Math.min(queue.size(), options.maxBatchSize()));
+    while (!queue.isEmpty() && batch.size() < options.maxBatchSize()) {
+      batch.add(queue.pollFirst());
+    }
+    queueSize.set(queue.size());
+    if (batch.isEmpty()) {
+      draining = false;
+    }
+    return batch;
+  }
+}
@@ -0,0 +1,103 @@
+package io.kafbat.ui.service.metrics.sink;
+
+import io.prometheus.metrics.model.snapshots.CounterSnapshot;
+import io.prometheus.metrics.model.snapshots.GaugeSnapshot;
+import io.prometheus.metrics.model.snapshots.HistogramSnapshot;
+import io.prometheus.metrics.model.snapshots.Labels;
+import io.prometheus.metrics.model.snapshots.MetricSnapshot;
+import io.prometheus.metrics.model.snapshots.SummarySnapshot;
+import io.prometheus.metrics.model.snapshots.UnknownSnapshot;
+import jakarta.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Time series in remote-write terms: sorted label pairs (including metric name) and samples.
+ * Labels are kept as flat [name1, value1, name2, value2, ...] list, so it can be used as a series key.
+ */
+record RemoteWriteSeries(List<String> labels, List<Sample> samples) {
+
+  private static final String NAME_LABEL = "__name__";
+
+  record Sample(double value, long timestampMillis) {
+  }
+
+  /**
+   * Flattens snapshot into series the same way text exposition format does (counters get "_total" suffix,
+   * summaries and histograms are split into quantile/bucket, _count and _sum series). Samples are added to
+   * series in passed map, so samples of the same series from several scrapes end up in one series.
+   */
+  static void collect(MetricSnapshot snapshot, long timestampMillis, Map<List<String>, RemoteWriteSeries> series) {
+    String name = snapshot.getMetadata().getPrometheusName();
+    BiConsumer<List<String>, Double> add = (labels, value) ->
+        series.computeIfAbsent(labels, l -> new RemoteWriteSeries(l, new ArrayList<>(1)))
+            .samples()
+            .add(new Sample(value, timestampMillis));
+    switch (snapshot) {
+      case GaugeSnapshot gauge -> gauge.getDataPoints()
+          .forEach(dp -> add.accept(labels(name, dp.getLabels(), null, null), dp.getValue()));
+      case CounterSnapshot counter -> counter.getDataPoints()
+          .forEach(dp -> add.accept(labels(name + "_total", dp.getLabels(), null, null), dp.getValue()));
+      case UnknownSnapshot unknown -> unknown.getDataPoints()
+          .forEach(dp -> add.accept(labels(name, dp.getLabels(), null, null), dp.getValue()));
+      case SummarySnapshot summary -> summary.getDataPoints().forEach(dp -> {
+        dp.getQuantiles().forEach(q ->
+            add.accept(labels(name, dp.getLabels(), "quantile", String.valueOf(q.getQuantile())), q.getValue()));
+        if (dp.hasCount()) {
+          add.accept(labels(name + "_count", dp.getLabels(), null, null), (double) dp.getCount());
+        }
+        if (dp.hasSum()) {
+          add.accept(labels(name + "_sum", dp.getLabels(), null, null), dp.getSum());
+        }
+      });
+      case HistogramSnapshot histogram -> histogram.getDataPoints().forEach(dp -> {
+        long cumulativeCount = 0;
+        for (var bucket : dp.getClassicBuckets()) {
+          cumulativeCount += bucket.getCount();
+          add.accept(
+              labels(name + "_bucket", dp.getLabels(), "le", formatBound(bucket.getUpperBound())),
+              (double) cumulativeCount
+          );
+        }
+        if (dp.hasCount()) {
+          add.accept(labels(name + "_count", dp.getLabels(), null, null), (double) dp.getCount());
+        }
+        if (dp.hasSum()) {
+          add.accept(labels(name + "_sum", dp.getLabels(), null, null), dp.getSum());
+        }
+      });
+      // info and state-set metrics are not produced by scrapers
+      default -> {
+      }
+    }
+  }
+
+  // remote-write requires labels to be sorted by name
+  private static List<String> labels(String name, Labels labels,
+                                     @Nullable String extraName, @Nullable String extraValue) {
+    List<String[]> pairs = new ArrayList<>(labels.size() + 2);
+    // not added via Labels, since it doesn't allow reserved "__" prefix
+    pairs.add(new String[] {NAME_LABEL, name});
+    for (int i = 0; i < labels.size(); i++) {
+      pairs.add(new String[] {labels.getPrometheusName(i), labels.getValue(i)});
+    }
+    if (extraName != null) {
+      pairs.add(new String[] {extraName, extraValue});
+    }
+    pairs.sort(Comparator.comparing(p -> p[0]));
+    List<String> result = new ArrayList<>(pairs.size() * 2);
+    for (String[] pair : pairs) {
+      result.add(pair[0]);
+      result.add(pair[1]);
+    }
+    return result;
+  }
+
+  private static String formatBound(double bound) {
+    return bound == Double.POSITIVE_INFINITY ? "+Inf" : String.valueOf(bound);
+  }
+
+}
@@ -1,5 +1,7 @@
 package io.kafbat.ui.service.rbac;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.kafbat.ui.config.auth.AuthenticatedUser;
 import io.kafbat.ui.config.auth.RbacUser;
 import io.kafbat.ui.config.auth.RoleBasedAccessControlProperties;
@@ -23,11 +25,15 @@ import io.kafbat.ui.service.rbac.extractor.GoogleAuthorityExtractor;
 import io.kafbat.ui.service.rbac.extractor.OauthAuthorityExtractor;
 import io.kafbat.ui.service.rbac.extractor.ProviderAuthorityExtractor;
 import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
-import java.util.function.Predicate;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
@@ -64,6 +70,14 @@ public class AccessControlService {
   @Getter
   private Set<ProviderAuthorityExtractor> oauthExtractors = Collections.emptySet();
 
+  private final Cache<UserPermissionsKey, UserPermissions> userPermissionsCache = Caffeine.newBuilder()
+      .maximumSize(1_000)
+      .expireAfterAccess(Duration.ofMinutes(10))
+      .build();
+
+  private record UserPermissionsKey(AuthenticatedUser user, @Nullable String cluster) {
+  }
+
 
   @PostConstruct
   public void init() {
@@ -113,27 +127,31 @@ public class AccessControlService {
   }
 
   private boolean isAccessible(AuthenticatedUser user, AccessContext context) {
-    if (context.cluster() != null && !isClusterAccessible(context.cluster(), user)) {
+    UserPermissions userPermissions = getUserPermissions(user, context.cluster());
+    if (context.cluster() != null && !userPermissions.isClusterAccessible()) {
       return false;
     }
-    return context.isAccessible(getUserPermissions(user, context.cluster()));
+    return context.isAccessible(userPermissions.permissions());
   }
 
-  private List<Permission> getUserPermissions(AuthenticatedUser user, @Nullable String clusterName) {
-    List<Role> filteredRoles = properties.getRoles()
-            .stream()
-            .filter(filterRole(user))
-            .filter(role -> clusterName == null || role.getClusters().stream().anyMatch(clusterName::equalsIgnoreCase))
-            .toList();
-
-    // if no roles are found, check if default role is set
-    if (filteredRoles.isEmpty() && properties.getDefaultRole() != null) {
-      return properties.getDefaultRole().getPermissions();
+  private UserPermissions getUserPermissions(AuthenticatedUser user, @Nullable String clusterName) {
+    List<Role> roles = properties.getRoles();
+    DefaultRole defaultRole = properties.getDefaultRole();
+    var key = new UserPermissionsKey(user, clusterName);
+    UserPermissions cached = userPermissionsCache.getIfPresent(key);
+    if (cached != null && cached.isResolvedFrom(roles, defaultRole)) {
+      return cached;
     }
+    UserPermissions resolved = UserPermissions.resolve(user, clusterName, roles, defaultRole);
+    userPermissionsCache.put(key, resolved);
+    return resolved;
+  }
 
-    return filteredRoles.stream()
-            .flatMap(role -> role.getPermissions().stream())
-            .toList();
+  /**
+   * Should be called when roles configuration is changed.
+   */
+  public void invalidatePermissionsCache() {
+    userPermissionsCache.invalidateAll();
   }
 
   public static Mono<AuthenticatedUser> getUser() {
@@ -146,12 +164,7 @@ public class AccessControlService {
 
   private boolean isClusterAccessible(String clusterName, AuthenticatedUser user) {
     Assert.isTrue(StringUtils.isNotEmpty(clusterName), "cluster value is empty");
-    boolean isAccessible = properties.getRoles()
-        .stream()
-        .filter(filterRole(user))
-        .anyMatch(role -> role.getClusters().stream().anyMatch(clusterName::equalsIgnoreCase));
-    
-    return isAccessible || properties.getDefaultRole() != null;
+    return getUserPermissions(user, clusterName).isClusterAccessible();
   }
 
   public Mono<Boolean> isClusterAccessible(ClusterDTO cluster) {
@@ -166,16 +179,52 @@ public class AccessControlService {
       return Mono.just(topics);
     }
     return getUser()
-        .map(user -> topics.stream()
-            .filter(topic ->
-                isAccessible(
-                    user,
-                    AccessContext.builder()
-                        .cluster(clusterName)
-                        .topicActions(topic.getName(), TopicAction.VIEW)
-                        .build()
-                )
-            ).toList());
+        .map(user -> {
+          UserPermissions permissions = getUserPermissions(user, clusterName);
+          return topics.stream()
+              .filter(topic -> permissions.isAllowed(Resource.TOPIC, topic.getName(), TopicAction.VIEW))
+              .toList();
+        });
+  }
+
+  public <T> Mono<List<T>> filterViewableConsumerGroups(Collection<T> groups,
+                                                        Function<T, String> groupIdExtractor,
+                                                        String clusterName) {
+    return filterViewable(groups, clusterName, (permissions, group) ->
+        permissions.isAllowed(Resource.CONSUMER, groupIdExtractor.apply(group), ConsumerGroupAction.VIEW));
+  }
+
+  public Mono<List<String>> filterViewableSchemas(Collection<String> schemas, String clusterName) {
+    return filterViewable(schemas, clusterName, (permissions, schema) ->
+        permissions.isAllowed(Resource.SCHEMA, schema, SchemaAction.VIEW));
+  }
+
+  public <T> Mono<List<T>> filterViewableConnectors(Collection<T> connectors,
+                                                    Function<T, String> connectExtractor,
+                                                    Function<T, String> connectorExtractor,
+                                                    String clusterName) {
+    return filterViewable(connectors, clusterName, (permissions, connector) -> {
+      String connect = connectExtractor.apply(connector);
+      String name = String.join("/", connect, connectorExtractor.apply(connector));
+      // same fallback to connect permission as in AccessContext.connectorActions
+      return permissions.isAllowed(Resource.CONNECTOR, name, ConnectorAction.VIEW)
+          || permissions.isAllowed(Resource.CONNECT, connect, ConnectorAction.VIEW.getConnectAction());
+    });
+  }
+
+  // checks whole list with permissions resolved once, empty list returned if user is not authenticated
+  private <T> Mono<List<T>> filterViewable(Collection<T> items,
+                                           String clusterName,
+                                           BiPredicate<UserPermissions, T> viewable) {
+    if (!rbacEnabled) {
+      return Mono.just(new ArrayList<>(items));
+    }
+    return getUser()
+        .map(user -> {
+          UserPermissions permissions = getUserPermissions(user, clusterName);
+          return items.stream().filter(item -> viewable.test(permissions, item)).toList();
+        })
+        .defaultIfEmpty(List.of());
   }
 
   public Mono<Boolean> isConsumerGroupAccessible(String groupId, String clusterName) {
@@ -205,7 +254,7 @@ public class AccessControlService {
       return Mono.just(true);
     }
     return getUser().map(user -> {
-      List<Permission> permissions = getUserPermissions(user, clusterName);
+      List<Permission> permissions = getUserPermissions(user, clusterName).permissions();
       // Check direct connect VIEW permission
       boolean hasConnectPermission = AccessContext.builder()
           .cluster(clusterName)
@@ -243,10 +292,6 @@ public class AccessControlService {
     return properties.getDefaultRole();
   }
 
-  private Predicate<Role> filterRole(AuthenticatedUser user) {
-    return role -> user.groups().contains(role.getName());
-  }
-
   /**
    * Checks if a connector permission value matches a given connect name.
    * Connector permission values are in format "connectPattern/connectorPattern".
@@ -0,0 +1,123 @@
+package io.kafbat.ui.service.rbac;
+
+import io.kafbat.ui.config.auth.AuthenticatedUser;
+import io.kafbat.ui.model.rbac.DefaultRole;
+import io.kafbat.ui.model.rbac.Permission;
+import io.kafbat.ui.model.rbac.Resource;
+import io.kafbat.ui.model.rbac.Role;
+import io.kafbat.ui.model.rbac.permission.PermissibleAction;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import javax.annotation.Nullable;
+
+/**
+ * User's permissions within a cluster, resolved from configured roles once and cached per principal.
+ * Name matchers for (resource, action) pairs are compiled lazily, so filtering a list of resources
+ * doesn't walk all roles and permissions for every single item.
+ */
+final class UserPermissions {
+
+  // permission values without regex special chars, can be matched by equality
+  private static final Pattern LITERAL_VALUE = Pattern.compile("[\\w\\-]+");
+
+  // roles that permissions were resolved from, used to detect roles reload
+  private final List<Role> sourceRoles;
+  @Nullable
+  private final DefaultRole sourceDefaultRole;
+
+  private final boolean clusterAccessible;
+  private final List<Permission> permissions;
+  private final Map<Resource, Map<PermissibleAction, NameMatcher>> matchers = new ConcurrentHashMap<>();
+
+  private UserPermissions(List<Role> sourceRoles,
+                          @Nullable DefaultRole sourceDefaultRole,
+                          boolean clusterAccessible,
+                          List<Permission> permissions) {
+    this.sourceRoles = sourceRoles;
+    this.sourceDefaultRole = sourceDefaultRole;
+    this.clusterAccessible = clusterAccessible;
+    this.permissions = permissions;
+  }
+
+  static UserPermissions resolve(AuthenticatedUser user,
+                                 @Nullable String clusterName,
+                                 List<Role> roles,
+                                 @Nullable DefaultRole defaultRole) {
+    List<Role> userRoles = roles.stream()
+        .filter(role -> user.groups().contains(role.getName()))
+        .toList();
+
+    List<Role> clusterRoles = userRoles.stream()
+        .filter(role -> clusterName == null || role.getClusters().stream().anyMatch(clusterName::equalsIgnoreCase))
+        .toList();
+
+    List<Permission> permissions;
+    // if no roles are found, check if default role is set
+    if (clusterRoles.isEmpty() && defaultRole != null) {
+      permissions = defaultRole.getPermissions();
+    } else {
+      permissions = clusterRoles.stream().flatMap(role -> role.getPermissions().stream()).toList();
+    }
+    boolean clusterAccessible = clusterName == null || !clusterRoles.isEmpty() || defaultRole != null;
+    return new UserPermissions(roles, defaultRole, clusterAccessible, permissions);
+  }
+
+  boolean isResolvedFrom(List<Role> roles, @Nullable DefaultRole defaultRole) {
+    return sourceRoles == roles && sourceDefaultRole == defaultRole;
+  }
+
+  boolean isClusterAccessible() {
+    return clusterAccessible;
+  }
+
+  List<Permission> permissions() {
+    return permissions;
+  }
+
+  /**
+   * Same as checking single named resource action with {@link io.kafbat.ui.model.rbac.AccessContext}.
+   */
+  boolean isAllowed(Resource resource, String name, PermissibleAction action) {
+    return clusterAccessible
+        && matchers.computeIfAbsent(resource, r -> new ConcurrentHashMap<>())
+        .computeIfAbsent(action, a -> compile(resource, action))
+        .matches(name);
+  }
+
+  private NameMatcher compile(Resource resource, PermissibleAction action) {
+    Set<String> literals = new HashSet<>();
+    List<Pattern> patterns = new ArrayList<>();
+    for (Permission permission : permissions) {
+      if (permission.getResource() != resource
+          || permission.getCompiledValuePattern() == null
+          || !permission.getParsedActions().contains(action)) {
+        continue;
+      }
+      if (LITERAL_VALUE.matcher(permission.getValue()).matches()) {
+        literals.add(permission.getValue());
+      } else {
+        patterns.add(permission.getCompiledValuePattern());
+      }
+    }
+    return new NameMatcher(Set.copyOf(literals), List.copyOf(patterns));
+  }
+
+  private record NameMatcher(Set<String> literals, List<Pattern> patterns) {
+    boolean matches(String name) {
+      if (literals.contains(name)) {
+        return true;
+      }
+      for (Pattern pattern : patterns) {
+        if (pattern.matcher(name).matches()) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+}
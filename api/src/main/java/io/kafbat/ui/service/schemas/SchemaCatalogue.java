@@ -0,0 +1,188 @@
+package io.kafbat.ui.service.schemas;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.kafbat.ui.sr.model.Compatibility;
+import jakarta.annotation.Nullable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory copy of schema registry's storage topic (_schemas) content: subjects versions and compatibility
+ * levels. Records are applied by single feed thread, while lookups can be done concurrently from any thread.
+ * Lookups should only be trusted after catalogue is {@link #isReady() ready} (topic was read up to its end).
+ */
+@Slf4j
+public class SchemaCatalogue {
+
+  private static final JsonMapper MAPPER = new JsonMapper();
+  private static final String DEFAULT_SCHEMA_TYPE = "AVRO";
+
+  public record Reference(String name, String subject, int version) {
+  }
+
+  public record SchemaVersion(String subject,
+                              int version,
+                              int id,
+                              String schemaType,
+                              String schema,
+                              List<Reference> references,
+                              boolean deleted) {
+  }
+
+  private final Map<String, NavigableMap<Integer, SchemaVersion>> subjects = new ConcurrentHashMap<>();
+  private final Map<Integer, Set<String>> idToSubjects = new ConcurrentHashMap<>();
+  private final Map<String, Compatibility> subjectsCompatibility = new ConcurrentHashMap<>();
+  @Nullable
+  private volatile Compatibility globalCompatibility;
+  private volatile boolean ready;
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  void markReady() {
+    ready = true;
+  }
+
+  /**
+   * Applies storage topic record. Returns true if record changed catalogue's content.
+   */
+  boolean apply(@Nullable byte[] key, @Nullable byte[] value) {
+    if (key == null) {
+      return false;
+    }
+    try {
+      JsonNode keyNode = MAPPER.readTree(key);
+      JsonNode valueNode = value == null ? null : MAPPER.readTree(value);
+      String subject = keyNode.path("subject").textValue();
+      return switch (keyNode.path("keytype").asText()) {
+        case "SCHEMA" -> applySchema(subject, keyNode.path("version").asInt(), valueNode);
+        case "CONFIG" -> applyConfig(subject, valueNode);
+        case "DELETE_SUBJECT" -> valueNode != null
+            && applySubjectDeletion(subject, valueNode.path("version").asInt(Integer.MAX_VALUE));
+        // NOOP, MODE, CLEAR_SUBJECT and other record types don't affect catalogue
+        default -> false;
+      };
+    } catch (IOException | RuntimeException e) {
+      log.warn("Error parsing schemas topic record, skipping it", e);
+      return false;
+    }
+  }
+
+  private boolean applySchema(String subject, int version, @Nullable JsonNode value) {
+    var versions = subjects.computeIfAbsent(subject, s -> new ConcurrentSkipListMap<>());
+    if (value == null) { // tombstone - version was permanently deleted
+      var removed = versions.remove(version);
+      if (versions.isEmpty()) {
+        subjects.remove(subject);
+      }
+      if (removed != null) {
+        updateIdToSubjects(subject, removed.id());
+      }
+      return removed != null;
+    }
+    List<Reference> references = new ArrayList<>();
+    value.path("references").forEach(ref -> references.add(
+        new Reference(ref.path("name").asText(), ref.path("subject").asText(), ref.path("version").asInt())));
+    var schemaVersion = new SchemaVersion(
+        subject,
+        version,
+        value.path("id").asInt(),
+        value.path("schemaType").asText(DEFAULT_SCHEMA_TYPE),
+        value.path("schema").asText(),
+        List.copyOf(references),
+        value.path("deleted").asBoolean(false)
+    );
+    var previous = versions.put(version, schemaVersion);
+    updateIdToSubjects(subject, schemaVersion.id());
+    return !schemaVersion.equals(previous);
+  }
+
+  private boolean applySubjectDeletion(String subject, int upToVersion) {
+    var versions = subjects.get(subject);
+    if (versions == null) {
+      return false;
+    }
+    boolean changed = false;
+    for (SchemaVersion v : versions.headMap(upToVersion, true).values()) {
+      if (!v.deleted()) {
+        versions.put(v.version(), new SchemaVersion(
+            v.subject(), v.version(), v.id(), v.schemaType(), v.schema(), v.references(), true));
+        updateIdToSubjects(subject, v.id());
+        changed = true;
+      }
+    }
+    return changed;
+  }
+
+  private boolean applyConfig(@Nullable String subject, @Nullable JsonNode value) {
+    Compatibility compatibility = Optional.ofNullable(value)
+        .map(v -> v.path("compatibilityLevel").textValue())
+        .map(Compatibility::fromValue)
+        .orElse(null);
+    if (subject == null) {
+      var previous = globalCompatibility;
+      globalCompatibility = compatibility;
+      return previous != compatibility;
+    }
+    var previous = compatibility == null
+        ? subjectsCompatibility.remove(subject)
+        : subjectsCompatibility.put(subject, compatibility);
+    return previous != compatibility;
+  }
+
+  private void updateIdToSubjects(String subject, int id) {
+    var versions = subjects.getOrDefault(subject, new ConcurrentSkipListMap<>());
+    boolean referenced = versions.values().stream().anyMatch(v -> v.id() == id && !v.deleted());
+    if (referenced) {
+      idToSubjects.computeIfAbsent(id, i -> ConcurrentHashMap.newKeySet()).add(subject);
+    } else {
+      idToSubjects.computeIfPresent(id, (i, subjs) -> {
+        subjs.remove(subject);
+        return subjs.isEmpty() ? null : subjs;
+      });
+    }
+  }
+
+  /**
+   * Returns names of subjects that have at least one non-deleted version.
+   */
+  public List<String> subjects() {
+    return subjects.entrySet().stream()
+        .filter(e -> e.getValue().values().stream().anyMatch(v -> !v.deleted()))
+        .map(Map.Entry::getKey)
+        .toList();
+  }
+
+  public Optional<SchemaVersion> latestVersion(String subject) {
+    return Optional.ofNullable(subjects.get(subject))
+        .flatMap(versions -> versions.descendingMap().values().stream().filter(v -> !v.deleted()).findFirst());
+  }
+
+  public List<String> subjectsById(int id) {
+    return List.copyOf(idToSubjects.getOrDefault(id, Set.of()));
+  }
+
+  /**
+   * Returns subject's own compatibility level, empty if subject uses global one.
+   */
+  public Optional<Compatibility> subjectCompatibility(String subject) {
+    return Optional.ofNullable(subjectsCompatibility.get(subject));
+  }
+
+  /**
+   * Returns global compatibility level, empty if it was never changed from registry's default.
+   */
+  public Optional<Compatibility> globalCompatibility() {
+    return Optional.ofNullable(globalCompatibility);
+  }
+}
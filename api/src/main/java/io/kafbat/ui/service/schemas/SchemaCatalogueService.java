@@ -0,0 +1,117 @@
+package io.kafbat.ui.service.schemas;
+
+import static org.springframework.util.StringUtils.hasText;
+
+import io.kafbat.ui.model.KafkaCluster;
+import io.kafbat.ui.service.ClustersStorage;
+import io.kafbat.ui.service.ConsumerGroupService;
+import io.kafbat.ui.service.SchemaRegistryMetadataCache;
+import io.kafbat.ui.service.SchemaRegistryMetadataCache.SubjectMetadata;
+import io.kafbat.ui.sr.model.SchemaReference;
+import io.kafbat.ui.sr.model.SchemaSubject;
+import io.kafbat.ui.sr.model.SchemaType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps {@link SchemaCatalogue} in sync with schema registry's storage topic for clusters that have
+ * schemaRegistrySchemasTopic configured. Catalogue is used by SchemaRegistry serde and replaces
+ * polling-based {@link SchemaRegistryMetadataCache} refresh for such clusters.
+ */
+@Slf4j
+@Service
+public class SchemaCatalogueService {
+
+  private static final String THREAD_NAME_PREFIX = "schemas-topic-tailer-";
+
+  private final SchemaRegistryMetadataCache metadataCache;
+  private final Map<String, SchemaCatalogue> catalogues = new ConcurrentHashMap<>();
+  private final List<SchemasTopicTailer> tailers = new ArrayList<>();
+  private final List<Thread> threads = new ArrayList<>();
+
+  public SchemaCatalogueService(ClustersStorage clustersStorage,
+                                ConsumerGroupService consumerGroupService,
+                                SchemaRegistryMetadataCache metadataCache) {
+    this.metadataCache = metadataCache;
+    for (KafkaCluster cluster : clustersStorage.getKafkaClusters()) {
+      if (!isEnabled(cluster)) {
+        continue;
+      }
+      var catalogue = new SchemaCatalogue();
+      var loaded = new AtomicBoolean();
+      catalogues.put(cluster.getName(), catalogue);
+      tailers.add(
+          new SchemasTopicTailer(
+              cluster.getName(),
+              cluster.getOriginalProperties().getSchemaRegistrySchemasTopic(),
+              () -> consumerGroupService.createConsumer(cluster),
+              catalogue,
+              () -> publishToMetadataCache(cluster, catalogue, !loaded.getAndSet(true))
+          ));
+    }
+  }
+
+  public static boolean isEnabled(KafkaCluster cluster) {
+    return cluster.getSchemaRegistryClient() != null
+        && cluster.getOriginalProperties() != null
+        && hasText(cluster.getOriginalProperties().getSchemaRegistrySchemasTopic());
+  }
+
+  @PostConstruct
+  public void start() {
+    for (SchemasTopicTailer tailer : tailers) {
+      var thread = new Thread(tailer, THREAD_NAME_PREFIX + threads.size());
+      thread.setDaemon(true);
+      thread.start();
+      threads.add(thread);
+    }
+  }
+
+  @PreDestroy
+  public void stop() {
+    tailers.forEach(SchemasTopicTailer::close);
+    threads.forEach(Thread::interrupt);
+  }
+
+  public Optional<SchemaCatalogue> get(String clusterName) {
+    return Optional.ofNullable(catalogues.get(clusterName));
+  }
+
+  private void publishToMetadataCache(KafkaCluster cluster, SchemaCatalogue catalogue, boolean initialLoad) {
+    long now = System.currentTimeMillis();
+    Map<String, SubjectMetadata> subjects = catalogue.subjects().stream()
+        .flatMap(subject -> catalogue.latestVersion(subject).stream())
+        .map(latest -> new SubjectMetadata(
+            toSchemaSubject(latest),
+            catalogue.subjectCompatibility(latest.subject()).orElse(null),
+            now))
+        .collect(Collectors.toMap(m -> m.latest().getSubject(), Function.identity()));
+    metadataCache.replace(cluster, subjects, catalogue.globalCompatibility().orElse(null));
+    if (initialLoad && catalogue.globalCompatibility().isEmpty()) {
+      // registry's default compatibility is not written to the topic
+      metadataCache.refreshGlobalCompatibility(cluster).subscribe();
+    }
+  }
+
+  private static SchemaSubject toSchemaSubject(SchemaCatalogue.SchemaVersion version) {
+    return new SchemaSubject()
+        .subject(version.subject())
+        .version(String.valueOf(version.version()))
+        .id(version.id())
+        .schema(version.schema())
+        .schemaType(SchemaType.fromValue(version.schemaType()))
+        .references(version.references().stream()
+            .map(r -> new SchemaReference().name(r.name()).subject(r.subject()).version(r.version()))
+            .toList());
+  }
+}
@@ -0,0 +1,123 @@
+package io.kafbat.ui.service.schemas;
+
+import io.kafbat.ui.emitter.EnhancedConsumer;
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.InterruptException;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.utils.Bytes;
+
+/**
+ * Reads schema registry's storage topic from the beginning and keeps following it, applying records
+ * to {@link SchemaCatalogue}. On errors consumer is recreated and reading continues from last applied offsets.
+ */
+@Slf4j
+class SchemasTopicTailer implements Runnable, Closeable {
+
+  private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+  private static final Duration RETRY_BACKOFF = Duration.ofSeconds(10);
+
+  private final String clusterName;
+  private final String topic;
+  private final Supplier<EnhancedConsumer> consumerFactory;
+  private final SchemaCatalogue catalogue;
+  private final Runnable onChange;
+
+  private final Map<TopicPartition, Long> positions = new HashMap<>();
+  private volatile boolean closed;
+  private volatile EnhancedConsumer consumer;
+
+  SchemasTopicTailer(String clusterName,
+                     String topic,
+                     Supplier<EnhancedConsumer> consumerFactory,
+                     SchemaCatalogue catalogue,
+                     Runnable onChange) {
+    this.clusterName = clusterName;
+    this.topic = topic;
+    this.consumerFactory = consumerFactory;
+    this.catalogue = catalogue;
+    this.onChange = onChange;
+  }
+
+  @Override
+  public void run() {
+    while (!closed) {
+      try (var c = consumerFactory.get()) {
+        consumer = c;
+        if (closed) { // closed while consumer was created
+          return;
+        }
+        follow(c);
+      } catch (WakeupException | InterruptException e) {
+        log.debug("Schemas topic tailing stopped for cluster {}", clusterName);
+      } catch (Exception e) {
+        log.warn("Error reading schemas topic '{}' for cluster {}, retrying in {}",
+            topic, clusterName, RETRY_BACKOFF, e);
+        sleepBeforeRetry();
+      }
+    }
+  }
+
+  private void follow(EnhancedConsumer c) {
+    List<TopicPartition> partitions = c.partitionsFor(topic).stream()
+        .map(p -> new TopicPartition(p.topic(), p.partition()))
+        .toList();
+    if (partitions.isEmpty()) {
+      throw new IllegalStateException("Topic '%s' not found".formatted(topic));
+    }
+    c.assign(partitions);
+    partitions.forEach(tp -> {
+      Long position = positions.get(tp);
+      if (position == null) {
+        c.seekToBeginning(List.of(tp));
+      } else {
+        c.seek(tp, position);
+      }
+    });
+    Map<TopicPartition, Long> initialEndOffsets = catalogue.isReady() ? Map.of() : c.endOffsets(partitions);
+    while (!closed) {
+      boolean changed = false;
+      for (ConsumerRecord<Bytes, Bytes> rec : c.pollEnhanced(POLL_TIMEOUT)) {
+        changed |= catalogue.apply(
+            rec.key() == null ? null : rec.key().get(),
+            rec.value() == null ? null : rec.value().get()
+        );
+        positions.put(new TopicPartition(rec.topic(), rec.partition()), rec.offset() + 1);
+      }
+      if (!catalogue.isReady()
+          && initialEndOffsets.entrySet().stream().allMatch(e -> c.position(e.getKey()) >= e.getValue())) {
+        log.info("Schemas catalogue loaded for cluster {}", clusterName);
+        catalogue.markReady();
+        changed = true;
+      }
+      if (changed && catalogue.isReady()) {
+        onChange.run();
+      }
+    }
+  }
+
+  private void sleepBeforeRetry() {
+    try {
+      Thread.sleep(RETRY_BACKOFF.toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      closed = true;
+    }
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    var c = consumer;
+    if (c != null) {
+      c.wakeup();
+    }
+  }
+}
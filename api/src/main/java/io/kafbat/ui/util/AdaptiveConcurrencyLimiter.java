@@ -0,0 +1,172 @@
+package io.kafbat.ui.util;
+
+import io.kafbat.ui.exception.ServiceUnavailableException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+/**
+ * Limits number of concurrent calls to remote service using AIMD algorithm: limit is increased by one
+ * per "window" of successful calls and multiplicatively decreased when call latency exceeds
+ * {@code latencyTolerance} times the long-term average latency or when call failed because of service overload.
+ * Calls exceeding the limit wait in a bounded queue.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+  public record Options(int initialLimit,
+                        int minLimit,
+                        int maxLimit,
+                        double backoffRatio,
+                        double latencyTolerance,
+                        int maxQueueSize) {
+
+    public static final Options DEFAULT = new Options(20, 2, 200, 0.9, 2.0, 1_000);
+  }
+
+  private static final double LATENCY_SMOOTHING = 0.05;
+
+  private final Options options;
+  private final LongSupplier nanoClock;
+
+  private final Deque<Waiter> waiters = new ArrayDeque<>(); // guarded by this
+  private double limit; // guarded by this
+  private int inFlight; // guarded by this
+  private double avgLatencyNanos = -1; // guarded by this
+  private long lastDecreaseNanos; // guarded by this
+
+  public AdaptiveConcurrencyLimiter(Options options) {
+    this(options, System::nanoTime);
+  }
+
+  AdaptiveConcurrencyLimiter(Options options, LongSupplier nanoClock) {
+    this.options = options;
+    this.nanoClock = nanoClock;
+    this.limit = options.initialLimit();
+    this.lastDecreaseNanos = nanoClock.getAsLong();
+  }
+
+  public synchronized int getLimit() {
+    return (int) limit;
+  }
+
+  public synchronized int getInFlight() {
+    return inFlight;
+  }
+
+  public synchronized int getQueueSize() {
+    return waiters.size();
+  }
+
+  /**
+   * Subscribes to call when concurrency limit allows it. Call is reported as dropped (decreasing the limit)
+   * when it fails with error matching {@code overloadErrorPredicate}.
+   */
+  public <T> Mono<T> mono(Mono<T> call, Predicate<Throwable> overloadErrorPredicate) {
+    return Mono.usingWhen(
+        acquire(),
+        permit -> call,
+        permit -> Mono.fromRunnable(() -> release(permit, false)),
+        (permit, th) -> Mono.fromRunnable(() -> release(permit, overloadErrorPredicate.test(th))),
+        permit -> Mono.fromRunnable(() -> release(permit, false))
+    );
+  }
+
+  private Mono<Permit> acquire() {
+    return Mono.create(sink -> {
+      Waiter waiter;
+      synchronized (this) {
+        if (inFlight < (int) limit) {
+          inFlight++;
+          waiter = null;
+        } else if (waiters.size() >= options.maxQueueSize()) {
+          sink.error(new ServiceUnavailableException("Too many pending requests, try again later"));
+          return;
+        } else {
+          waiter = new Waiter(sink);
+          waiters.addLast(waiter);
+        }
+      }
+      if (waiter == null) {
+        sink.success(new Permit(nanoClock.getAsLong()));
+      } else {
+        sink.onCancel(() -> cancel(waiter));
+      }
+    });
+  }
+
+  private void cancel(Waiter waiter) {
+    synchronized (this) {
+      if (waiters.remove(waiter)) {
+        return;
+      }
+    }
+    // permit was already handed to waiter, but might not be delivered to subscriber
+    var permit = waiter.permit;
+    if (permit != null) {
+      release(permit, false);
+    }
+  }
+
+  private void release(Permit permit, boolean dropped) {
+    if (!permit.released.compareAndSet(false, true)) {
+      return;
+    }
+    long now = nanoClock.getAsLong();
+    Waiter next;
+    synchronized (this) {
+      adjustLimit(now - permit.startNanos, dropped, now);
+      next = inFlight <= (int) limit ? waiters.pollFirst() : null;
+      if (next == null) {
+        inFlight--;
+      } else {
+        // permit is passed to next waiter, inFlight stays the same
+        next.permit = new Permit(now);
+      }
+    }
+    if (next != null) {
+      next.sink.success(next.permit);
+    }
+  }
+
+  private void adjustLimit(long latencyNanos, boolean dropped, long now) {
+    boolean slow = avgLatencyNanos > 0 && latencyNanos > avgLatencyNanos * options.latencyTolerance();
+    if (!dropped) {
+      avgLatencyNanos = avgLatencyNanos < 0
+          ? latencyNanos
+          : avgLatencyNanos + (latencyNanos - avgLatencyNanos) * LATENCY_SMOOTHING;
+    }
+    if (dropped || slow) {
+      // decreasing not more often than once per average call duration, so one burst of
+      // slow calls doesn't collapse the limit
+      if (now - lastDecreaseNanos > avgLatencyNanos) {
+        limit = Math.max(options.minLimit(), limit * options.backoffRatio());
+        lastDecreaseNanos = now;
+      }
+    } else if (inFlight * 2 >= limit) {
+      // increasing only when limit is actually utilized
+      limit = Math.min(options.maxLimit(), limit + 1 / limit);
+    }
+  }
+
+  private static final class Permit {
+    private final long startNanos;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private Permit(long startNanos) {
+      this.startNanos = startNanos;
+    }
+  }
+
+  private static final class Waiter {
+    private final MonoSink<Permit> sink;
+    private volatile Permit permit;
+
+    private Waiter(MonoSink<Permit> sink) {
+      this.sink = sink;
+    }
+  }
+}
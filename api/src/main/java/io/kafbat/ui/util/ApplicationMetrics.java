@@ -7,13 +7,18 @@ import io.kafbat.ui.emitter.PolledRecords;
 import io.kafbat.ui.model.KafkaCluster;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.pool2.impl.GenericKeyedObjectPool;
 
 @RequiredArgsConstructor(access = PRIVATE)
 public class ApplicationMetrics {
@@ -26,7 +31,11 @@ public class ApplicationMetrics {
   private final MeterRegistry registry;
 
   public static ApplicationMetrics forCluster(KafkaCluster cluster) {
-    return new ApplicationMetrics(cluster.getName(), Metrics.globalRegistry);
+    return forCluster(cluster.getName());
+  }
+
+  public static ApplicationMetrics forCluster(String clusterName) {
+    return new ApplicationMetrics(clusterName, Metrics.globalRegistry);
   }
 
   @VisibleForTesting
@@ -83,4 +92,155 @@ public class ApplicationMetrics {
     return count;
   }
 
+  /**
+   * Registers consumer pool meters, replacing ones registered for previous pool of the cluster
+   * (after config reload), since meters hold only weak reference to the pool.
+   */
+  public void registerConsumerPool(GenericKeyedObjectPool<?, ?> pool) {
+    Tags tags = Tags.of("cluster", clusterName);
+    List.of("consumer_pool_active", "consumer_pool_idle", "consumer_pool_borrowed", "consumer_pool_created",
+            "consumer_pool_destroyed_by_evictor")
+        .forEach(name -> registry.find(COMMON_PREFIX + name).tags(tags).meters().forEach(registry::remove));
+    Gauge.builder(COMMON_PREFIX + "consumer_pool_active", pool, p -> p.getNumActive())
+        .description("Number of consumers borrowed from consumers pool")
+        .tags(tags)
+        .register(registry);
+    Gauge.builder(COMMON_PREFIX + "consumer_pool_idle", pool, p -> p.getNumIdle())
+        .description("Number of idle consumers in consumers pool")
+        .tags(tags)
+        .register(registry);
+    FunctionCounter.builder(COMMON_PREFIX + "consumer_pool_borrowed", pool, p -> p.getBorrowedCount())
+        .description("Number of consumers borrowed from consumers pool")
+        .tags(tags)
+        .register(registry);
+    FunctionCounter.builder(COMMON_PREFIX + "consumer_pool_created", pool, p -> p.getCreatedCount())
+        .description("Number of consumers created by consumers pool")
+        .tags(tags)
+        .register(registry);
+    FunctionCounter.builder(COMMON_PREFIX + "consumer_pool_destroyed_by_evictor", pool,
+            p -> p.getDestroyedByEvictorCount())
+        .description("Number of idle consumers closed by consumers pool evictor")
+        .tags(tags)
+        .register(registry);
+  }
+
+  public Timer jmxScrapeTimer(String endpoint) {
+    return Timer.builder(COMMON_PREFIX + "jmx_scrape_time")
+        .description("Time spent in scraping broker's JMX metrics")
+        .tag("cluster", clusterName)
+        .tag("endpoint", endpoint)
+        .register(registry);
+  }
+
+  public Counter jmxRmiCalls(String endpoint) {
+    return Counter.builder(COMMON_PREFIX + "jmx_rmi_calls")
+        .description("Number of RMI calls made to broker's JMX endpoint")
+        .tag("cluster", clusterName)
+        .tag("endpoint", endpoint)
+        .register(registry);
+  }
+
+  public Counter droppedScrapedSeries(String reason) {
+    return Counter.builder(COMMON_PREFIX + "scraped_metrics_dropped_series")
+        .description("Number of scraped broker metrics series dropped by metrics filter or series limit")
+        .tag("cluster", clusterName)
+        .tag("reason", reason)
+        .register(registry);
+  }
+
+  /**
+   * Registers sink queue size gauge, replacing one registered for previous sink with the same name
+   * (after config reload).
+   */
+  public AtomicInteger metricsSinkQueueSize(String sink) {
+    var size = new AtomicInteger();
+    Tags tags = Tags.of("cluster", clusterName, "sink", sink);
+    registry.find(COMMON_PREFIX + "metrics_sink_queue_size").tags(tags).meters().forEach(registry::remove);
+    Gauge.builder(COMMON_PREFIX + "metrics_sink_queue_size", () -> size)
+        .description("Number of scraped metrics batches waiting to be sent to metrics sink")
+        .tags(tags)
+        .register(registry);
+    return size;
+  }
+
+  public Counter metricsSinkDroppedBatches(String sink) {
+    return Counter.builder(COMMON_PREFIX + "metrics_sink_dropped_batches")
+        .description("Number of scraped metrics batches dropped because metrics sink queue was full")
+        .tag("cluster", clusterName)
+        .tag("sink", sink)
+        .register(registry);
+  }
+
+  public Counter metricsSinkFailedBatches(String sink) {
+    return Counter.builder(COMMON_PREFIX + "metrics_sink_failed_batches")
+        .description("Number of scraped metrics batches not sent to metrics sink after all retries")
+        .tag("cluster", clusterName)
+        .tag("sink", sink)
+        .register(registry);
+  }
+
+  public Timer metricsSinkLag(String sink) {
+    return Timer.builder(COMMON_PREFIX + "metrics_sink_lag")
+        .description("Time between metrics scrape and its delivery to metrics sink")
+        .tag("cluster", clusterName)
+        .tag("sink", sink)
+        .register(registry);
+  }
+
+  /**
+   * Registers call guard gauges, replacing ones registered for previous guard of the same instance
+   * (after config reload). Returns instance tag value.
+   */
+  public String registerCallGuard(String service, String url,
+                                  AdaptiveConcurrencyLimiter limiter, CircuitBreaker circuitBreaker) {
+    String instance = instanceTag(url);
+    Tags tags = Tags.of("cluster", clusterName, "service", service, "instance", instance);
+    List.of("client_concurrency_limit", "client_inflight_calls", "client_queued_calls", "client_circuit_state")
+        .forEach(name -> registry.find(COMMON_PREFIX + name).tags(tags).meters().forEach(registry::remove));
+    Gauge.builder(COMMON_PREFIX + "client_concurrency_limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+        .description("Current adaptive concurrency limit for calls to service instance")
+        .tags(tags)
+        .register(registry);
+    Gauge.builder(COMMON_PREFIX + "client_inflight_calls", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+        .description("Number of in-flight calls to service instance")
+        .tags(tags)
+        .register(registry);
+    Gauge.builder(COMMON_PREFIX + "client_queued_calls", limiter, AdaptiveConcurrencyLimiter::getQueueSize)
+        .description("Number of calls to service instance waiting for concurrency limit")
+        .tags(tags)
+        .register(registry);
+    Gauge.builder(COMMON_PREFIX + "client_circuit_state", circuitBreaker, cb -> cb.getState().ordinal())
+        .description("Circuit breaker state for service instance: 0 - closed, 1 - open, 2 - half-open")
+        .tags(tags)
+        .register(registry);
+    return instance;
+  }
+
+  public Counter callGuardRejectedCalls(String service, String instance, String reason) {
+    return Counter.builder(COMMON_PREFIX + "client_rejected_calls")
+        .description("Number of calls to service instance rejected by circuit breaker or concurrency limiter")
+        .tag("cluster", clusterName)
+        .tag("service", service)
+        .tag("instance", instance)
+        .tag("reason", reason)
+        .register(registry);
+  }
+
+  // host:port without credentials and path
+  private static String instanceTag(String url) {
+    try {
+      URI uri = URI.create(url.trim());
+      return uri.getHost() == null ? url : uri.getHost() + (uri.getPort() > 0 ? ":" + uri.getPort() : "");
+    } catch (IllegalArgumentException e) {
+      return "unknown";
+    }
+  }
+
+  public Counter consumerPoolMisses() {
+    return Counter.builder(COMMON_PREFIX + "consumer_pool_misses")
+        .description("Number of non-pooled consumers created because consumers pool was exhausted")
+        .tag("cluster", clusterName)
+        .register(registry);
+  }
+
 }
@@ -0,0 +1,118 @@
+package io.kafbat.ui.util;
+
+import com.google.common.base.Throwables;
+import io.kafbat.ui.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Protects single instance of remote service (Connect worker, Schema Registry, KSQL server) with
+ * {@link AdaptiveConcurrencyLimiter} and {@link CircuitBreaker}. Calls rejected by guard fail with
+ * {@link ServiceUnavailableException}.
+ */
+public class CallGuard {
+
+  // errors signaling that service is unavailable or overloaded (as opposed to errors in request itself)
+  public static final Predicate<Throwable> SERVICE_FAILURE = th ->
+      Throwables.getCausalChain(th).stream().anyMatch(e ->
+          e instanceof WebClientRequestException
+              || e instanceof TimeoutException
+              || (e instanceof WebClientResponseException re && isOverloadStatus(re.getStatusCode().value())));
+
+  private final String serviceName;
+  private final AdaptiveConcurrencyLimiter limiter;
+  private final CircuitBreaker circuitBreaker;
+  private final Counter rejectedByCircuitBreaker;
+  private final Counter rejectedByLimiter;
+
+  public static CallGuard create(ApplicationMetrics metrics, String service, String serviceName, String url) {
+    return new CallGuard(
+        serviceName,
+        new AdaptiveConcurrencyLimiter(AdaptiveConcurrencyLimiter.Options.DEFAULT),
+        new CircuitBreaker(CircuitBreaker.Options.DEFAULT),
+        metrics,
+        service,
+        url
+    );
+  }
+
+  CallGuard(String serviceName,
+            AdaptiveConcurrencyLimiter limiter,
+            CircuitBreaker circuitBreaker,
+            ApplicationMetrics metrics,
+            String service,
+            String url) {
+    this.serviceName = serviceName;
+    this.limiter = limiter;
+    this.circuitBreaker = circuitBreaker;
+    String instance = metrics.registerCallGuard(service, url, limiter, circuitBreaker);
+    this.rejectedByCircuitBreaker = metrics.callGuardRejectedCalls(service, instance, "circuit_open");
+    this.rejectedByLimiter = metrics.callGuardRejectedCalls(service, instance, "queue_full");
+  }
+
+  private static boolean isOverloadStatus(int status) {
+    return status == HttpStatus.TOO_MANY_REQUESTS.value()
+        || status == HttpStatus.BAD_GATEWAY.value()
+        || status == HttpStatus.SERVICE_UNAVAILABLE.value()
+        || status == HttpStatus.GATEWAY_TIMEOUT.value();
+  }
+
+  public CircuitBreaker.State getCircuitState() {
+    return circuitBreaker.getState();
+  }
+
+  public <T> Mono<T> mono(Mono<T> call) {
+    return Mono.defer(() -> {
+      if (!circuitBreaker.tryAcquire()) {
+        rejectedByCircuitBreaker.increment();
+        return Mono.error(circuitOpenError());
+      }
+      return limiter.mono(call, SERVICE_FAILURE)
+          .doOnSuccess(v -> circuitBreaker.onSuccess())
+          .doOnError(this::onError)
+          .doOnCancel(circuitBreaker::onIgnored);
+    });
+  }
+
+  /**
+   * Streaming calls (like KSQL queries) are only checked by circuit breaker, since their duration
+   * is not a latency signal and they can hold concurrency permits for a long time.
+   */
+  public <T> Flux<T> flux(Flux<T> call) {
+    return Flux.defer(() -> {
+      if (!circuitBreaker.tryAcquire()) {
+        rejectedByCircuitBreaker.increment();
+        return Flux.error(circuitOpenError());
+      }
+      return call
+          .doOnComplete(circuitBreaker::onSuccess)
+          .doOnError(this::onError)
+          .doOnCancel(circuitBreaker::onIgnored);
+    });
+  }
+
+  private void onError(Throwable th) {
+    if (SERVICE_FAILURE.test(th)) {
+      circuitBreaker.onFailure();
+      return;
+    }
+    if (th instanceof ServiceUnavailableException) { // rejected by limiter, service was not called
+      rejectedByLimiter.increment();
+      circuitBreaker.onIgnored();
+      return;
+    }
+    // service responded with error to request, but it is alive
+    circuitBreaker.onSuccess();
+  }
+
+  private ServiceUnavailableException circuitOpenError() {
+    return new ServiceUnavailableException(
+        "%s is unavailable, requests are suspended after repeated failures".formatted(serviceName));
+  }
+}
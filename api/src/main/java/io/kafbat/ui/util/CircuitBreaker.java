@@ -0,0 +1,148 @@
+package io.kafbat.ui.util;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Count-based circuit breaker. Opens when failures rate among last {@code windowSize} calls exceeds threshold,
+ * rejects calls while open and, after {@code openDuration}, lets limited number of probe calls through
+ * (half-open state) to decide whether to close or open again.
+ */
+public class CircuitBreaker {
+
+  public enum State {
+    CLOSED, OPEN, HALF_OPEN
+  }
+
+  public record Options(int windowSize,
+                        int minCalls,
+                        double failureRateThreshold,
+                        Duration openDuration,
+                        int halfOpenCalls) {
+
+    public static final Options DEFAULT = new Options(20, 10, 0.5, Duration.ofSeconds(30), 3);
+  }
+
+  private final Options options;
+  private final LongSupplier millisClock;
+
+  // ring buffer of last calls results, true = failure
+  private final boolean[] window; // guarded by this
+  private int windowPos; // guarded by this
+  private int calls; // guarded by this
+  private int failures; // guarded by this
+
+  private State state = State.CLOSED; // guarded by this
+  private long openedAtMillis; // guarded by this
+  private int halfOpenInFlight; // guarded by this
+  private int halfOpenSucceeded; // guarded by this
+
+  public CircuitBreaker(Options options) {
+    this(options, System::currentTimeMillis);
+  }
+
+  CircuitBreaker(Options options, LongSupplier millisClock) {
+    this.options = options;
+    this.millisClock = millisClock;
+    this.window = new boolean[options.windowSize()];
+  }
+
+  public synchronized State getState() {
+    if (state == State.OPEN && openDurationPassed()) {
+      return State.HALF_OPEN;
+    }
+    return state;
+  }
+
+  /**
+   * Returns true if call is permitted. Permitted call should be finished with one of
+   * {@link #onSuccess()}, {@link #onFailure()} or {@link #onIgnored()}.
+   */
+  public synchronized boolean tryAcquire() {
+    if (state == State.CLOSED) {
+      return true;
+    }
+    if (state == State.OPEN) {
+      if (!openDurationPassed()) {
+        return false;
+      }
+      state = State.HALF_OPEN;
+      halfOpenInFlight = 0;
+      halfOpenSucceeded = 0;
+    }
+    if (halfOpenInFlight < options.halfOpenCalls()) {
+      halfOpenInFlight++;
+      return true;
+    }
+    return false;
+  }
+
+  public synchronized void onSuccess() {
+    switch (state) {
+      case CLOSED -> record(false);
+      case HALF_OPEN -> {
+        releaseHalfOpenCall();
+        if (++halfOpenSucceeded >= options.halfOpenCalls()) {
+          close();
+        }
+      }
+      default -> {
+        // call was started before circuit was opened
+      }
+    }
+  }
+
+  public synchronized void onFailure() {
+    switch (state) {
+      case CLOSED -> {
+        record(true);
+        if (calls >= options.minCalls() && failures >= calls * options.failureRateThreshold()) {
+          open();
+        }
+      }
+      case HALF_OPEN -> open();
+      default -> {
+        // call was started before circuit was opened
+      }
+    }
+  }
+
+  // call was cancelled or finished with error that doesn't indicate service failure
+  public synchronized void onIgnored() {
+    if (state == State.HALF_OPEN) {
+      releaseHalfOpenCall();
+    }
+  }
+
+  // calls started during previous half-open period can finish in current one
+  private void releaseHalfOpenCall() {
+    halfOpenInFlight = Math.max(0, halfOpenInFlight - 1);
+  }
+
+  private void record(boolean failure) {
+    if (calls == window.length) {
+      failures -= window[windowPos] ? 1 : 0;
+    } else {
+      calls++;
+    }
+    window[windowPos] = failure;
+    failures += failure ? 1 : 0;
+    windowPos = (windowPos + 1) % window.length;
+  }
+
+  private void open() {
+    state = State.OPEN;
+    openedAtMillis = millisClock.getAsLong();
+  }
+
+  private void close() {
+    state = State.CLOSED;
+    calls = 0;
+    failures = 0;
+    windowPos = 0;
+  }
+
+  private boolean openDurationPassed() {
+    return millisClock.getAsLong() - openedAtMillis >= options.openDuration().toMillis();
+  }
+}
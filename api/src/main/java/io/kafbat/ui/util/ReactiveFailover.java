@@ -1,16 +1,27 @@
 package io.kafbat.ui.util;
 
 import com.google.common.base.Preconditions;
+import io.kafbat.ui.exception.ServiceUnavailableException;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import javax.annotation.Nullable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Signal;
 
 public class ReactiveFailover<T> {
 
@@ -18,11 +29,20 @@ public class ReactiveFailover<T> {
   public static final Predicate<Throwable> CONNECTION_REFUSED_EXCEPTION_FILTER =
       error -> error.getCause() instanceof IOException && error.getCause().getMessage().contains("Connection refused");
 
+  // publisher's latency estimation is considered outdated (and publisher is probed again) after this period
+  private static final long LATENCY_EXPIRATION_MS = Duration.ofSeconds(30).toMillis();
+  private static final double LATENCY_EWMA_ALPHA = 0.3;
+  private static final int HEDGING_MIN_SAMPLES = 20;
+  private static final double HEDGING_PERCENTILE = 0.95;
+
   private final List<PublisherHolder<T>> publishers;
   private int currentIndex = 0;
 
   private final Predicate<Throwable> failoverExceptionsPredicate;
   private final String noAvailablePublishersMsg;
+  private final boolean latencyAwareRouting;
+  // hedging delays are calculated per operation, since different calls have different latencies
+  private final Map<String, LatencySamples> operationsLatencies = new ConcurrentHashMap<>();
 
   // creates single-publisher failover (basically for tests usage)
   public static <T> ReactiveFailover<T> createNoop(T publisher) {
@@ -58,13 +78,49 @@ public class ReactiveFailover<T> {
     );
   }
 
+  /**
+   * Creates failover where calls to each publisher are protected by its own {@link CallGuard}.
+   * Calls rejected by guard are retried on next available publisher.
+   */
+  public static <T, A> ReactiveFailover<T> create(List<A> args,
+                                                  Function<A, T> factory,
+                                                  Function<A, CallGuard> guardFactory,
+                                                  Predicate<Throwable> failoverExeptionsPredicate,
+                                                  String noAvailablePublishersMsg,
+                                                  Duration retryGracePeriodMs) {
+    return new ReactiveFailover<>(
+        args.stream().map(arg ->
+            new PublisherHolder<>(
+                () -> factory.apply(arg), retryGracePeriodMs.toMillis(), guardFactory.apply(arg))).toList(),
+        failoverExeptionsPredicate,
+        noAvailablePublishersMsg
+    );
+  }
+
   private ReactiveFailover(List<PublisherHolder<T>> publishers,
                            Predicate<Throwable> failoverExceptionsPredicate,
                            String noAvailablePublishersMsg) {
+    this(publishers, failoverExceptionsPredicate, noAvailablePublishersMsg, false);
+  }
+
+  private ReactiveFailover(List<PublisherHolder<T>> publishers,
+                           Predicate<Throwable> failoverExceptionsPredicate,
+                           String noAvailablePublishersMsg,
+                           boolean latencyAwareRouting) {
     Preconditions.checkArgument(!publishers.isEmpty());
     this.publishers = publishers;
     this.failoverExceptionsPredicate = failoverExceptionsPredicate;
     this.noAvailablePublishersMsg = noAvailablePublishersMsg;
+    this.latencyAwareRouting = latencyAwareRouting;
+  }
+
+  /**
+   * Returns failover that routes calls to the active publisher with lowest response time (EWMA),
+   * instead of sticking to the latest active one. Publishers without recent latency measurements
+   * are tried first, so every publisher gets re-measured periodically.
+   */
+  public ReactiveFailover<T> withLatencyAwareRouting() {
+    return new ReactiveFailover<>(publishers, failoverExceptionsPredicate, noAvailablePublishersMsg, true);
   }
 
   public <V> Mono<V> mono(Function<T, Mono<V>> f) {
@@ -75,12 +131,99 @@ public class ReactiveFailover<T> {
     return mono(f, candidates);
   }
 
+  /**
+   * Same as {@link #mono(Function)}, but if call takes longer than p95 of recent calls of the same operation,
+   * additional (hedged) call is sent to the next active publisher with closed circuit, and the first
+   * publisher's response is used. Should only be used for idempotent calls.
+   */
+  public <V> Mono<V> hedgedMono(String operation, Function<T, Mono<V>> f) {
+    List<PublisherHolder<T>> candidates = getActivePublishers();
+    if (candidates.isEmpty()) {
+      return Mono.error(() -> new IllegalStateException(noAvailablePublishersMsg));
+    }
+    LatencySamples samples = operationsLatencies.computeIfAbsent(operation, o -> new LatencySamples(128));
+    Duration hedgingDelay = samples.percentile(HEDGING_PERCENTILE, HEDGING_MIN_SAMPLES);
+    // hedging to publishers with open (or probing) circuit would only add load to struggling instance
+    var hedgeCandidates = candidates.stream().skip(1).filter(PublisherHolder::isCircuitClosed).toList();
+    return Mono.defer(() -> {
+      var request = new RequestLatency(samples, System.nanoTime());
+      if (hedgeCandidates.isEmpty() || hedgingDelay == null) {
+        return request.sampled(mono(f, candidates));
+      }
+      var lastFailure = new AtomicReference<Throwable>();
+      return Mono.firstWithValue(
+              response(request.sampled(mono(f, candidates)), lastFailure),
+              Mono.delay(hedgingDelay).then(response(request.sampled(mono(f, hedgeCandidates)), lastFailure))
+          )
+          .onErrorMap(NoSuchElementException.class, th -> Optional.ofNullable(lastFailure.get()).orElse(th))
+          .dematerialize();
+    });
+  }
+
+  /**
+   * Records single latency sample per (possibly hedged) request, measured from the request start. Cancelled
+   * primary call's elapsed time is recorded too (it is a lower bound of its latency) - otherwise slow calls
+   * would never be sampled once hedged, and p95 would be gradually lowered by censored samples.
+   */
+  private class RequestLatency {
+
+    private final LatencySamples samples;
+    private final long startNanos;
+    private final AtomicBoolean recorded = new AtomicBoolean();
+
+    RequestLatency(LatencySamples samples, long startNanos) {
+      this.samples = samples;
+      this.startNanos = startNanos;
+    }
+
+    <V> Mono<V> sampled(Mono<V> call) {
+      return call
+          .doOnSuccess(v -> record())
+          .doOnError(th -> {
+            if (!shouldFailover(th)) {
+              record();
+            }
+          })
+          .doOnCancel(this::record);
+    }
+
+    private void record() {
+      if (recorded.compareAndSet(false, true)) {
+        samples.add(System.nanoTime() - startNanos);
+      }
+    }
+  }
+
+  /**
+   * Wraps call's result into signal, so responses (including error responses, like 404) can win the hedging
+   * race, while failures that would lead to failover only complete the signal empty to let other call win.
+   */
+  private <V> Mono<Signal<V>> response(Mono<V> call, AtomicReference<Throwable> lastFailure) {
+    return call.materialize()
+        .filter(signal -> {
+          if (signal.isOnError() && shouldFailover(signal.getThrowable())) {
+            lastFailure.set(signal.getThrowable());
+            return false;
+          }
+          return true;
+        });
+  }
+
   private <V> Mono<V> mono(Function<T, Mono<V>> f, List<PublisherHolder<T>> candidates) {
     var publisher = candidates.get(0);
-    return publisher.get()
-        .flatMap(f)
-        .onErrorResume(failoverExceptionsPredicate, th -> {
-          publisher.markFailed();
+    return Mono.defer(() -> {
+          long startNanos = System.nanoTime();
+          return publisher.mono(f)
+              .doOnSuccess(v -> publisher.recordLatency(System.nanoTime() - startNanos))
+              // publisher responded with error, but it is still valid latency measurement
+              .doOnError(th -> {
+                if (!shouldFailover(th)) {
+                  publisher.recordLatency(System.nanoTime() - startNanos);
+                }
+              });
+        })
+        .onErrorResume(this::shouldFailover, th -> {
+          markFailedIfNeeded(publisher, th);
           var newCandidates = candidates.stream().skip(1).filter(PublisherHolder::isActive).toList();
           if (newCandidates.isEmpty()) {
             return Mono.error(th);
@@ -99,10 +242,9 @@ public class ReactiveFailover<T> {
 
   private <V> Flux<V> flux(Function<T, Flux<V>> f, List<PublisherHolder<T>> candidates) {
     var publisher = candidates.get(0);
-    return publisher.get()
-        .flatMapMany(f)
-        .onErrorResume(failoverExceptionsPredicate, th -> {
-          publisher.markFailed();
+    return publisher.flux(f)
+        .onErrorResume(this::shouldFailover, th -> {
+          markFailedIfNeeded(publisher, th);
           var newCandidates = candidates.stream().skip(1).filter(PublisherHolder::isActive).toList();
           if (newCandidates.isEmpty()) {
             return Flux.error(th);
@@ -111,10 +253,34 @@ public class ReactiveFailover<T> {
         });
   }
 
+  private boolean shouldFailover(Throwable th) {
+    return failoverExceptionsPredicate.test(th) || th instanceof ServiceUnavailableException;
+  }
+
+  // publisher rejected by its call guard is not marked as failed, guard decides when to let calls through
+  private void markFailedIfNeeded(PublisherHolder<T> publisher, Throwable th) {
+    if (failoverExceptionsPredicate.test(th)) {
+      publisher.markFailed();
+    }
+  }
+
   /**
-   * Returns list of active publishers, starting with latest active.
+   * Returns list of active publishers, starting with latest active or, if latency-aware routing is enabled,
+   * ordered by publishers latency.
    */
-  private synchronized List<PublisherHolder<T>> getActivePublishers() {
+  private List<PublisherHolder<T>> getActivePublishers() {
+    var active = getActivePublishersInOrder();
+    if (!latencyAwareRouting || active.size() < 2) {
+      return active;
+    }
+    long now = System.currentTimeMillis();
+    // stable sort, so publishers with equal latency keep failover order
+    return active.stream()
+        .sorted(Comparator.comparingDouble(p -> p.latencyScore(now)))
+        .toList();
+  }
+
+  private synchronized List<PublisherHolder<T>> getActivePublishersInOrder() {
     var result = new ArrayList<PublisherHolder<T>>();
     for (int i = 0, j = currentIndex; i < publishers.size(); i++) {
       var publisher = publishers.get(j);
@@ -132,12 +298,29 @@ public class ReactiveFailover<T> {
 
     private final long retryGracePeriodMs;
     private final Supplier<T> supplier;
+    @Nullable
+    private final CallGuard guard;
     private final AtomicLong lastErrorTs = new AtomicLong();
     private T publisherInstance;
+    private double latencyEwmaNanos = -1; // guarded by this
+    private long lastLatencyTs; // guarded by this
 
     PublisherHolder(Supplier<T> supplier, long retryGracePeriodMs) {
+      this(supplier, retryGracePeriodMs, null);
+    }
+
+    PublisherHolder(Supplier<T> supplier, long retryGracePeriodMs, @Nullable CallGuard guard) {
       this.supplier = supplier;
       this.retryGracePeriodMs = retryGracePeriodMs;
+      this.guard = guard;
+    }
+
+    <V> Mono<V> mono(Function<T, Mono<V>> f) {
+      return get().flatMap(p -> guard == null ? f.apply(p) : guard.mono(Mono.defer(() -> f.apply(p))));
+    }
+
+    <V> Flux<V> flux(Function<T, Flux<V>> f) {
+      return get().flatMapMany(p -> guard == null ? f.apply(p) : guard.flux(Flux.defer(() -> f.apply(p))));
     }
 
     synchronized Mono<T> get() {
@@ -158,6 +341,50 @@ public class ReactiveFailover<T> {
     boolean isActive() {
       return System.currentTimeMillis() - lastErrorTs.get() > retryGracePeriodMs;
     }
+
+    boolean isCircuitClosed() {
+      return guard == null || guard.getCircuitState() == CircuitBreaker.State.CLOSED;
+    }
+
+    synchronized void recordLatency(long latencyNanos) {
+      latencyEwmaNanos = latencyEwmaNanos < 0
+          ? latencyNanos
+          : latencyEwmaNanos + (latencyNanos - latencyEwmaNanos) * LATENCY_EWMA_ALPHA;
+      lastLatencyTs = System.currentTimeMillis();
+    }
+
+    // 0 for publishers without recent measurements, so they will be (re-)measured
+    synchronized double latencyScore(long nowMs) {
+      return latencyEwmaNanos < 0 || nowMs - lastLatencyTs > LATENCY_EXPIRATION_MS ? 0 : latencyEwmaNanos;
+    }
+  }
+
+  // ring buffer of last calls latencies, used to calculate hedging delay
+  static class LatencySamples {
+
+    private final long[] samples;
+    private int count; // guarded by this
+    private int pos; // guarded by this
+
+    LatencySamples(int size) {
+      this.samples = new long[size];
+    }
+
+    synchronized void add(long latencyNanos) {
+      samples[pos] = latencyNanos;
+      pos = (pos + 1) % samples.length;
+      count = Math.min(count + 1, samples.length);
+    }
+
+    @Nullable
+    synchronized Duration percentile(double percentile, int minSamples) {
+      if (count < minSamples) {
+        return null;
+      }
+      long[] sorted = Arrays.copyOf(samples, count);
+      Arrays.sort(sorted);
+      return Duration.ofNanos(sorted[(int) Math.min(count - 1, Math.ceil(percentile * count) - 1)]);
+    }
   }
 
 }
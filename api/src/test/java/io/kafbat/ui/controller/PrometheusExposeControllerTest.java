@@ -1,10 +1,17 @@
 package io.kafbat.ui.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import io.kafbat.ui.AbstractIntegrationTest;
 import io.kafbat.ui.service.ClustersStatisticsScheduler;
 import io.prometheus.metrics.expositionformats.PrometheusTextFormatWriter;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
 class PrometheusExposeControllerTest extends AbstractIntegrationTest {
@@ -26,4 +33,61 @@ class PrometheusExposeControllerTest extends AbstractIntegrationTest {
         .expectStatus().isOk()
         .expectHeader().contentType(PrometheusTextFormatWriter.CONTENT_TYPE);
   }
+
+  @Test
+  void returnsNotModifiedWhenMetricsWereNotUpdated() {
+    scheduler.updateStatistics();
+
+    String etag = webTestClient
+        .get()
+        .uri("/metrics")
+        .exchange()
+        .expectStatus().isOk()
+        .returnResult(byte[].class)
+        .getResponseHeaders()
+        .getETag();
+
+    assertThat(etag).isNotNull();
+
+    webTestClient
+        .get()
+        .uri("/metrics")
+        .header(HttpHeaders.IF_NONE_MATCH, etag)
+        .exchange()
+        .expectStatus().isNotModified();
+  }
+
+  @Test
+  void returnsGzippedBodyWhenClientAcceptsIt() {
+    scheduler.updateStatistics();
+
+    String plain = webTestClient
+        .get()
+        .uri("/metrics")
+        .exchange()
+        .expectStatus().isOk()
+        .expectBody(String.class)
+        .returnResult()
+        .getResponseBody();
+
+    byte[] gzipped = webTestClient
+        .get()
+        .uri("/metrics")
+        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+        .exchange()
+        .expectStatus().isOk()
+        .expectHeader().valueEquals(HttpHeaders.CONTENT_ENCODING, "gzip")
+        .expectBody(byte[].class)
+        .returnResult()
+        .getResponseBody();
+
+    assertThat(gunzip(gzipped)).isEqualTo(plain);
+  }
+
+  @SneakyThrows
+  private static String gunzip(byte[] bytes) {
+    try (var in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
 }
@@ -0,0 +1,82 @@
+package io.kafbat.ui.emitter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.kafbat.ui.config.ClustersProperties;
+import io.kafbat.ui.util.ApplicationMetrics;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class EnhancedConsumerPoolTest {
+
+  final List<EnhancedConsumer> created = new ArrayList<>();
+
+  EnhancedConsumerPool pool;
+
+  @AfterEach
+  void closePool() {
+    pool.close();
+  }
+
+  @Test
+  void returnsConsumerToPoolOnClose() {
+    pool = createPool(new ClustersProperties.ConsumerPoolProperties());
+
+    EnhancedConsumer first = pool.borrow(Map.of(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 100));
+    first.close();
+    EnhancedConsumer second = pool.borrow(Map.of(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 100));
+    second.close();
+
+    assertThat(second).isSameAs(first);
+    assertThat(created).hasSize(1);
+  }
+
+  @Test
+  void consumersAreKeyedByPropertiesOverrides() {
+    pool = createPool(new ClustersProperties.ConsumerPoolProperties());
+
+    EnhancedConsumer first = pool.borrow(Map.of(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 100));
+    first.close();
+    EnhancedConsumer second = pool.borrow(Map.of(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 50));
+    second.close();
+
+    assertThat(second).isNotSameAs(first);
+    assertThat(created).hasSize(2);
+  }
+
+  @Test
+  void createsNonPooledConsumerWhenPoolIsExhausted() {
+    var props = new ClustersProperties.ConsumerPoolProperties();
+    props.setMaxTotal(1);
+    pool = createPool(props);
+
+    EnhancedConsumer pooled = pool.borrow(Map.of());
+    EnhancedConsumer nonPooled = pool.borrow(Map.of());
+    nonPooled.close();
+    pooled.close();
+
+    assertThat(created).hasSize(2);
+    try (var reborrowed = pool.borrow(Map.of())) {
+      assertThat(reborrowed).isSameAs(pooled);
+    }
+  }
+
+  private EnhancedConsumerPool createPool(ClustersProperties.ConsumerPoolProperties props) {
+    return new EnhancedConsumerPool("test", this::createConsumer, props, ApplicationMetrics.noop());
+  }
+
+  private EnhancedConsumer createConsumer(Map<String, Object> overrides) {
+    Properties props = new Properties();
+    props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:9092");
+    props.putAll(overrides);
+    var consumer = new EnhancedConsumer(props, PollingThrottler.noop(), ApplicationMetrics.noop());
+    created.add(consumer);
+    return consumer;
+  }
+
+}
@@ -9,14 +9,21 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.kafbat.ui.exception.CelException;
 import io.kafbat.ui.model.TopicMessageDTO;
+import io.kafbat.ui.serdes.ConsumerRecordDeserializer;
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Predicate;
 import org.apache.commons.lang3.RandomStringUtils;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.apache.kafka.common.utils.Bytes;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -129,6 +136,69 @@ class MessageFiltersTest {
 
   }
 
+  @Nested
+  class StringContainsRawRecordCheck {
+
+    final StagedMessageFilter filter = containsStringFilter("abC");
+
+    @Test
+    void rejectsRecordsWhenRawTextDoesNotContainString() {
+      var deserializer = deserializer(true, true);
+      assertFalse(filter.mayMatch(rawRecord("some str", "other str", Map.of()), deserializer));
+      assertFalse(filter.mayMatch(rawRecord(null, null, Map.of()), deserializer));
+    }
+
+    @Test
+    void passesRecordsWhenRawTextContainsString() {
+      var deserializer = deserializer(true, true);
+      assertTrue(filter.mayMatch(rawRecord("contains abCd", "some str", Map.of()), deserializer));
+      assertTrue(filter.mayMatch(rawRecord("some str", "contains abCd", Map.of()), deserializer));
+      assertTrue(filter.mayMatch(rawRecord("some str", "other", Map.of("h", "some abC")), deserializer));
+      assertTrue(filter.mayMatch(rawRecord("some str", "other", Map.of("abC", "val")), deserializer));
+    }
+
+    @Test
+    void passesEscapedUnicode() {
+      var cjkFilter = containsStringFilter("\u8A66");
+      var deserializer = deserializer(true, true);
+      assertTrue(cjkFilter.mayMatch(rawRecord(null, "{\"name\":\"\\u8a66Lipo\"}", Map.of()), deserializer));
+      assertTrue(cjkFilter.mayMatch(rawRecord(null, "{\"name\":\"\u8A66Lipo\"}", Map.of()), deserializer));
+      assertFalse(cjkFilter.mayMatch(rawRecord(null, "{\"name\":\"Lipo\"}", Map.of()), deserializer));
+    }
+
+    @Test
+    void passesAllRecordsIfDeserializedContentIsNotRawText() {
+      var deserializer = deserializer(true, false);
+      assertTrue(filter.mayMatch(rawRecord("some str", "other str", Map.of()), deserializer));
+      assertFalse(filter.mayMatch(rawRecord("some str", null, Map.of()), deserializer));
+    }
+
+    @Test
+    void andCombinationChecksBothFilters() {
+      var deserializer = deserializer(true, true);
+      var combined = MessageFilters.noop().and(filter).and(containsStringFilter("xyz"));
+      assertFalse(combined.mayMatch(rawRecord("abC", "other", Map.of()), deserializer));
+      assertTrue(combined.mayMatch(rawRecord("abC", "xyz", Map.of()), deserializer));
+    }
+
+    private ConsumerRecordDeserializer deserializer(boolean keyIsText, boolean valueIsText) {
+      return new ConsumerRecordDeserializer(
+          "String", null, "String", null, "String", null, null, m -> m, keyIsText, valueIsText);
+    }
+
+    private ConsumerRecord<Bytes, Bytes> rawRecord(String key, String value, Map<String, String> headers) {
+      var recordHeaders = new RecordHeaders();
+      headers.forEach((k, v) -> recordHeaders.add(k, v.getBytes(StandardCharsets.UTF_8)));
+      return new ConsumerRecord<>(
+          "test", 0, 0L, 0L, TimestampType.CREATE_TIME, -1, -1,
+          key == null ? null : new Bytes(key.getBytes(StandardCharsets.UTF_8)),
+          value == null ? null : new Bytes(value.getBytes(StandardCharsets.UTF_8)),
+          recordHeaders,
+          Optional.empty()
+      );
+    }
+  }
+
   @Nested
   class CelScriptFilter {
 
@@ -282,6 +352,42 @@ class MessageFiltersTest {
       assertTrue(celScriptFilter("record.value.price < 500").test(msg().value(msg)));
       assertFalse(celScriptFilter("record.value.price > 400").test(msg().value(msg)));
     }
+
+    @Test
+    void nullsInsideArraysAreReplaced() {
+      String msg = "{ \"items\": [ { \"id\": null }, null ] }";
+      assertTrue(celScriptFilter("record.value.items[0].id == null && record.value.items[1] == null")
+          .test(msg().value(msg)));
+    }
+
+    @Test
+    void detectsReferencedRecordFields() {
+      assertThat(MessageFilters.referencedRecordFields("record.partition == 1 && record.headers['key'] == 'v'"))
+          .containsExactlyInAnyOrder("partition", "headers");
+      assertThat(MessageFilters.referencedRecordFields("record.valueAsText.contains('a') && has(record.value.f)"))
+          .containsExactlyInAnyOrder("valueAsText", "value");
+    }
+
+    @Test
+    void evaluatesScriptOnRawRecordIfContentIsNotUsed() {
+      var f = celScriptFilter("record.partition == 1 && record.headers['k1'] == 'v1'");
+      assertTrue(f.mayMatch(rawRecord(1, Map.of("k1", "v1")), null));
+      assertFalse(f.mayMatch(rawRecord(0, Map.of("k1", "v1")), null));
+      assertFalse(f.mayMatch(rawRecord(1, Map.of("k1", "v2")), null));
+    }
+
+    @Test
+    void passesAllRawRecordsIfContentIsUsed() {
+      var f = celScriptFilter("record.partition == 1 && record.valueAsText == 'text'");
+      assertTrue(f.mayMatch(rawRecord(0, Map.of()), null));
+    }
+
+    private ConsumerRecord<Bytes, Bytes> rawRecord(int partition, Map<String, String> headers) {
+      var recordHeaders = new RecordHeaders();
+      headers.forEach((k, v) -> recordHeaders.add(k, v.getBytes(StandardCharsets.UTF_8)));
+      return new ConsumerRecord<>(
+          "test", partition, 0L, 0L, TimestampType.CREATE_TIME, -1, -1, null, null, recordHeaders, Optional.empty());
+    }
   }
 
   @Test
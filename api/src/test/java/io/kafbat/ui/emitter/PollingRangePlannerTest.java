@@ -0,0 +1,102 @@
+package io.kafbat.ui.emitter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.apache.kafka.common.utils.Bytes;
+import org.junit.jupiter.api.Test;
+
+class PollingRangePlannerTest {
+
+  final String topic = "test";
+  final TopicPartition tp0 = new TopicPartition(topic, 0);
+  final TopicPartition tp1 = new TopicPartition(topic, 1);
+  final TopicPartition tp2 = new TopicPartition(topic, 2);
+
+  @Test
+  void distributesEquallyWhenAllPartitionsHaveEnoughRecords() {
+    assertThat(PollingRangePlanner.distribute(Map.of(tp0, 100L, tp1, 100L, tp2, 100L), 30))
+        .containsEntry(tp0, 10L)
+        .containsEntry(tp1, 10L)
+        .containsEntry(tp2, 10L);
+  }
+
+  @Test
+  void redistributesShareOfPartitionsWithFewRecords() {
+    assertThat(PollingRangePlanner.distribute(Map.of(tp0, 2L, tp1, 100L, tp2, 100L), 30))
+        .containsEntry(tp0, 2L)
+        .containsEntry(tp1, 14L)
+        .containsEntry(tp2, 14L);
+  }
+
+  @Test
+  void givesAtLeastOneRecordToEachPartition() {
+    assertThat(PollingRangePlanner.distribute(Map.of(tp0, 100L, tp1, 100L, tp2, 100L), 2))
+        .containsEntry(tp0, 1L)
+        .containsEntry(tp1, 1L)
+        .containsEntry(tp2, 1L);
+  }
+
+  @Test
+  void requestsMoreOffsetsForSparsePartitions() {
+    var planner = new PollingRangePlanner(20);
+    // tp0 has only one record per 10 offsets (compacted), tp1 is dense
+    planner.recordPolled(
+        Map.of(
+            tp0, new RangePollingEmitter.FromToOffset(0, 10),
+            tp1, new RangePollingEmitter.FromToOffset(0, 10)
+        ),
+        records(Map.of(tp0, 1, tp1, 10))
+    );
+
+    assertThat(planner.offsetsToPoll(Map.of(tp0, 1000L, tp1, 1000L)))
+        .containsEntry(tp0, 100L)
+        .containsEntry(tp1, 10L);
+  }
+
+  @Test
+  void weightsPartitionsByRecordsRate() {
+    var planner = new PollingRangePlanner(22);
+    // tp0 produces 11 records in 10ms, tp1 - 2 records in 20ms
+    List<ConsumerRecord<Bytes, Bytes>> polled = new ArrayList<>();
+    for (int i = 0; i <= 10; i++) {
+      polled.add(record(tp0, i, i));
+    }
+    polled.add(record(tp1, 0, 0));
+    polled.add(record(tp1, 1, 20));
+    planner.recordPolled(
+        Map.of(
+            tp0, new RangePollingEmitter.FromToOffset(0, 11),
+            tp1, new RangePollingEmitter.FromToOffset(0, 2)
+        ),
+        polled
+    );
+
+    assertThat(planner.offsetsToPoll(Map.of(tp0, 1000L, tp1, 1000L)))
+        .containsEntry(tp0, 21L)
+        .containsEntry(tp1, 1L);
+  }
+
+  private ConsumerRecord<Bytes, Bytes> record(TopicPartition tp, long offset, long timestamp) {
+    return new ConsumerRecord<>(tp.topic(), tp.partition(), offset, timestamp, TimestampType.CREATE_TIME,
+        0, 0, null, null, new RecordHeaders(), Optional.empty());
+  }
+
+  private List<ConsumerRecord<Bytes, Bytes>> records(Map<TopicPartition, Integer> counts) {
+    List<ConsumerRecord<Bytes, Bytes>> records = new ArrayList<>();
+    counts.forEach((tp, cnt) -> {
+      for (int i = 0; i < cnt; i++) {
+        records.add(new ConsumerRecord<>(tp.topic(), tp.partition(), i, null, null));
+      }
+    });
+    return records;
+  }
+
+}
@@ -17,6 +17,8 @@ import io.kafbat.ui.model.Statistics;
 import io.kafbat.ui.service.metrics.scrape.ScrapedClusterState;
 import io.kafbat.ui.service.rbac.AccessControlService;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -519,8 +521,8 @@ class ConsumerGroupServiceTest {
     Mockito.when(cache.get(cluster)).thenReturn(statistics);
 
     AccessControlService acl = Mockito.mock(AccessControlService.class);
-    Mockito.when(acl.isConsumerGroupAccessible(Mockito.any(), Mockito.any()))
-        .thenReturn(Mono.just(true));
+    Mockito.when(acl.filterViewableConsumerGroups(Mockito.any(), Mockito.any(), Mockito.any()))
+        .then(invocation -> Mono.just(new ArrayList<>(invocation.<Collection<?>>getArgument(0))));
 
     ConsumerGroupService service = new ConsumerGroupService(admin, acl, clustersProperties, cache);
 
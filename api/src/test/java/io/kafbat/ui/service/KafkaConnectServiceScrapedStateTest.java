@@ -0,0 +1,120 @@
+package io.kafbat.ui.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.kafbat.ui.config.ClustersProperties;
+import io.kafbat.ui.connect.api.KafkaConnectClientApi;
+import io.kafbat.ui.connect.model.ConnectorExpand;
+import io.kafbat.ui.mapper.KafkaConnectMapperImpl;
+import io.kafbat.ui.model.ConnectorStateDTO;
+import io.kafbat.ui.model.ConnectorStatusDTO;
+import io.kafbat.ui.model.ConnectorTypeDTO;
+import io.kafbat.ui.model.FullConnectorInfoDTO;
+import io.kafbat.ui.model.KafkaCluster;
+import io.kafbat.ui.model.Statistics;
+import io.kafbat.ui.service.metrics.scrape.KafkaConnectState;
+import io.kafbat.ui.util.ReactiveFailover;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+class KafkaConnectServiceScrapedStateTest {
+
+  private static final String CONNECT = "connect";
+  private static final List<ConnectorExpand> EXPAND = List.of(ConnectorExpand.INFO, ConnectorExpand.STATUS);
+
+  private final KafkaConnectClientApi connectClient = mock(KafkaConnectClientApi.class);
+  private final StatisticsCache statisticsCache = mock(StatisticsCache.class);
+
+  private final KafkaConnectState scrapedState = KafkaConnectState.builder()
+      .scrapeFinishedAt(Instant.now())
+      .name(CONNECT)
+      .version("3.9.0")
+      .connectors(List.of(
+          new KafkaConnectState.ConnectorState(
+              "scraped-connector",
+              ConnectorTypeDTO.SOURCE,
+              new ConnectorStatusDTO().state(ConnectorStateDTO.RUNNING),
+              List.of("topic"),
+              "FileStreamSource",
+              1,
+              0,
+              null
+          )))
+      .build();
+
+  private KafkaCluster cluster;
+  private KafkaConnectService connectService;
+
+  @BeforeEach
+  void setUp() {
+    var connectConfig = ClustersProperties.ConnectCluster.builder().name(CONNECT).address("http://connect").build();
+    var clusterProperties = new ClustersProperties.Cluster();
+    clusterProperties.setKafkaConnect(List.of(connectConfig));
+    cluster = KafkaCluster.builder()
+        .name("local")
+        .originalProperties(clusterProperties)
+        .connectsConfigs(Map.of(CONNECT, connectConfig))
+        .connectsClients(Map.of(
+            CONNECT,
+            ReactiveFailover.create(List.of(connectClient), th -> false, "unavailable", Duration.ZERO)))
+        .build();
+    when(statisticsCache.get(any()))
+        .thenReturn(Statistics.empty().toBuilder().connectStates(Map.of(CONNECT, scrapedState)).build());
+    connectService = new KafkaConnectService(
+        new KafkaConnectMapperImpl(),
+        new KafkaConfigSanitizer(true, List.of()),
+        new ClustersProperties(),
+        statisticsCache
+    );
+  }
+
+  @Test
+  void connectorsAreServedFromScrapedStateWithoutCallingConnect() {
+    var connectors = connectService.getAllConnectors(cluster, null, false, false).collectList().block();
+
+    assertThat(connectors).extracting(FullConnectorInfoDTO::getName).containsExactly("scraped-connector");
+    verifyNoInteractions(connectClient);
+  }
+
+  @Test
+  void freshConnectorsAreLoadedFromConnect() {
+    when(connectClient.getConnectors(null, EXPAND)).thenReturn(Mono.just(Map.of()));
+
+    var connectors = connectService.getAllConnectors(cluster, null, false, true).collectList().block();
+
+    assertThat(connectors).isEmpty();
+    verify(connectClient).getConnectors(null, EXPAND);
+  }
+
+  @Test
+  void connectorsAreLoadedFromConnectAfterChangeMadeThroughUi() {
+    when(connectClient.deleteConnector("scraped-connector")).thenReturn(Mono.empty());
+    when(connectClient.getConnectors(null, EXPAND)).thenReturn(Mono.just(Map.of()));
+
+    connectService.deleteConnector(cluster, CONNECT, "scraped-connector").block();
+    var connectors = connectService.getAllConnectors(cluster, null, false, false).collectList().block();
+
+    assertThat(connectors).isEmpty();
+    verify(connectClient).getConnectors(null, EXPAND);
+  }
+
+  @Test
+  void scrapeKeepsLastStateWhenConnectIsUnavailable() {
+    when(connectClient.getConnectors(null, EXPAND))
+        .thenReturn(Mono.error(new IllegalStateException("Connection refused")));
+
+    var scraped = connectService.scrapeAllConnects(cluster).collectList().block();
+
+    assertThat(scraped).singleElement().isSameAs(scrapedState);
+  }
+}
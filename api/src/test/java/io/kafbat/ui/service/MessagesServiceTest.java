@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.kafbat.ui.AbstractIntegrationTest;
 import io.kafbat.ui.exception.TopicNotFoundException;
+import io.kafbat.ui.exception.ValidationException;
 import io.kafbat.ui.model.ConsumerPosition;
 import io.kafbat.ui.model.CreateTopicMessageDTO;
 import io.kafbat.ui.model.KafkaCluster;
@@ -160,6 +161,42 @@ class MessagesServiceTest extends AbstractIntegrationTest {
         .verifyComplete();
   }
 
+  @ParameterizedTest
+  @CsvSource({"EARLIEST", "LATEST"})
+  void exportStreamsAllMessagesInRangeWithoutPaging(PollingModeDTO mode) throws Exception {
+    String testTopic = MessagesServiceTest.class.getSimpleName() + UUID.randomUUID();
+    createTopicWithCleanup(new NewTopic(testTopic, 3, (short) 1));
+
+    // more than max page size
+    int msgsToGenerate = 1_200;
+    try (var producer = KafkaTestProducer.forKafka(kafka)) {
+      for (int i = 0; i < msgsToGenerate - 1; i++) {
+        producer.send(testTopic, "message_" + i);
+      }
+      producer.send(testTopic, "message_" + (msgsToGenerate - 1)).get();
+    }
+
+    var position = new ConsumerPosition(mode, testTopic, List.of(), null, null);
+    StepVerifier.create(
+            messagesService.exportMessages(cluster, testTopic, position, null, null, null, null, null))
+        .expectNextCount(msgsToGenerate)
+        .verifyComplete();
+
+    StepVerifier.create(
+            messagesService.exportMessages(cluster, testTopic, position, "message_1", null, 100, null, null))
+        .expectNextCount(100)
+        .verifyComplete();
+  }
+
+  @Test
+  void exportIsNotSupportedInTailingMode() {
+    var position = new ConsumerPosition(PollingModeDTO.TAILING, NON_EXISTING_TOPIC, List.of(), null, null);
+    StepVerifier.create(
+            messagesService.exportMessages(cluster, NON_EXISTING_TOPIC, position, null, null, null, null, null))
+        .expectError(ValidationException.class)
+        .verify();
+  }
+
   private void createTopicWithCleanup(NewTopic newTopic) {
     createTopic(newTopic);
     createdTopics.add(newTopic.name());
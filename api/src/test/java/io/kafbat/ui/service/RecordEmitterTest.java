@@ -13,6 +13,7 @@ import io.kafbat.ui.emitter.BackwardEmitter;
 import io.kafbat.ui.emitter.Cursor;
 import io.kafbat.ui.emitter.EnhancedConsumer;
 import io.kafbat.ui.emitter.ForwardEmitter;
+import io.kafbat.ui.emitter.PolledRecords;
 import io.kafbat.ui.emitter.PollingSettings;
 import io.kafbat.ui.emitter.PollingThrottler;
 import io.kafbat.ui.model.ConsumerPosition;
@@ -25,6 +26,7 @@ import io.kafbat.ui.serdes.PropertyResolverImpl;
 import io.kafbat.ui.serdes.builtin.StringSerde;
 import io.kafbat.ui.util.ApplicationMetrics;
 import java.io.Serializable;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -32,6 +34,7 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -49,6 +52,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 @Slf4j
@@ -180,6 +184,69 @@ class RecordEmitterTest extends AbstractIntegrationTest {
     expectEmitter(backwardEmitter, expectedValues);
   }
 
+  @Test
+  void pollFullTopicWithParallelWorkers() {
+    var pollingSettings = PollingSettings.createDefault().withParallelism(3);
+
+    var forwardEmitter = new ForwardEmitter(
+        this::createConsumer,
+        new ConsumerPosition(EARLIEST, TOPIC, List.of(), null, null),
+        PARTITIONS * MSGS_PER_PARTITION,
+        RECORD_DESERIALIZER,
+        NOOP_FILTER,
+        pollingSettings,
+        CURSOR_MOCK
+    );
+
+    var backwardEmitter = new BackwardEmitter(
+        this::createConsumer,
+        new ConsumerPosition(LATEST, TOPIC, List.of(), null, null),
+        PARTITIONS * MSGS_PER_PARTITION,
+        RECORD_DESERIALIZER,
+        NOOP_FILTER,
+        pollingSettings,
+        CURSOR_MOCK
+    );
+
+    List<String> expectedValues = SENT_RECORDS.stream().map(Record::getValue).collect(Collectors.toList());
+
+    expectEmitter(forwardEmitter, expectedValues);
+    expectEmitter(backwardEmitter, expectedValues);
+  }
+
+  @Test
+  void unpagedEmitterPollsOnlyWhenDownstreamRequestsMore() {
+    AtomicInteger polls = new AtomicInteger();
+    var emitter = new ForwardEmitter(
+        () -> createPollsCountingConsumer(polls),
+        new ConsumerPosition(EARLIEST, TOPIC, List.of(), null, null),
+        10,
+        null,
+        RECORD_DESERIALIZER,
+        NOOP_FILTER,
+        PollingSettings.createDefault(),
+        CURSOR_MOCK
+    );
+
+    AtomicInteger pollsBeforePause = new AtomicInteger();
+    StepVerifier.create(
+            Flux.create(emitter)
+                .subscribeOn(Schedulers.boundedElastic())
+                .filter(m -> m.getType().equals(TopicMessageEventDTO.TypeEnum.MESSAGE)),
+            5
+        )
+        .expectNextCount(5)
+        .then(() -> pollsBeforePause.set(polls.get()))
+        .thenAwait(Duration.ofSeconds(2))
+        // no demand -> emitter waits after first page was sent
+        .then(() -> assertThat(polls.get()).isEqualTo(pollsBeforePause.get()))
+        .thenRequest(Long.MAX_VALUE)
+        .expectNextCount(PARTITIONS * MSGS_PER_PARTITION - 5)
+        .verifyComplete();
+
+    assertThat(polls.get()).isGreaterThan(pollsBeforePause.get());
+  }
+
   @Test
   void pollWithOffsets() {
     Map<TopicPartition, Long> targetOffsets = new HashMap<>();
@@ -410,6 +477,22 @@ class RecordEmitterTest extends AbstractIntegrationTest {
     return new EnhancedConsumer(props, PollingThrottler.noop(), ApplicationMetrics.noop());
   }
 
+  private EnhancedConsumer createPollsCountingConsumer(AtomicInteger polls) {
+    Properties props = new Properties();
+    props.putAll(Map.of(
+        ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafka.getBootstrapServers(),
+        ConsumerConfig.GROUP_ID_CONFIG, UUID.randomUUID().toString(),
+        ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 19
+    ));
+    return new EnhancedConsumer(props, PollingThrottler.noop(), ApplicationMetrics.noop()) {
+      @Override
+      public PolledRecords pollEnhanced(Duration dur) {
+        polls.incrementAndGet();
+        return super.pollEnhanced(dur);
+      }
+    };
+  }
+
   @Value
   static class Record {
     String value;
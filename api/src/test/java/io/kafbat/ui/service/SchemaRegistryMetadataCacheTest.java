@@ -0,0 +1,120 @@
+package io.kafbat.ui.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.kafbat.ui.config.ClustersProperties;
+import io.kafbat.ui.model.KafkaCluster;
+import io.kafbat.ui.sr.api.KafkaSrClientApi;
+import io.kafbat.ui.sr.model.Compatibility;
+import io.kafbat.ui.sr.model.CompatibilityConfig;
+import io.kafbat.ui.sr.model.SchemaSubject;
+import io.kafbat.ui.sr.model.SchemaType;
+import io.kafbat.ui.util.ReactiveFailover;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class SchemaRegistryMetadataCacheTest {
+
+  private final KafkaSrClientApi srClient = mock(KafkaSrClientApi.class);
+  private final KafkaCluster cluster = KafkaCluster.builder()
+      .name("local")
+      // registry's 4xx responses should not mark it as unavailable
+      .schemaRegistryClient(ReactiveFailover.create(List.of(srClient), th -> false, "unavailable", Duration.ZERO))
+      .build();
+
+  private final SchemaRegistryMetadataCache cache =
+      new SchemaRegistryMetadataCache(mock(ClustersStorage.class), new ClustersProperties());
+
+  @BeforeEach
+  void mockCompatibility() {
+    when(srClient.getGlobalCompatibilityLevel())
+        .thenReturn(Mono.just(new CompatibilityConfig().compatibilityLevel(Compatibility.BACKWARD)));
+    when(srClient.getSubjectCompatibilityLevel("s1", false))
+        .thenReturn(Mono.just(new CompatibilityConfig().compatibilityLevel(Compatibility.FULL)));
+    when(srClient.getSubjectCompatibilityLevel("s2", false))
+        .thenReturn(Mono.error(notFound()));
+  }
+
+  @Test
+  void loadsLatestSchemasInBulkAndReloadsCompatibilityOnlyForChangedSubjects() {
+    when(srClient.getSchemas(null, false, true))
+        .thenReturn(Flux.just(schema("s1", 1, 1), schema("s1", 2, 2), schema("s2", 1, 3)));
+
+    var state = cache.refresh(cluster).block();
+
+    assertThat(state.subjects()).containsOnlyKeys("s1", "s2");
+    assertThat(state.subjects().get("s1").latest().getVersion()).isEqualTo("2");
+    assertThat(state.compatibility(state.subjects().get("s1"))).isEqualTo(Compatibility.FULL);
+    assertThat(state.compatibility(state.subjects().get("s2"))).isEqualTo(Compatibility.BACKWARD);
+    assertThat(cache.get(cluster)).contains(state);
+
+    // s1 got new version, s2 is unchanged
+    when(srClient.getSchemas(null, false, true))
+        .thenReturn(Flux.just(schema("s1", 3, 4), schema("s2", 1, 3)));
+
+    state = cache.refresh(cluster).block();
+
+    assertThat(state.subjects().get("s1").latest().getVersion()).isEqualTo("3");
+    verify(srClient, times(2)).getSubjectCompatibilityLevel("s1", false);
+    verify(srClient, times(1)).getSubjectCompatibilityLevel("s2", false);
+  }
+
+  @Test
+  void loadsSchemasPerSubjectIfRegistryDoesNotSupportBulkEndpoint() {
+    when(srClient.getSchemas(null, false, true)).thenReturn(Flux.error(notFound()));
+    when(srClient.getAllSubjectNames(null, false)).thenReturn(Mono.just("[\"s1\",\"s2\"]"));
+    when(srClient.getSubjectVersion("s1", "latest", false)).thenReturn(Mono.just(schema("s1", 2, 2)));
+    when(srClient.getSubjectVersion("s2", "latest", false)).thenReturn(Mono.just(schema("s2", 1, 3)));
+
+    var state = cache.refresh(cluster).block();
+
+    assertThat(state.subjects()).containsOnlyKeys("s1", "s2");
+    assertThat(state.subjects().get("s1").latest().getId()).isEqualTo(2);
+  }
+
+  @Test
+  void refreshSubjectRemovesDeletedSubject() {
+    when(srClient.getSchemas(null, false, true))
+        .thenReturn(Flux.just(schema("s1", 1, 1), schema("s2", 1, 3)));
+    cache.refresh(cluster).block();
+
+    when(srClient.getSubjectVersion("s2", "latest", false)).thenReturn(Mono.error(notFound()));
+    cache.refreshSubject(cluster, "s2").block();
+
+    assertThat(cache.get(cluster).orElseThrow().subjects()).containsOnlyKeys("s1");
+  }
+
+  @Test
+  void compatibilityExpiryIsSpreadAcrossSubjects() {
+    long interval = SchemaRegistryMetadataCache.COMPATIBILITY_REFRESH_INTERVAL.toMillis();
+    var ttls = IntStream.range(0, 1_000)
+        .mapToObj(i -> SchemaRegistryMetadataCache.compatibilityTtlMillis("subject-" + i))
+        .toList();
+
+    assertThat(ttls).allMatch(ttl -> ttl > interval / 2 && ttl <= interval);
+    assertThat(ttls.stream().distinct().count()).isGreaterThan(900);
+  }
+
+  private static SchemaSubject schema(String subject, int version, int id) {
+    return new SchemaSubject()
+        .subject(subject)
+        .version(String.valueOf(version))
+        .id(id)
+        .schemaType(SchemaType.AVRO)
+        .schema("\"string\"");
+  }
+
+  private static WebClientResponseException notFound() {
+    return WebClientResponseException.create(404, "Not Found", null, null, null);
+  }
+}
@@ -1,6 +1,7 @@
 package io.kafbat.ui.service.index.lucene;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
 import io.kafbat.ui.model.InternalPartition;
 import io.kafbat.ui.model.InternalTopic;
@@ -9,6 +10,7 @@ import io.kafbat.ui.service.index.LuceneTopicsIndex;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -101,6 +103,57 @@ class LuceneTopicsIndexTest {
     }
   }
 
+  @Test
+  void upsertAndDeleteAreVisibleToSearches() throws Exception {
+    List<InternalTopic> topics = Stream.of("orders", "payments")
+        .map(s -> InternalTopic.builder().name(s).partitions(Map.of()).build()).toList();
+
+    try (LuceneTopicsIndex index = new LuceneTopicsIndex(topics)) {
+      var updated = index
+          .upsert(List.of(
+              InternalTopic.builder().name("orders").partitionCount(3).partitions(Map.of()).build(),
+              InternalTopic.builder().name("orders.dlq").partitions(Map.of()).build()))
+          .delete("payments");
+
+      List<InternalTopic> found = updated.find("orders", null, true, null);
+      assertThat(found.stream().map(InternalTopic::getName).collect(Collectors.toSet()))
+          .isEqualTo(Set.of("orders", "orders.dlq"));
+      assertThat(found.stream().filter(t -> t.getName().equals("orders")).findFirst().orElseThrow()
+          .getPartitionCount()).isEqualTo(3);
+      assertThat(updated.find("payments", null, true, null)).isEqualTo(List.of());
+    }
+  }
+
+  @Test
+  void syncReplacesIndexContent() throws Exception {
+    List<InternalTopic> topics = Stream.of("orders", "payments")
+        .map(s -> InternalTopic.builder().name(s).partitions(Map.of()).build()).toList();
+
+    try (LuceneTopicsIndex index = new LuceneTopicsIndex(topics)) {
+      var synced = index.sync(List.of(
+          InternalTopic.builder().name("orders").partitions(Map.of()).build(),
+          InternalTopic.builder().name("refunds").partitions(Map.of()).build()));
+
+      assertThat(synced).isSameAs(index);
+      assertThat(synced.find("orders", null, true, null).size()).isEqualTo(1);
+      assertThat(synced.find("refunds", null, true, null).size()).isEqualTo(1);
+      assertThat(synced.find("payments", null, true, null)).isEqualTo(List.of());
+    }
+  }
+
+  @Test
+  void closedIndexRejectsUpdatesAndFallsBackToFilterSearch() throws Exception {
+    List<InternalTopic> topics = Stream.of("orders", "payments")
+        .map(s -> InternalTopic.builder().name(s).partitions(Map.of()).build()).toList();
+
+    LuceneTopicsIndex index = new LuceneTopicsIndex(topics);
+    index.close();
+
+    assertThatThrownBy(() -> index.delete("orders")).isInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> index.sync(topics)).isInstanceOf(IllegalStateException.class);
+    assertThat(index.find("orders", null, true, null).size()).isEqualTo(1);
+  }
+
   public static Stream<Arguments> providerOrdered() {
     return Stream.of(
         Arguments.of(List.of("sk.long.term.name", "long.sk", "longnamebefore.sk"), "sk"),
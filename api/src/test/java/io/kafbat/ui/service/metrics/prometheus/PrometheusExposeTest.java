@@ -64,4 +64,16 @@ class PrometheusExposeTest {
         ));
   }
 
+  @Test
+  void acceptsGzipOnlyWithPositiveQualityValue() {
+    assertThat(PrometheusMetricsExposer.acceptsGzip(null)).isFalse();
+    assertThat(PrometheusMetricsExposer.acceptsGzip(List.of("gzip"))).isTrue();
+    assertThat(PrometheusMetricsExposer.acceptsGzip(List.of("deflate, GZIP;q=0.5"))).isTrue();
+    assertThat(PrometheusMetricsExposer.acceptsGzip(List.of("gzip; q=0.001"))).isTrue();
+    assertThat(PrometheusMetricsExposer.acceptsGzip(List.of("gzip;q=0"))).isFalse();
+    assertThat(PrometheusMetricsExposer.acceptsGzip(List.of("gzip;q=0.0"))).isFalse();
+    assertThat(PrometheusMetricsExposer.acceptsGzip(List.of("gzip;q=0.000, br"))).isFalse();
+    assertThat(PrometheusMetricsExposer.acceptsGzip(List.of("x-gzip-custom"))).isFalse();
+  }
+
 }
@@ -0,0 +1,64 @@
+package io.kafbat.ui.service.metrics.scrape;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.kafbat.ui.service.metrics.scrape.ConsumerGroupsLagIndex.GroupLag;
+import io.kafbat.ui.service.metrics.scrape.ScrapedClusterState.ConsumerGroupState;
+import io.kafbat.ui.service.metrics.scrape.ScrapedClusterState.TopicState;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.admin.MemberAssignment;
+import org.apache.kafka.clients.admin.MemberDescription;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+class ConsumerGroupsLagIndexTest {
+
+  @Test
+  void calculatesTotalAndPerTopicLags() {
+    var topics = Map.of(
+        "t1", topicState("t1", Map.of(0, 100L, 1, 50L)),
+        "t2", topicState("t2", Map.of(0, 10L))
+    );
+    var groups = Map.of(
+        "g1", groupState("g1", Map.of(
+            new TopicPartition("t1", 0), 90L,
+            new TopicPartition("t1", 1), 50L,
+            new TopicPartition("t2", 0), 5L,
+            new TopicPartition("unknown", 0), 5L
+        ), Set.of()),
+        "g2", groupState("g2", Map.of(), Set.of(new TopicPartition("t1", 0)))
+    );
+
+    var index = ConsumerGroupsLagIndex.build(groups, topics);
+
+    assertThat(index.get("g1"))
+        .isEqualTo(new GroupLag(15L, Map.of("t1", 10L, "t2", 5L, "unknown", 0L), 3));
+    // no committed offsets -> lag is undefined, but assigned topics are counted
+    assertThat(index.get("g2"))
+        .isEqualTo(new GroupLag(null, Map.of(), 1));
+    assertThat(index.get("not-scraped"))
+        .isEqualTo(GroupLag.EMPTY);
+  }
+
+  private static TopicState topicState(String name, Map<Integer, Long> endOffsets) {
+    return new TopicState(
+        name, new TopicDescription(name, false, List.of()), List.of(), Map.of(), endOffsets, null, null);
+  }
+
+  private static ConsumerGroupState groupState(String name,
+                                               Map<TopicPartition, Long> committed,
+                                               Set<TopicPartition> assignment) {
+    var members = assignment.isEmpty()
+        ? List.<MemberDescription>of()
+        : List.of(new MemberDescription("member", "client", "localhost", new MemberAssignment(assignment)));
+    return new ConsumerGroupState(
+        name,
+        new ConsumerGroupDescription(name, false, members, "", org.apache.kafka.common.ConsumerGroupState.STABLE, null),
+        committed
+    );
+  }
+}
@@ -0,0 +1,50 @@
+package io.kafbat.ui.service.metrics.scrape;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class OffsetsByPartitionTest {
+
+  @Test
+  void behavesAsRegularMap() {
+    Map<Integer, Long> source = new HashMap<>(Map.of(0, 10L, 2, 0L, 5, 100L));
+
+    OffsetsByPartition offsets = OffsetsByPartition.from(source);
+
+    assertThat(offsets).isEqualTo(source);
+    assertThat(offsets).hasSize(3);
+    assertThat(offsets.get(2)).isEqualTo(0L);
+    assertThat(offsets.get(1)).isNull();
+    assertThat(offsets.containsKey(6)).isFalse();
+    assertThat(offsets.keySet()).containsExactly(0, 2, 5);
+  }
+
+  @Test
+  void returnsUnknownForMissingPartitions() {
+    OffsetsByPartition offsets = OffsetsByPartition.from(Map.of(1, 7L));
+
+    assertThat(offsets.offset(1)).isEqualTo(7L);
+    assertThat(offsets.offset(0)).isEqualTo(OffsetsByPartition.UNKNOWN);
+    assertThat(offsets.offset(42)).isEqualTo(OffsetsByPartition.UNKNOWN);
+    assertThat(OffsetsByPartition.from(Map.of()).offset(0)).isEqualTo(OffsetsByPartition.UNKNOWN);
+  }
+
+  @Test
+  void preservesNullAndNegativeOffsetsInMapView() {
+    Map<Integer, Long> source = new HashMap<>();
+    source.put(0, 10L);
+    source.put(1, null);
+    source.put(2, -1L);
+
+    OffsetsByPartition offsets = OffsetsByPartition.from(source);
+
+    assertThat(offsets).isEqualTo(source);
+    assertThat(offsets.containsKey(1)).isTrue();
+    assertThat(offsets.get(2)).isEqualTo(-1L);
+    assertThat(offsets.offset(1)).isEqualTo(OffsetsByPartition.UNKNOWN);
+    assertThat(offsets.offset(2)).isEqualTo(OffsetsByPartition.UNKNOWN);
+  }
+}
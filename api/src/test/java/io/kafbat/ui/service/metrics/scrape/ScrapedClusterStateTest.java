@@ -1,8 +1,32 @@
 package io.kafbat.ui.service.metrics.scrape;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import io.kafbat.ui.config.ClustersProperties;
+import io.kafbat.ui.model.InternalPartitionsOffsets;
+import io.kafbat.ui.service.ReactiveAdminClient;
+import io.kafbat.ui.service.ReactiveAdminClient.ClusterDescription;
+import io.kafbat.ui.service.index.FilterTopicIndex;
+import io.kafbat.ui.service.index.LuceneTopicsIndex;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
 
 class ScrapedClusterStateTest {
 
@@ -14,4 +38,89 @@ class ScrapedClusterStateTest {
       assertThat(empty.getTopicIndex().find("search", true, true, null)).isEmpty();
     }
   }
+
+  @Test
+  void incrementalScrapeFetchesConfigsOnlyForChangedTopicsAndReusesPreviousState() {
+    Node node = new Node(1, "n1", 9092);
+    var clusterDescription = new ClusterDescription(node, "cluster", List.of(node), Set.of());
+    var existingTopic = topicDescription("existing", node);
+    var newTopic = topicDescription("new", node);
+    var existingConfigs = List.of(new ConfigEntry("retention.ms", "1000"));
+    var newConfigs = List.of(new ConfigEntry("retention.ms", "2000"));
+
+    Instant now = Instant.now();
+    var previous = ScrapedClusterState.builder()
+        .scrapeFinishedAt(now)
+        .nodesStates(Map.of())
+        .topicStates(Map.of(
+            "existing",
+            new ScrapedClusterState.TopicState(
+                "existing", existingTopic, existingConfigs, Map.of(0, 5L), Map.of(0, 10L), null, null)))
+        .consumerGroupsStates(Map.of())
+        .topicIndex(new FilterTopicIndex(List.of()))
+        .refreshTimestamps(new ScrapedClusterState.RefreshTimestamps(now, now, now))
+        .build();
+
+    ReactiveAdminClient ac = mock(ReactiveAdminClient.class);
+    when(ac.describeTopics())
+        .thenReturn(Mono.just(Map.of("existing", existingTopic, "new", newTopic)));
+    when(ac.getTopicsConfig(Set.of("new"), false))
+        .thenReturn(Mono.just(Map.of("new", newConfigs)));
+    when(ac.listOffsets(anyCollection(), argThat(spec -> spec instanceof OffsetSpec.LatestSpec)))
+        .thenReturn(Mono.just(Map.of(new TopicPartition("existing", 0), 20L, new TopicPartition("new", 0), 3L)));
+    when(ac.listOffsets(anyCollection(), argThat(spec -> spec instanceof OffsetSpec.EarliestSpec)))
+        .thenReturn(Mono.just(Map.of(new TopicPartition("new", 0), 0L)));
+
+    var clustersProperties = new ClustersProperties();
+    clustersProperties.getScrape().setIncremental(true);
+
+    ScrapedClusterState scraped = ScrapedClusterState.scrape(clusterDescription, ac, clustersProperties, previous)
+        .block();
+
+    assertThat(scraped).isNotNull();
+    assertThat(scraped.getTopicStates().get("existing"))
+        .satisfies(s -> {
+          assertThat(s.configs()).isEqualTo(existingConfigs);
+          assertThat(s.startOffsets()).containsExactlyEntriesOf(Map.of(0, 5L));
+          assertThat(s.endOffsets()).containsExactlyEntriesOf(Map.of(0, 20L));
+        });
+    assertThat(scraped.getTopicStates().get("new"))
+        .satisfies(s -> {
+          assertThat(s.configs()).isEqualTo(newConfigs);
+          assertThat(s.startOffsets()).containsExactlyEntriesOf(Map.of(0, 0L));
+          assertThat(s.endOffsets()).containsExactlyEntriesOf(Map.of(0, 3L));
+        });
+    assertThat(scraped.getRefreshTimestamps().fullScrape()).isEqualTo(now);
+
+    verify(ac, never()).getTopicsConfig();
+    verify(ac, never()).describeLogDirs(any());
+    verify(ac, never()).listConsumerGroups();
+  }
+
+  @Test
+  void topicsUpdatesAreAppliedWhenTopicsIndexIsClosed() throws Exception {
+    Node node = new Node(1, "n1", 9092);
+    var index = new LuceneTopicsIndex(List.of());
+    var state = ScrapedClusterState.empty().toBuilder().topicIndex(index).build();
+    // index was replaced and closed by concurrent full scrape
+    index.close();
+
+    var updated = state.updateTopics(
+        Map.of("new", topicDescription("new", node)),
+        Map.of(),
+        InternalPartitionsOffsets.empty(),
+        new ClustersProperties()
+    );
+    assertThat(updated.getTopicStates()).containsKey("new");
+    assertThat(updated.getTopicIndex()).isSameAs(index);
+
+    var deleted = updated.topicDeleted("new");
+    assertThat(deleted.getTopicStates()).doesNotContainKey("new");
+    assertThat(deleted.getTopicIndex().find(null, null, false, null)).isEmpty();
+  }
+
+  private static TopicDescription topicDescription(String name, Node node) {
+    return new TopicDescription(
+        name, false, List.of(new TopicPartitionInfo(0, node, List.of(node), List.of(node))));
+  }
 }
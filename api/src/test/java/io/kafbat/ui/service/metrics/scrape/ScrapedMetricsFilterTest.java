@@ -0,0 +1,65 @@
+package io.kafbat.ui.service.metrics.scrape;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.kafbat.ui.config.ClustersProperties.MetricsFilterConfig;
+import io.kafbat.ui.util.ApplicationMetrics;
+import io.prometheus.metrics.model.snapshots.GaugeSnapshot;
+import io.prometheus.metrics.model.snapshots.GaugeSnapshot.GaugeDataPointSnapshot;
+import io.prometheus.metrics.model.snapshots.Labels;
+import io.prometheus.metrics.model.snapshots.MetricSnapshot;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ScrapedMetricsFilterTest {
+
+  @Test
+  void dropsExcludedFamiliesAndFamiliesExceedingSeriesLimit() {
+    var config = new MetricsFilterConfig();
+    config.setExcludeFamilies(List.of("kafka_log_.*"));
+    config.setMaxSeriesPerBroker(5);
+    var appMetrics = ApplicationMetrics.noop();
+    var filter = new ScrapedMetricsFilter(config, appMetrics);
+
+    var scraped = new PerBrokerScrapedMetrics(Map.of(
+        1, List.of(
+            gauge("kafka_server_bytes_in", 3),
+            gauge("kafka_log_size", 10),
+            gauge("kafka_server_bytes_out", 3),
+            gauge("kafka_controller_active", 1)
+        )
+    ));
+
+    var filtered = filter.apply(scraped);
+
+    assertThat(filtered.perBrokerMetrics().get(1))
+        .map(s -> s.getMetadata().getName())
+        .containsExactly("kafka_server_bytes_in", "kafka_controller_active");
+    assertThat(appMetrics.droppedScrapedSeries(ScrapedMetricsFilter.FILTERED_REASON).count()).isEqualTo(10);
+    assertThat(appMetrics.droppedScrapedSeries(ScrapedMetricsFilter.LIMIT_REASON).count()).isEqualTo(3);
+  }
+
+  @Test
+  void keepsOnlyIncludedFamilies() {
+    var config = new MetricsFilterConfig();
+    config.setIncludeFamilies(List.of("kafka_server_.*"));
+    var filter = new ScrapedMetricsFilter(config, ApplicationMetrics.noop());
+
+    assertThat(filter.isFamilyIncluded("kafka_server_bytes_in")).isTrue();
+    assertThat(filter.isFamilyIncluded("kafka_log_size")).isFalse();
+  }
+
+  private static MetricSnapshot gauge(String name, int series) {
+    var builder = GaugeSnapshot.builder().name(name);
+    for (int i = 0; i < series; i++) {
+      builder.dataPoint(
+          GaugeDataPointSnapshot.builder()
+              .labels(Labels.of("topic", "topic-" + i))
+              .value(i)
+              .build()
+      );
+    }
+    return builder.build();
+  }
+}
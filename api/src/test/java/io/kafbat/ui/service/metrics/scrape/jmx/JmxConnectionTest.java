@@ -0,0 +1,97 @@
+package io.kafbat.ui.service.metrics.scrape.jmx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.kafbat.ui.config.ClustersProperties;
+import io.kafbat.ui.service.metrics.RawMetric;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Set;
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServerConnection;
+import javax.management.ObjectName;
+import javax.management.remote.JMXConnector;
+import org.junit.jupiter.api.Test;
+
+class JmxConnectionTest {
+
+  @Test
+  void cachesAttributesInfoAndFetchesValuesInBulk() throws Exception {
+    var mbean = new ObjectName("kafka.server:type=BrokerTopicMetrics,name=BytesInPerSec");
+    var msc = mock(MBeanServerConnection.class);
+    when(msc.queryNames(any(), any())).thenReturn(Set.of(mbean));
+    when(msc.getMBeanInfo(mbean)).thenReturn(mbeanInfo("Count", "MeanRate", "RateUnit"));
+    when(msc.getAttributes(eq(mbean), any()))
+        .thenReturn(new AttributeList(List.of(new Attribute("Count", 10L), new Attribute("RateUnit", "SECONDS"))));
+
+    var connector = mock(JMXConnector.class);
+    when(connector.getMBeanServerConnection()).thenReturn(msc);
+
+    Counter rmiCalls = Counter.builder("rmi_calls").register(new SimpleMeterRegistry());
+    var connection = new JmxConnection(connector, JmxMetricsFilter.create(null));
+
+    List<RawMetric> first = connection.scrape(rmiCalls);
+    List<RawMetric> second = connection.scrape(rmiCalls);
+
+    assertThat(first)
+        .hasSize(1)
+        .first()
+        .satisfies(m -> assertThat(m.name()).isEqualTo("kafka_server_BrokerTopicMetrics_Count"));
+    assertThat(second).isEqualTo(first);
+
+    // 1st scrape: queryNames + getMBeanInfo + getAttributes, 2nd scrape: getAttributes
+    assertThat(rmiCalls.count()).isEqualTo(4);
+    verify(msc, times(1)).queryNames(any(), any());
+    verify(msc, times(1)).getMBeanInfo(mbean);
+    verify(msc, times(2)).getAttributes(mbean, new String[] {"Count", "MeanRate", "RateUnit"});
+    verify(msc, never()).getAttribute(any(), any());
+  }
+
+  @Test
+  void scrapesOnlyIncludedMBeansAndAttributes() throws Exception {
+    var bytesIn = new ObjectName("kafka.server:type=BrokerTopicMetrics,name=BytesInPerSec");
+    var bytesInPerTopic = new ObjectName("kafka.server:type=BrokerTopicMetrics,name=BytesInPerSec,topic=test");
+    var msc = mock(MBeanServerConnection.class);
+    when(msc.queryNames(any(), any())).thenReturn(Set.of(bytesIn, bytesInPerTopic));
+    when(msc.getMBeanInfo(any())).thenReturn(mbeanInfo("Count", "FifteenMinuteRate"));
+    when(msc.getAttributes(any(), any()))
+        .thenReturn(new AttributeList(List.of(new Attribute("FifteenMinuteRate", 1.5))));
+
+    var connector = mock(JMXConnector.class);
+    when(connector.getMBeanServerConnection()).thenReturn(msc);
+
+    var config = new ClustersProperties.JmxFilterConfig();
+    config.setIncludeObjectNames(List.of("kafka.server:type=BrokerTopicMetrics,*"));
+    config.setExcludeObjectNames(List.of("kafka.server:type=BrokerTopicMetrics,topic=*,*"));
+    config.setIncludeAttributes(List.of("FifteenMinuteRate"));
+
+    var connection = new JmxConnection(connector, JmxMetricsFilter.create(config));
+    List<RawMetric> metrics = connection.scrape(Counter.builder("rmi_calls").register(new SimpleMeterRegistry()));
+
+    assertThat(metrics)
+        .singleElement()
+        .satisfies(m -> assertThat(m.name()).isEqualTo("kafka_server_BrokerTopicMetrics_FifteenMinuteRate"));
+    verify(msc).queryNames(new ObjectName("kafka.server:type=BrokerTopicMetrics,*"), null);
+    verify(msc, never()).getMBeanInfo(bytesInPerTopic);
+    verify(msc).getAttributes(bytesIn, new String[] {"FifteenMinuteRate"});
+  }
+
+  private static MBeanInfo mbeanInfo(String... attributes) {
+    MBeanAttributeInfo[] infos = new MBeanAttributeInfo[attributes.length];
+    for (int i = 0; i < attributes.length; i++) {
+      infos[i] = new MBeanAttributeInfo(attributes[i], "java.lang.Object", "", true, false, false);
+    }
+    return new MBeanInfo("test", "", infos, null, null, null);
+  }
+}
@@ -4,8 +4,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.google.common.base.Charsets;
 import io.prometheus.metrics.expositionformats.PrometheusTextFormatWriter;
+import io.prometheus.metrics.model.snapshots.MetricSnapshot;
 import io.prometheus.metrics.model.snapshots.MetricSnapshots;
 import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
 
@@ -128,18 +132,63 @@ class PrometheusTextFormatParserTest {
     assertParseAndSerialize(source, expected);
   }
 
+  @Test
+  void parsesTextFedInArbitraryChunks() {
+    String source = """
+        # HELP kafka_network_requestmetrics_requests_total Total number of network requests
+        # TYPE kafka_network_requestmetrics_requests_total counter
+        kafka_network_requestmetrics_requests_total{request="FetchConsumer",path="тест"} 138912.0
+        kafka_network_requestmetrics_requests_total{request="Metadata",path="тест"} 21001.0
+        # TYPE kafka_controller_kafkacontroller_activecontrollercount gauge
+        kafka_controller_kafkacontroller_activecontrollercount 1.0""";
+
+    byte[] bytes = source.getBytes(StandardCharsets.UTF_8);
+    var parser = new PrometheusTextFormatParser();
+    // 7-byte chunks split lines and multibyte chars
+    for (int i = 0; i < bytes.length; i += 7) {
+      parser.feed(ByteBuffer.wrap(bytes, i, Math.min(7, bytes.length - i)));
+    }
+
+    assertThat(serialize(parser.complete()))
+        .isEqualTo(serialize(new PrometheusTextFormatParser().parse(source)))
+        .contains("path=\"тест\"");
+  }
+
+  @Test
+  void skipsFamiliesNotAcceptedByFilter() {
+    String source = """
+        # HELP kafka_network_requestmetrics_requests_total Total number of network requests
+        # TYPE kafka_network_requestmetrics_requests_total counter
+        kafka_network_requestmetrics_requests_total{request="FetchConsumer"} 138912.0
+        # TYPE kafka_controller_kafkacontroller_activecontrollercount gauge
+        kafka_controller_kafkacontroller_activecontrollercount 1.0
+        kafka_server_some_untyped_metric{topic="orders"} 138922
+        """;
+
+    var parser = new PrometheusTextFormatParser(family -> family.startsWith("kafka_controller"));
+    var parsed = parser.parse(source);
+
+    assertThat(parsed)
+        .map(m -> m.getMetadata().getName())
+        .containsExactly("kafka_controller_kafkacontroller_activecontrollercount");
+    assertThat(parser.getSkippedDataPoints()).isEqualTo(2);
+  }
+
   private void assertParseAndSerialize(String test) {
     assertParseAndSerialize(test, test);
   }
 
-  @SneakyThrows
   private void assertParseAndSerialize(String source,
                                        String expectedSerialized) {
-    var parsedMetrics = new MetricSnapshots(new PrometheusTextFormatParser().parse(source));
+    assertThat(serialize(new PrometheusTextFormatParser().parse(source))).isEqualTo(expectedSerialized);
+  }
+
+  @SneakyThrows
+  private String serialize(List<MetricSnapshot> snapshots) {
     var baos = new ByteArrayOutputStream();
     new PrometheusTextFormatWriter(false)
-        .write(baos, parsedMetrics);
-    assertThat(baos.toString(Charsets.UTF_8)).isEqualTo(expectedSerialized);
+        .write(baos, new MetricSnapshots(snapshots));
+    return baos.toString(Charsets.UTF_8);
   }
 
 }
@@ -0,0 +1,117 @@
+package io.kafbat.ui.service.metrics.sink;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnknownFieldSet;
+import io.prometheus.metrics.model.snapshots.CounterSnapshot;
+import io.prometheus.metrics.model.snapshots.CounterSnapshot.CounterDataPointSnapshot;
+import io.prometheus.metrics.model.snapshots.GaugeSnapshot;
+import io.prometheus.metrics.model.snapshots.GaugeSnapshot.GaugeDataPointSnapshot;
+import io.prometheus.metrics.model.snapshots.Labels;
+import io.prometheus.metrics.model.snapshots.MetricSnapshot;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.xerial.snappy.Snappy;
+import reactor.core.publisher.Flux;
+
+class PrometheusRemoteWriteSinkTest {
+
+  private final MockWebServer mockWebServer = new MockWebServer();
+
+  @BeforeEach
+  void startMockServer() throws IOException {
+    mockWebServer.start();
+  }
+
+  @AfterEach
+  void stopMockServer() throws IOException {
+    mockWebServer.close();
+  }
+
+  @Test
+  void sendsBatchedScrapesAsTimeSeriesSplitBetweenRequests() throws Exception {
+    mockWebServer.enqueue(new MockResponse().setResponseCode(204));
+    mockWebServer.enqueue(new MockResponse().setResponseCode(204));
+
+    var sink = new PrometheusRemoteWriteSink(
+        WebClient.create(),
+        mockWebServer.url("/api/v1/write").uri(),
+        2,
+        1
+    );
+
+    sink.send(List.of(
+        new QueuedMetricsSink.Scrape(scrape(10, 100), 1_000),
+        new QueuedMetricsSink.Scrape(scrape(20, 200), 2_000)
+    )).block();
+
+    Map<List<String>, List<String>> received = new HashMap<>();
+    for (int i = 0; i < 2; i++) {
+      RecordedRequest request = mockWebServer.takeRequest(5, TimeUnit.SECONDS);
+      assertThat(request).isNotNull();
+      assertThat(request.getHeader("Content-Encoding")).isEqualTo("snappy");
+      assertThat(request.getHeader("Content-Type")).isEqualTo("application/x-protobuf");
+      assertThat(request.getHeader("X-Prometheus-Remote-Write-Version")).isEqualTo("0.1.0");
+      received.putAll(decode(Snappy.uncompress(request.getBody().readByteArray())));
+    }
+
+    assertThat(received)
+        .containsOnly(
+            Map.entry(
+                List.of("__name__", "kafka_bytes", "broker_id", "1"),
+                List.of("10.0@1000", "20.0@2000")),
+            Map.entry(
+                List.of("__name__", "kafka_requests_total", "broker_id", "1"),
+                List.of("100.0@1000", "200.0@2000"))
+        );
+  }
+
+  private static Flux<MetricSnapshot> scrape(double gaugeValue, double counterValue) {
+    return Flux.just(
+        GaugeSnapshot.builder()
+            .name("kafka_bytes")
+            .dataPoint(GaugeDataPointSnapshot.builder().value(gaugeValue).labels(Labels.of("broker_id", "1")).build())
+            .build(),
+        CounterSnapshot.builder()
+            .name("kafka_requests")
+            .dataPoint(
+                CounterDataPointSnapshot.builder().value(counterValue).labels(Labels.of("broker_id", "1")).build())
+            .build()
+    );
+  }
+
+  // decodes WriteRequest into labels -> ["value@timestamp"] map
+  private static Map<List<String>, List<String>> decode(byte[] writeRequest) throws IOException {
+    Map<List<String>, List<String>> result = new HashMap<>();
+    for (ByteString ts : UnknownFieldSet.parseFrom(writeRequest).getField(1).getLengthDelimitedList()) {
+      UnknownFieldSet series = UnknownFieldSet.parseFrom(ts);
+      List<String> labels = new ArrayList<>();
+      for (ByteString label : series.getField(1).getLengthDelimitedList()) {
+        UnknownFieldSet labelFields = UnknownFieldSet.parseFrom(label);
+        labels.add(labelFields.getField(1).getLengthDelimitedList().getFirst().toStringUtf8());
+        labels.add(labelFields.getField(2).getLengthDelimitedList().getFirst().toStringUtf8());
+      }
+      List<String> samples = new ArrayList<>();
+      for (ByteString sample : series.getField(2).getLengthDelimitedList()) {
+        UnknownFieldSet sampleFields = UnknownFieldSet.parseFrom(sample);
+        double value = Double.longBitsToDouble(sampleFields.getField(1).getFixed64List().getFirst());
+        long timestamp = sampleFields.getField(2).getVarintList().getFirst();
+        samples.add(value + "@" + timestamp);
+      }
+      result.put(labels, samples);
+    }
+    return result;
+  }
+}
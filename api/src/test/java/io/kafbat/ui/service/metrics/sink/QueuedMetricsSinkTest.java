@@ -0,0 +1,122 @@
+package io.kafbat.ui.service.metrics.sink;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.kafbat.ui.util.ApplicationMetrics;
+import io.prometheus.metrics.model.snapshots.GaugeSnapshot;
+import io.prometheus.metrics.model.snapshots.MetricSnapshot;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.shaded.org.awaitility.Awaitility;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class QueuedMetricsSinkTest {
+
+  private final ApplicationMetrics appMetrics = ApplicationMetrics.noop();
+  private final List<List<String>> sent = new CopyOnWriteArrayList<>();
+
+  @Test
+  void dropsOldestScrapesWhenQueueIsFullAndSendsQueuedInBatches() {
+    var firstSendStarted = new CountDownLatch(1);
+    var releaseFirstSend = new CountDownLatch(1);
+    QueuedMetricsSink.Sender slowSender = batch -> Flux.fromIterable(batch)
+        .concatMap(QueuedMetricsSink.Scrape::metrics)
+        .map(m -> m.getMetadata().getName())
+        .collectList()
+        .doOnNext(names -> {
+          sent.add(names);
+          firstSendStarted.countDown();
+          await(releaseFirstSend);
+        })
+        .then();
+
+    var sink = new QueuedMetricsSink("test", slowSender, new QueuedMetricsSink.Options(2, 2, 0, Duration.ZERO),
+        appMetrics);
+
+    sink.send(metrics("m1")).block();
+    await(firstSendStarted);
+    // worker is busy with m1, so m2 will be evicted from queue by m4
+    sink.send(metrics("m2")).block();
+    sink.send(metrics("m3")).block();
+    sink.send(metrics("m4")).block();
+    releaseFirstSend.countDown();
+
+    Awaitility.await()
+        .atMost(5, TimeUnit.SECONDS)
+        .untilAsserted(() -> assertThat(sent).containsExactly(List.of("m1"), List.of("m3", "m4")));
+    assertThat(appMetrics.metricsSinkDroppedBatches("test").count()).isEqualTo(1);
+  }
+
+  @Test
+  void retriesFailedSends() {
+    var attempts = new AtomicInteger();
+    QueuedMetricsSink.Sender flakySender = batch -> Mono.defer(() -> attempts.incrementAndGet() < 3
+        ? Mono.error(new IllegalStateException("unavailable"))
+        : batch.getFirst().metrics().map(m -> m.getMetadata().getName()).collectList().doOnNext(sent::add).then());
+
+    var sink = new QueuedMetricsSink("test", flakySender, new QueuedMetricsSink.Options(2, 2, 3, Duration.ofMillis(1)),
+        appMetrics);
+
+    sink.send(metrics("m1")).block();
+
+    Awaitility.await()
+        .atMost(5, TimeUnit.SECONDS)
+        .untilAsserted(() -> assertThat(sent).containsExactly(List.of("m1")));
+    assertThat(attempts).hasValue(3);
+    assertThat(appMetrics.metricsSinkFailedBatches("test").count()).isZero();
+  }
+
+  @Test
+  void countsFailedBatchOnceRegardlessOfItsSize() {
+    var firstSendStarted = new CountDownLatch(1);
+    var releaseFirstSend = new CountDownLatch(1);
+    QueuedMetricsSink.Sender failingSender = batch -> Mono.defer(() -> {
+      sent.add(batch.stream().map(p -> "scrape").toList());
+      firstSendStarted.countDown();
+      await(releaseFirstSend);
+      return Mono.error(new IllegalStateException("unavailable"));
+    });
+
+    var sink = new QueuedMetricsSink("test", failingSender, new QueuedMetricsSink.Options(2, 2, 0, Duration.ZERO),
+        appMetrics);
+
+    sink.send(metrics("m1")).block();
+    await(firstSendStarted);
+    sink.send(metrics("m2")).block();
+    sink.send(metrics("m3")).block();
+    releaseFirstSend.countDown();
+
+    Awaitility.await()
+        .atMost(5, TimeUnit.SECONDS)
+        .untilAsserted(() -> assertThat(appMetrics.metricsSinkFailedBatches("test").count()).isEqualTo(2));
+    assertThat(sent).containsExactly(List.of("scrape"), List.of("scrape", "scrape"));
+  }
+
+  @Test
+  void closedSinkIgnoresNewScrapes() {
+    QueuedMetricsSink.Sender sender = batch -> Mono.fromRunnable(() -> sent.add(List.of("sent")));
+    var sink = new QueuedMetricsSink("test", sender, new QueuedMetricsSink.Options(2, 2, 0, Duration.ZERO),
+        appMetrics);
+
+    sink.close();
+    sink.send(metrics("m1")).block();
+
+    assertThat(sent).isEmpty();
+  }
+
+  private static Flux<MetricSnapshot> metrics(String name) {
+    return Flux.just(GaugeSnapshot.builder().name(name).build());
+  }
+
+  @SneakyThrows
+  private static void await(CountDownLatch latch) {
+    assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+}
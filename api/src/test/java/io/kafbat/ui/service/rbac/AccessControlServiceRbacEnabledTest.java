@@ -22,6 +22,7 @@ import io.kafbat.ui.model.InternalTopic;
 import io.kafbat.ui.model.rbac.AccessContext;
 import io.kafbat.ui.model.rbac.Role;
 import java.util.List;
+import java.util.function.Function;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -206,6 +207,45 @@ class AccessControlServiceRbacEnabledTest extends AbstractIntegrationTest {
     });
   }
 
+  @Test
+  void filterViewableConsumerGroups() {
+    withSecurityContext(() -> {
+      when(user.groups()).thenReturn(List.of(DEV_ROLE));
+      Mono<List<String>> filterGroupsMono = accessControlService.filterViewableConsumerGroups(
+          List.of(CONSUMER_GROUP_NAME, "SOME OTHER CONSUMER"), Function.identity(), DEV_CLUSTER);
+      StepVerifier.create(filterGroupsMono)
+          .expectNext(List.of(CONSUMER_GROUP_NAME))
+          .expectComplete()
+          .verify();
+    });
+  }
+
+  @Test
+  void filterViewableSchemas() {
+    withSecurityContext(() -> {
+      when(user.groups()).thenReturn(List.of(DEV_ROLE));
+      Mono<List<String>> filterSchemasMono =
+          accessControlService.filterViewableSchemas(List.of("SOME OTHER SCHEMA", SCHEMA_NAME), DEV_CLUSTER);
+      StepVerifier.create(filterSchemasMono)
+          .expectNext(List.of(SCHEMA_NAME))
+          .expectComplete()
+          .verify();
+    });
+  }
+
+  @Test
+  void filterViewableSchemas_deniedCluster() {
+    withSecurityContext(() -> {
+      when(user.groups()).thenReturn(List.of(DEV_ROLE));
+      Mono<List<String>> filterSchemasMono =
+          accessControlService.filterViewableSchemas(List.of(SCHEMA_NAME), PROD_CLUSTER);
+      StepVerifier.create(filterSchemasMono)
+          .expectNextMatches(List::isEmpty)
+          .expectComplete()
+          .verify();
+    });
+  }
+
   @Test
   void isSchemaAccessible() {
     withSecurityContext(() -> {
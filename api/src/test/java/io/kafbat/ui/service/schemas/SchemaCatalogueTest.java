@@ -0,0 +1,91 @@
+package io.kafbat.ui.service.schemas;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.kafbat.ui.sr.model.Compatibility;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class SchemaCatalogueTest {
+
+  private final SchemaCatalogue catalogue = new SchemaCatalogue();
+
+  @Test
+  void tracksLatestVersionsAndIdsOfSubjects() {
+    applySchema("t1-value", 1, 10, false);
+    applySchema("t1-value", 2, 11, false);
+    applySchema("t2-value", 1, 10, false);
+    apply("{\"keytype\":\"SCHEMA\",\"subject\":\"proto\",\"version\":1,\"magic\":1}",
+        "{\"subject\":\"proto\",\"version\":1,\"id\":12,\"schemaType\":\"PROTOBUF\",\"schema\":\"syntax\","
+            + "\"references\":[{\"name\":\"ref.proto\",\"subject\":\"ref\",\"version\":3}]}");
+
+    assertThat(catalogue.subjects()).containsExactlyInAnyOrder("t1-value", "t2-value", "proto");
+    assertThat(catalogue.latestVersion("t1-value")).hasValueSatisfying(v -> {
+      assertThat(v.version()).isEqualTo(2);
+      assertThat(v.id()).isEqualTo(11);
+      assertThat(v.schemaType()).isEqualTo("AVRO");
+    });
+    assertThat(catalogue.latestVersion("proto")).hasValueSatisfying(v -> {
+      assertThat(v.schemaType()).isEqualTo("PROTOBUF");
+      assertThat(v.references()).containsExactly(new SchemaCatalogue.Reference("ref.proto", "ref", 3));
+    });
+    assertThat(catalogue.subjectsById(10)).containsExactlyInAnyOrder("t1-value", "t2-value");
+  }
+
+  @Test
+  void appliesSoftAndHardDeletions() {
+    applySchema("t1-value", 1, 10, false);
+    applySchema("t1-value", 2, 11, false);
+    applySchema("t2-value", 1, 20, false);
+
+    // soft delete of latest version
+    applySchema("t1-value", 2, 11, true);
+    assertThat(catalogue.latestVersion("t1-value")).hasValueSatisfying(v -> assertThat(v.version()).isEqualTo(1));
+    assertThat(catalogue.subjectsById(11)).isEmpty();
+
+    // subject deletion
+    apply("{\"keytype\":\"DELETE_SUBJECT\",\"subject\":\"t1-value\",\"magic\":0}",
+        "{\"subject\":\"t1-value\",\"version\":2}");
+    assertThat(catalogue.latestVersion("t1-value")).isEmpty();
+    assertThat(catalogue.subjects()).containsExactly("t2-value");
+
+    // permanent deletion (tombstone)
+    apply("{\"keytype\":\"SCHEMA\",\"subject\":\"t2-value\",\"version\":1,\"magic\":1}", null);
+    assertThat(catalogue.subjects()).isEmpty();
+    assertThat(catalogue.subjectsById(20)).isEmpty();
+  }
+
+  @Test
+  void tracksCompatibilityLevels() {
+    apply("{\"keytype\":\"CONFIG\",\"subject\":null,\"magic\":0}", "{\"compatibilityLevel\":\"FULL\"}");
+    apply("{\"keytype\":\"CONFIG\",\"subject\":\"t1-value\",\"magic\":0}", "{\"compatibilityLevel\":\"NONE\"}");
+
+    assertThat(catalogue.globalCompatibility()).contains(Compatibility.FULL);
+    assertThat(catalogue.subjectCompatibility("t1-value")).contains(Compatibility.NONE);
+
+    apply("{\"keytype\":\"CONFIG\",\"subject\":\"t1-value\",\"magic\":0}", null);
+    assertThat(catalogue.subjectCompatibility("t1-value")).isEmpty();
+  }
+
+  @Test
+  void ignoresUnknownAndMalformedRecords() {
+    assertThat(apply("{\"keytype\":\"NOOP\",\"magic\":0}", null)).isFalse();
+    assertThat(apply("not a json", "{}")).isFalse();
+    assertThat(catalogue.subjects()).isEmpty();
+  }
+
+  private void applySchema(String subject, int version, int id, boolean deleted) {
+    apply(
+        "{\"keytype\":\"SCHEMA\",\"subject\":\"%s\",\"version\":%d,\"magic\":1}".formatted(subject, version),
+        "{\"subject\":\"%s\",\"version\":%d,\"id\":%d,\"schema\":\"\\\"string\\\"\",\"deleted\":%s}"
+            .formatted(subject, version, id, deleted)
+    );
+  }
+
+  private boolean apply(String key, String value) {
+    return catalogue.apply(
+        key.getBytes(StandardCharsets.UTF_8),
+        value == null ? null : value.getBytes(StandardCharsets.UTF_8)
+    );
+  }
+}
@@ -6,6 +6,8 @@ import static org.mockito.Mockito.when;
 
 import io.kafbat.ui.model.rbac.Role;
 import io.kafbat.ui.service.rbac.AccessControlService;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import org.mockito.Mockito;
 import reactor.core.publisher.Mono;
@@ -29,6 +31,12 @@ public class AccessControlServiceMock {
     when(mock.isSchemaAccessible(anyString(), anyString())).thenReturn(Mono.just(true));
 
     when(mock.filterViewableTopics(any(), any())).then(invocation -> Mono.just(invocation.getArgument(0)));
+    when(mock.filterViewableConsumerGroups(any(), any(), any()))
+        .then(invocation -> Mono.just(new ArrayList<>(invocation.<Collection<?>>getArgument(0))));
+    when(mock.filterViewableSchemas(any(), any()))
+        .then(invocation -> Mono.just(new ArrayList<>(invocation.<Collection<?>>getArgument(0))));
+    when(mock.filterViewableConnectors(any(), any(), any(), any()))
+        .then(invocation -> Mono.just(new ArrayList<>(invocation.<Collection<?>>getArgument(0))));
     when(mock.getRoles()).thenReturn(roles);
 
     return mock;
@@ -0,0 +1,93 @@
+package io.kafbat.ui.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.kafbat.ui.exception.ServiceUnavailableException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class CallGuardTest {
+
+  private final AtomicLong clock = new AtomicLong();
+
+  @Test
+  void limiterQueuesCallsExceedingLimitAndRejectsWhenQueueIsFull() {
+    var limiter = new AdaptiveConcurrencyLimiter(
+        new AdaptiveConcurrencyLimiter.Options(1, 1, 10, 0.9, 2.0, 1), clock::get);
+    Sinks.One<String> first = Sinks.one();
+
+    var firstCall = limiter.mono(first.asMono(), th -> false).toFuture();
+    var queuedCall = limiter.mono(Mono.just("second"), th -> false).toFuture();
+    assertThat(limiter.getInFlight()).isEqualTo(1);
+    assertThat(limiter.getQueueSize()).isEqualTo(1);
+    assertThat(queuedCall).isNotDone();
+
+    StepVerifier.create(limiter.mono(Mono.just("third"), th -> false))
+        .verifyError(ServiceUnavailableException.class);
+
+    first.tryEmitValue("first");
+    assertThat(firstCall).isCompletedWithValue("first");
+    assertThat(queuedCall).isCompletedWithValue("second");
+    assertThat(limiter.getInFlight()).isZero();
+    assertThat(limiter.getQueueSize()).isZero();
+  }
+
+  @Test
+  void limiterDecreasesLimitOnOverloadAndIncreasesWhenUtilized() {
+    var limiter = new AdaptiveConcurrencyLimiter(
+        new AdaptiveConcurrencyLimiter.Options(10, 2, 20, 0.5, 2.0, 100), clock::get);
+
+    clock.addAndGet(1_000);
+    limiter.mono(Mono.error(new IllegalStateException()), th -> true).onErrorComplete().block();
+    assertThat(limiter.getLimit()).isEqualTo(5);
+
+    // limit grows while fully utilized
+    for (int round = 0; round < 5; round++) {
+      Sinks.One<String> calls = Sinks.one();
+      for (int i = 0; i < limiter.getLimit(); i++) {
+        limiter.mono(calls.asMono(), th -> false).subscribe();
+      }
+      calls.tryEmitValue("done");
+    }
+    assertThat(limiter.getLimit()).isBetween(6, 20);
+    assertThat(limiter.getInFlight()).isZero();
+  }
+
+  @Test
+  void circuitBreakerOpensOnFailuresAndClosesAfterSuccessfulProbes() {
+    var circuitBreaker = new CircuitBreaker(
+        new CircuitBreaker.Options(4, 4, 0.5, Duration.ofSeconds(10), 2), clock::get);
+    var guard = new CallGuard(
+        "test service",
+        new AdaptiveConcurrencyLimiter(AdaptiveConcurrencyLimiter.Options.DEFAULT),
+        circuitBreaker,
+        ApplicationMetrics.noop(),
+        "test",
+        "http://localhost:8080"
+    );
+    var unavailable = Mono.<String>error(WebClientResponseException.create(503, "Unavailable", null, null, null));
+    var notFound = Mono.<String>error(WebClientResponseException.create(404, "Not Found", null, null, null));
+
+    // client errors don't count as service failures
+    for (int i = 0; i < 4; i++) {
+      StepVerifier.create(guard.mono(notFound)).verifyError(WebClientResponseException.NotFound.class);
+    }
+    assertThat(guard.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+    StepVerifier.create(guard.mono(unavailable)).verifyError(WebClientResponseException.class);
+    StepVerifier.create(guard.mono(unavailable)).verifyError(WebClientResponseException.class);
+    assertThat(guard.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+    StepVerifier.create(guard.mono(Mono.just("ok"))).verifyError(ServiceUnavailableException.class);
+
+    clock.addAndGet(10_000);
+    assertThat(guard.getCircuitState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+    StepVerifier.create(guard.mono(Mono.just("ok"))).expectNext("ok").verifyComplete();
+    StepVerifier.create(guard.mono(Mono.just("ok"))).expectNext("ok").verifyComplete();
+    assertThat(guard.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+  }
+}
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.google.common.base.Preconditions;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -178,6 +179,117 @@ class ReactiveFailoverTest {
     );
   }
 
+  @Test
+  void latencyAwareRoutingPrefersFastestPublisher() {
+    var latencyAware = failover.withLatencyAwareRouting();
+    Map<Publisher, Duration> delays = Map.of(
+        publishers.get(0), Duration.ofMillis(60),
+        publishers.get(1), Duration.ofMillis(5),
+        publishers.get(2), Duration.ofMillis(30)
+    );
+    List<Publisher> called = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      latencyAware.mono(p -> {
+        called.add(p);
+        return Mono.just("ok").delayElement(delays.get(p));
+      }).block();
+    }
+    // every publisher is measured first, then the fastest one is used
+    assertThat(called).containsExactly(
+        publishers.get(0), publishers.get(1), publishers.get(2), publishers.get(1), publishers.get(1));
+  }
+
+  @Test
+  void hedgedMonoCallsNextPublisherWhenFirstIsSlow() {
+    // no hedging until enough latency samples collected
+    collectLatencySamples(failover, "op");
+    StepVerifier.create(
+            failover.hedgedMono("op", p -> p == publishers.get(0) ? Mono.never() : Mono.just("hedged")))
+        .expectNext("hedged")
+        .expectComplete()
+        .verify(Duration.ofSeconds(5));
+  }
+
+  @Test
+  void hedgedMonoUsesLatencySamplesOfSameOperation() {
+    collectLatencySamples(failover, "fastOp");
+    StepVerifier.create(
+            failover.hedgedMono("slowOp", p -> p == publishers.get(0)
+                ? Mono.just("primary").delayElement(Duration.ofMillis(200))
+                : Mono.just("hedged")))
+        .expectNext("primary")
+        .verifyComplete();
+  }
+
+  @Test
+  void hedgedMonoDoesNotHedgeToPublishersWithOpenCircuit() {
+    var unavailable = new IllegalStateException("fail!");
+    var circuitBreakers = Stream.generate(() -> new CircuitBreaker(
+            new CircuitBreaker.Options(1, 1, 0.5, Duration.ofMinutes(1), 1)))
+        .limit(publishers.size())
+        .toList();
+    var guarded = ReactiveFailover.<Publisher, Publisher>create(
+        publishers,
+        p -> p,
+        p -> new CallGuard("test", new AdaptiveConcurrencyLimiter(AdaptiveConcurrencyLimiter.Options.DEFAULT),
+            circuitBreakers.get(publishers.indexOf(p)), ApplicationMetrics.noop(), "test", "http://localhost"),
+        th -> false,
+        NO_AVAILABLE_PUBLISHERS_MSG,
+        RETRY_PERIOD
+    );
+    collectLatencySamples(guarded, "op");
+    circuitBreakers.subList(1, publishers.size()).forEach(CircuitBreaker::onFailure);
+
+    AtomicInteger hedgedCalls = new AtomicInteger();
+    StepVerifier.create(
+            guarded.hedgedMono("op", p -> {
+              if (p == publishers.get(0)) {
+                return Mono.just("primary").delayElement(Duration.ofMillis(200));
+              }
+              hedgedCalls.incrementAndGet();
+              return Mono.error(unavailable);
+            }))
+        .expectNext("primary")
+        .verifyComplete();
+    assertThat(hedgedCalls).hasValue(0);
+  }
+
+  @Test
+  void hedgedMonoReturnsPrimaryErrorResponse() {
+    var responseDelay = Duration.ofMillis(200);
+    collectLatencySamples(failover, "op");
+    StepVerifier.create(
+            failover.hedgedMono("op", p -> p == publishers.get(0)
+                ? Mono.<String>error(new IllegalArgumentException("not found")).delaySubscription(responseDelay)
+                : Mono.never()))
+        .expectErrorMessage("not found")
+        .verify(Duration.ofSeconds(5));
+  }
+
+  @Test
+  void hedgeRateStaysNearPercentileWhenLatenciesAreStable() {
+    int requests = 300;
+    AtomicInteger hedgedCalls = new AtomicInteger();
+    for (int i = 0; i < requests; i++) {
+      // latencies are spread uniformly between 1 and 20 ms
+      var latency = Duration.ofMillis(1 + (i * 37L) % 20);
+      failover.hedgedMono("op", p -> {
+        if (p != publishers.get(0)) {
+          hedgedCalls.incrementAndGet();
+        }
+        return Mono.just("ok").delayElement(latency);
+      }).block(Duration.ofSeconds(5));
+    }
+    // cancelled slow calls are still sampled, so hedging delay does not degrade towards median
+    assertThat((double) hedgedCalls.get() / requests).isLessThan(0.15);
+  }
+
+  private void collectLatencySamples(ReactiveFailover<Publisher> failover, String operation) {
+    for (int i = 0; i < 20; i++) {
+      StepVerifier.create(failover.hedgedMono(operation, p -> okMono())).expectNext("ok").verifyComplete();
+    }
+  }
+
   private void monoCheck(Map<Integer, Mono<String>> mock,
                          List<Integer> publishersToBeCalled, // for checking calls order
                          Consumer<StepVerifier.Step<?>> stepVerifier) {
@@ -0,0 +1,229 @@
+package io.kafbat.ui.benchmarks;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.kafbat.ui.serde.api.Serde;
+import io.kafbat.ui.serdes.PropertyResolverImpl;
+import io.kafbat.ui.serdes.builtin.AvroEmbeddedSerde;
+import io.kafbat.ui.serdes.builtin.MessagePackSerde;
+import io.kafbat.ui.serdes.builtin.ProtobufRawSerde;
+import io.kafbat.ui.serdes.builtin.StringSerde;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.Supplier;
+import org.apache.avro.Schema;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.apache.kafka.common.utils.Bytes;
+import org.msgpack.core.MessageBufferPacker;
+import org.msgpack.core.MessagePack;
+
+/**
+ * Generates deterministic batches of raw records, as they are returned by consumer, for benchmarks.
+ * Every record describes the same synthetic "user" entity, encoded in one of supported {@link Format}s.
+ */
+public final class SyntheticRecords {
+
+  public static final String TOPIC = "benchmark-topic";
+
+  private static final String[] CITIES = {"Amsterdam", "Berlin", "Lisbon", "Oslo", "Prague", "Tallinn", "Vienna"};
+
+  private static final Schema AVRO_SCHEMA = new Schema.Parser().parse("""
+      {
+        "type": "record",
+        "name": "User",
+        "fields": [
+          { "name": "id", "type": "long" },
+          { "name": "name", "type": "string" },
+          { "name": "email", "type": "string" },
+          { "name": "city", "type": "string" },
+          { "name": "score", "type": "double" },
+          { "name": "active", "type": "boolean" }
+        ]
+      }
+      """);
+
+  public enum Format {
+    STRING(StringSerde::new),
+    JSON(StringSerde::new),
+    AVRO(AvroEmbeddedSerde::new),
+    PROTOBUF(ProtobufRawSerde::new),
+    MSGPACK(MessagePackSerde::new);
+
+    private final Supplier<Serde> serdeSupplier;
+
+    Format(Supplier<Serde> serdeSupplier) {
+      this.serdeSupplier = serdeSupplier;
+    }
+
+    public Serde createSerde() {
+      Serde serde = serdeSupplier.get();
+      serde.configure(PropertyResolverImpl.empty(), PropertyResolverImpl.empty(), PropertyResolverImpl.empty());
+      return serde;
+    }
+  }
+
+  private SyntheticRecords() {
+  }
+
+  /**
+   * Generates records evenly distributed across partitions. Offsets are increasing within partition,
+   * timestamps are shuffled a bit to make records from different partitions interleave.
+   */
+  public static List<ConsumerRecord<Bytes, Bytes>> generate(Format format, int count, int partitions) {
+    var random = new Random(42);
+    long baseTs = 1_700_000_000_000L;
+    List<ConsumerRecord<Bytes, Bytes>> records = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      int partition = i % partitions;
+      long offset = i / partitions;
+      var headers = new RecordHeaders();
+      headers.add("traceId", ("trace-" + i).getBytes(UTF_8));
+      headers.add("source", "benchmark".getBytes(UTF_8));
+      records.add(
+          new ConsumerRecord<>(
+              TOPIC,
+              partition,
+              offset,
+              baseTs + i * 10L + random.nextInt(100),
+              TimestampType.CREATE_TIME,
+              -1,
+              -1,
+              new Bytes(("user-" + i).getBytes(UTF_8)),
+              new Bytes(encode(format, i)),
+              headers,
+              Optional.empty()
+          )
+      );
+    }
+    return records;
+  }
+
+  public static byte[] encode(Format format, int id) {
+    return switch (format) {
+      case STRING -> "User %d (%s) from %s has score %.2f"
+          .formatted(id, email(id), city(id), score(id))
+          .getBytes(UTF_8);
+      case JSON -> json(id).getBytes(UTF_8);
+      case AVRO -> avro(id);
+      case PROTOBUF -> protobuf(id);
+      case MSGPACK -> msgpack(id);
+    };
+  }
+
+  public static String json(int id) {
+    return """
+        {"id":%d,"name":"%s","email":"%s","address":{"city":"%s","zip":"%05d"},"score":%s,"active":%s,\
+        "tags":["tag-%d","tag-%d"],"comment":null}"""
+        .formatted(id, name(id), email(id), city(id), id % 100_000, score(id), active(id), id % 10, id % 7);
+  }
+
+  private static byte[] avro(int id) {
+    GenericRecord rec = new GenericData.Record(AVRO_SCHEMA);
+    rec.put("id", (long) id);
+    rec.put("name", name(id));
+    rec.put("email", email(id));
+    rec.put("city", city(id));
+    rec.put("score", score(id));
+    rec.put("active", active(id));
+    var out = new ByteArrayOutputStream();
+    try (var writer = new DataFileWriter<GenericRecord>(new GenericDatumWriter<>(AVRO_SCHEMA))) {
+      writer.create(AVRO_SCHEMA, out);
+      writer.append(rec);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return out.toByteArray();
+  }
+
+  // encoded by hand to avoid dependency on generated protobuf classes, raw serde doesn't need a schema anyway
+  private static byte[] protobuf(int id) {
+    var address = new ByteArrayOutputStream();
+    writeProtoString(address, 1, city(id));
+    writeProtoString(address, 2, "%05d".formatted(id % 100_000));
+
+    var out = new ByteArrayOutputStream();
+    writeProtoTag(out, 1, 0);
+    writeProtoVarint(out, id);
+    writeProtoString(out, 2, name(id));
+    writeProtoString(out, 3, email(id));
+    writeProtoBytes(out, 4, address.toByteArray());
+    writeProtoTag(out, 5, 1);
+    long scoreBits = Double.doubleToLongBits(score(id));
+    for (int i = 0; i < 8; i++) {
+      out.write((int) (scoreBits >>> (8 * i)) & 0xFF);
+    }
+    writeProtoTag(out, 6, 0);
+    writeProtoVarint(out, active(id) ? 1 : 0);
+    return out.toByteArray();
+  }
+
+  private static void writeProtoString(ByteArrayOutputStream out, int field, String value) {
+    writeProtoBytes(out, field, value.getBytes(UTF_8));
+  }
+
+  private static void writeProtoBytes(ByteArrayOutputStream out, int field, byte[] bytes) {
+    writeProtoTag(out, field, 2);
+    writeProtoVarint(out, bytes.length);
+    out.writeBytes(bytes);
+  }
+
+  private static void writeProtoTag(ByteArrayOutputStream out, int field, int wireType) {
+    writeProtoVarint(out, ((long) field << 3) | wireType);
+  }
+
+  private static void writeProtoVarint(ByteArrayOutputStream out, long value) {
+    while ((value & ~0x7FL) != 0) {
+      out.write((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.write((int) value);
+  }
+
+  private static byte[] msgpack(int id) {
+    try (MessageBufferPacker packer = MessagePack.newDefaultBufferPacker()) {
+      packer.packMapHeader(6);
+      packer.packString("id").packLong(id);
+      packer.packString("name").packString(name(id));
+      packer.packString("email").packString(email(id));
+      packer.packString("address").packMapHeader(2)
+          .packString("city").packString(city(id))
+          .packString("zip").packString("%05d".formatted(id % 100_000));
+      packer.packString("score").packDouble(score(id));
+      packer.packString("active").packBoolean(active(id));
+      return packer.toByteArray();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static String name(int id) {
+    return "User Name " + id;
+  }
+
+  private static String email(int id) {
+    return "user" + id + "@example.com";
+  }
+
+  public static String city(int id) {
+    return CITIES[id % CITIES.length];
+  }
+
+  private static double score(int id) {
+    return (id % 1000) / 10.0;
+  }
+
+  private static boolean active(int id) {
+    return id % 3 != 0;
+  }
+}
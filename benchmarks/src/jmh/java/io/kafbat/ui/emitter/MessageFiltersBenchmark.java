@@ -0,0 +1,97 @@
+package io.kafbat.ui.emitter;
+
+import io.kafbat.ui.benchmarks.SyntheticRecords;
+import io.kafbat.ui.model.TopicMessageDTO;
+import io.kafbat.ui.serde.api.Serde;
+import io.kafbat.ui.serdes.ConsumerRecordDeserializer;
+import io.kafbat.ui.serdes.builtin.StringSerde;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.utils.Bytes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Filters applied to a batch of JSON messages. {@code deserializeAndTest} reproduces what
+ * {@link MessagesProcessing} does for every polled record: raw record check, deserialization and filtering.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MessageFiltersBenchmark {
+
+  private static final int RECORDS_COUNT = 1000;
+
+  @Param({
+      "CONTAINS_STRING",
+      "CEL_VALUE_FIELD",
+      "CEL_VALUE_AS_TEXT",
+      "CEL_PARTITION_AND_HEADERS"
+  })
+  FilterType filterType;
+
+  List<ConsumerRecord<Bytes, Bytes>> records;
+  List<TopicMessageDTO> messages;
+  ConsumerRecordDeserializer deserializer;
+  StagedMessageFilter filter;
+
+  public enum FilterType {
+    CONTAINS_STRING,
+    CEL_VALUE_FIELD,
+    CEL_VALUE_AS_TEXT,
+    CEL_PARTITION_AND_HEADERS;
+
+    StagedMessageFilter create() {
+      String city = SyntheticRecords.city(3);
+      return switch (this) {
+        case CONTAINS_STRING -> MessageFilters.containsStringFilter(city);
+        case CEL_VALUE_FIELD -> MessageFilters.celScriptFilter(
+            "has(record.value.address) && record.value.address.city == '%s'".formatted(city));
+        case CEL_VALUE_AS_TEXT -> MessageFilters.celScriptFilter(
+            "record.valueAsText.contains('%s')".formatted(city));
+        case CEL_PARTITION_AND_HEADERS -> MessageFilters.celScriptFilter(
+            "record.partition == 1 && record.headers['source'] == 'benchmark'");
+      };
+    }
+  }
+
+  @Setup
+  public void setup() {
+    records = SyntheticRecords.generate(SyntheticRecords.Format.JSON, RECORDS_COUNT, 4);
+    Serde serde = SyntheticRecords.Format.JSON.createSerde();
+    var keyDeserializer = serde.deserializer(SyntheticRecords.TOPIC, Serde.Target.KEY);
+    var valueDeserializer = serde.deserializer(SyntheticRecords.TOPIC, Serde.Target.VALUE);
+    deserializer = new ConsumerRecordDeserializer(
+        StringSerde.NAME, keyDeserializer,
+        StringSerde.NAME, valueDeserializer,
+        StringSerde.NAME, keyDeserializer, valueDeserializer,
+        msg -> msg,
+        true,
+        true
+    );
+    messages = records.stream().map(deserializer::deserialize).toList();
+    filter = filterType.create();
+  }
+
+  @Benchmark
+  public void test(Blackhole bh) {
+    for (TopicMessageDTO msg : messages) {
+      bh.consume(filter.test(msg));
+    }
+  }
+
+  @Benchmark
+  public void deserializeAndTest(Blackhole bh) {
+    for (ConsumerRecord<Bytes, Bytes> rec : records) {
+      bh.consume(filter.mayMatch(rec, deserializer) && filter.test(deserializer.deserialize(rec)));
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package io.kafbat.ui.emitter;
+
+import io.kafbat.ui.benchmarks.SyntheticRecords;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.utils.Bytes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MessagesProcessingBenchmark {
+
+  @Param({"100", "1000", "10000"})
+  int recordsCount;
+
+  @Param({"1", "16"})
+  int partitions;
+
+  @Param({"true", "false"})
+  boolean ascending;
+
+  List<ConsumerRecord<Bytes, Bytes>> records;
+
+  @Setup
+  public void setup() {
+    records = SyntheticRecords.generate(SyntheticRecords.Format.STRING, recordsCount, partitions);
+  }
+
+  @Benchmark
+  public void sortForSending(Blackhole bh) {
+    for (ConsumerRecord<Bytes, Bytes> rec : MessagesProcessing.sortForSending(records, ascending)) {
+      bh.consume(rec);
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package io.kafbat.ui.serdes;
+
+import io.kafbat.ui.benchmarks.SyntheticRecords;
+import io.kafbat.ui.serde.api.Serde;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Single payload deserialization by built-in serdes, without any record-level overhead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BuiltInSerdesBenchmark {
+
+  @Param
+  SyntheticRecords.Format format;
+
+  Serde.Deserializer deserializer;
+  RecordHeadersImpl headers;
+  byte[] payload;
+
+  @Setup
+  public void setup() {
+    deserializer = format.createSerde().deserializer(SyntheticRecords.TOPIC, Serde.Target.VALUE);
+    headers = new RecordHeadersImpl();
+    payload = SyntheticRecords.encode(format, 12345);
+  }
+
+  @Benchmark
+  public Object deserialize() {
+    return deserializer.deserialize(headers, payload);
+  }
+}
@@ -0,0 +1,61 @@
+package io.kafbat.ui.serdes;
+
+import io.kafbat.ui.benchmarks.SyntheticRecords;
+import io.kafbat.ui.serde.api.Serde;
+import io.kafbat.ui.serdes.builtin.StringSerde;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.utils.Bytes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Full deserialization of polled batch: key, value and headers conversion to
+ * {@link io.kafbat.ui.model.TopicMessageDTO}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConsumerRecordDeserializerBenchmark {
+
+  @Param
+  SyntheticRecords.Format format;
+
+  @Param({"100", "1000"})
+  int recordsCount;
+
+  List<ConsumerRecord<Bytes, Bytes>> records;
+  ConsumerRecordDeserializer deserializer;
+
+  @Setup
+  public void setup() {
+    records = SyntheticRecords.generate(format, recordsCount, 4);
+    Serde keySerde = SyntheticRecords.Format.STRING.createSerde();
+    Serde valueSerde = format.createSerde();
+    deserializer = new ConsumerRecordDeserializer(
+        StringSerde.NAME,
+        keySerde.deserializer(SyntheticRecords.TOPIC, Serde.Target.KEY),
+        format.name(),
+        valueSerde.deserializer(SyntheticRecords.TOPIC, Serde.Target.VALUE),
+        StringSerde.NAME,
+        keySerde.deserializer(SyntheticRecords.TOPIC, Serde.Target.KEY),
+        keySerde.deserializer(SyntheticRecords.TOPIC, Serde.Target.VALUE),
+        msg -> msg
+    );
+  }
+
+  @Benchmark
+  public void deserialize(Blackhole bh) {
+    for (ConsumerRecord<Bytes, Bytes> rec : records) {
+      bh.consume(deserializer.deserialize(rec));
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package io.kafbat.ui.service.masking;
+
+import io.kafbat.ui.benchmarks.SyntheticRecords;
+import io.kafbat.ui.config.ClustersProperties;
+import io.kafbat.ui.serde.api.Serde;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DataMaskingBenchmark {
+
+  private static final int MESSAGES_COUNT = 1000;
+
+  @Param
+  ClustersProperties.Masking.Type maskingType;
+
+  @Param({"true", "false"})
+  boolean jsonValues;
+
+  List<String> values;
+  UnaryOperator<String> maskingFunction;
+
+  @Setup
+  public void setup() {
+    var masking = new ClustersProperties.Masking();
+    masking.setType(maskingType);
+    masking.setFields(List.of("email", "city"));
+    masking.setTopicValuesPattern(SyntheticRecords.TOPIC);
+    maskingFunction = DataMasking.create(List.of(masking))
+        .getMaskingFunction(SyntheticRecords.TOPIC, Serde.Target.VALUE);
+    values = IntStream.range(0, MESSAGES_COUNT)
+        .mapToObj(i -> jsonValues ? SyntheticRecords.json(i) : "plain text value " + i)
+        .toList();
+  }
+
+  @Benchmark
+  public void mask(Blackhole bh) {
+    for (String value : values) {
+      bh.consume(maskingFunction.apply(value));
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package io.kafbat.ui.service.metrics.scrape.prometheus;
+
+import io.prometheus.metrics.model.snapshots.MetricSnapshot;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares regex-based parsing of the whole response string with streaming parsing of response chunks.
+ * Run with "-prof gc" to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PrometheusTextFormatParserBenchmark {
+
+  // close to netty's response chunks
+  private static final int CHUNK_SIZE = 64 * 1024;
+  private static final int PARTITIONS_PER_TOPIC = 3;
+
+  @Param({"1000", "10000"})
+  int topics;
+
+  byte[] body;
+  List<byte[]> chunks;
+
+  @Setup
+  public void setup() {
+    body = generateBrokerMetrics(topics).getBytes(StandardCharsets.UTF_8);
+    chunks = new ArrayList<>();
+    for (int i = 0; i < body.length; i += CHUNK_SIZE) {
+      chunks.add(Arrays.copyOfRange(body, i, Math.min(body.length, i + CHUNK_SIZE)));
+    }
+  }
+
+  @Benchmark
+  public List<MetricSnapshot> regexParser() {
+    // body had to be aggregated into single string before parsing
+    return new RegexPrometheusTextFormatParser().parse(new String(body, StandardCharsets.UTF_8));
+  }
+
+  @Benchmark
+  public List<MetricSnapshot> streamingParser() {
+    return parseChunks(new PrometheusTextFormatParser());
+  }
+
+  @Benchmark
+  public List<MetricSnapshot> streamingParserWithFamiliesFilter() {
+    return parseChunks(new PrometheusTextFormatParser(family -> family.contains("brokertopicmetrics")));
+  }
+
+  private List<MetricSnapshot> parseChunks(PrometheusTextFormatParser parser) {
+    for (byte[] chunk : chunks) {
+      parser.feed(ByteBuffer.wrap(chunk));
+    }
+    return parser.complete();
+  }
+
+  // mimics jmx_exporter output with per-topic and per-partition metrics
+  private static String generateBrokerMetrics(int topics) {
+    var sb = new StringBuilder();
+    for (String rate : List.of("bytesin", "bytesout", "messagesin")) {
+      String family = "kafka_server_brokertopicmetrics_" + rate + "_total";
+      sb.append("# HELP ").append(family).append(" Attribute exposed for management\n");
+      sb.append("# TYPE ").append(family).append(" counter\n");
+      for (int t = 0; t < topics; t++) {
+        sb.append(family).append("{topic=\"topic-").append(t).append("\",} ").append(t * 1234.5).append('\n');
+      }
+    }
+    for (String gauge : List.of("kafka_log_log_size", "kafka_log_log_logendoffset", "kafka_log_log_numlogsegments")) {
+      sb.append("# HELP ").append(gauge).append(" Attribute exposed for management\n");
+      sb.append("# TYPE ").append(gauge).append(" gauge\n");
+      for (int t = 0; t < topics; t++) {
+        for (int p = 0; p < PARTITIONS_PER_TOPIC; p++) {
+          sb.append(gauge)
+              .append("{topic=\"topic-").append(t).append("\",partition=\"").append(p).append("\",} ")
+              .append(t * 100.0 + p).append('\n');
+        }
+      }
+    }
+    String summary = "kafka_network_requestmetrics_totaltimems";
+    sb.append("# TYPE ").append(summary).append(" summary\n");
+    for (String request : List.of("Produce", "FetchConsumer", "FetchFollower", "Metadata")) {
+      for (String quantile : List.of("0.5", "0.95", "0.99")) {
+        sb.append(summary).append("{request=\"").append(request).append("\",quantile=\"").append(quantile)
+            .append("\",} 1.5\n");
+      }
+      sb.append(summary).append("_count{request=\"").append(request).append("\",} 100.0\n");
+      sb.append(summary).append("_sum{request=\"").append(request).append("\",} 150.0\n");
+    }
+    return sb.toString();
+  }
+}